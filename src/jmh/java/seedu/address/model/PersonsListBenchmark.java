@@ -0,0 +1,113 @@
+package seedu.address.model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.reservation.Name;
+import seedu.address.model.reservation.Person;
+import seedu.address.model.reservation.Phone;
+
+/**
+ * Measures looking up and recording customers in {@code PersonsList}, which keys them by phone number, against the
+ * linear scan it replaced.
+ * The list is kept in a file in a temporary folder, so that running the benchmark never touches the user's data.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonsListBenchmark {
+
+    @Param({"50000"})
+    private int customerCount;
+
+    private Path folder;
+    private PersonsList personsList;
+    private ArrayList<Person> scanList;
+    private Phone[] phones;
+    private int next;
+
+    /**
+     * Fills a file-backed {@code PersonsList} with {@code customerCount} customers, each with one booking.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("personslist");
+        personsList = new PersonsList(folder.resolve("personslist.json"));
+        phones = new Phone[customerCount];
+        for (int i = 0; i < customerCount; i++) {
+            phones[i] = new Phone(String.format("9%07d", i));
+            personsList.recordBooking(new Name("Customer " + i), phones[i]);
+        }
+        personsList.flush();
+        scanList = personsList.getPersonsList();
+    }
+
+    /**
+     * Writes out any pending changes, then deletes the folder the list was kept in.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        personsList.flush();
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(folder);
+    }
+
+    private Phone nextPhone() {
+        next = (next + 7919) % customerCount;
+        return phones[next];
+    }
+
+    @Benchmark
+    public Person getPerson_phoneIndex() {
+        return personsList.getPerson(nextPhone());
+    }
+
+    /**
+     * Looks up a customer the way {@code PersonsList} did before it was keyed by phone.
+     */
+    @Benchmark
+    public Person getPerson_linearScan() {
+        Phone phone = nextPhone();
+        for (Person p : scanList) {
+            if (p.getPhone().value.equals(phone.value)) {
+                return p;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records another booking for an existing customer, which also schedules a write of the list.
+     */
+    @Benchmark
+    public Person recordBooking_phoneIndex() {
+        Phone phone = nextPhone();
+        return personsList.recordBooking(personsList.getPerson(phone).getName(), phone);
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.model.reservation;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares fuzzy name searches through the trigram index of {@code ReservationNameIndex} against testing every
+ * reservation with {@code NameContainsKeywordsPredicate}.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameSearchBenchmark {
+
+    private static final String[] SYLLABLES = {"a", "an", "be", "cha", "da", "el", "fi", "go", "han", "i", "jo",
+        "ka", "li", "ma", "ne", "o", "pa", "ri", "sa", "ta", "u", "vi", "wen", "xi", "ya", "zo"};
+    private static final int QUERY_COUNT = 256;
+
+    @Param({"100000"})
+    private int reservationCount;
+
+    private ReservationNameIndex nameIndex;
+    private List<Reservation> reservations;
+    private List<List<String>> queries;
+    private int next;
+
+    /**
+     * Indexes {@code reservationCount} reservations under made-up two-word names, and prepares fuzzy searches
+     * for mistyped words taken from those names.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(21);
+        nameIndex = new ReservationNameIndex();
+        reservations = new ArrayList<>(reservationCount);
+        StartDate date = StartDate.ofEpochDay(LocalDate.now().toEpochDay());
+        StartTime time = new StartTime("1800");
+        for (int i = 0; i < reservationCount; i++) {
+            Phone phone = new Phone(String.valueOf(80000000 + i));
+            Reservation reservation = new Reservation(new Name(makeWord(random) + " " + makeWord(random)), phone,
+                    date, time, new Duration("2"), new Pax("2"), new Table("A1"), new Remark(""), Set.of(),
+                    new Identification(date, phone, time), false);
+            reservations.add(reservation);
+            nameIndex.add(reservation, i);
+        }
+
+        queries = new ArrayList<>(QUERY_COUNT);
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            String word = reservations.get(random.nextInt(reservationCount)).getName().getFullName().split(" ")[0];
+            int typo = random.nextInt(word.length());
+            String mistyped = word.substring(0, typo) + "q" + word.substring(typo + 1);
+            queries.add(List.of(NameContainsKeywordsPredicate.FUZZY_MARKER + mistyped));
+        }
+    }
+
+    private static String makeWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int syllableCount = 2 + random.nextInt(3);
+        for (int i = 0; i < syllableCount; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        word.setCharAt(0, Character.toUpperCase(word.charAt(0)));
+        return word.toString();
+    }
+
+    private List<String> nextQuery() {
+        next = (next + 1) % QUERY_COUNT;
+        return queries.get(next);
+    }
+
+    @Benchmark
+    public List<Reservation> fuzzy_index() {
+        return nameIndex.findMatching(nextQuery());
+    }
+
+    /**
+     * Tests every reservation against the fuzzy search, as {@code findn} would without the index.
+     */
+    @Benchmark
+    public long fuzzy_scan() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(nextQuery());
+        return reservations.stream().filter(predicate).count();
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.storage;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.reservation.StartDate;
+import seedu.address.model.reservation.StartTime;
+
+/**
+ * Generates the reservations shared by the storage benchmarks.
+ */
+final class BenchmarkReservations {
+
+    private BenchmarkReservations() {}
+
+    /**
+     * Returns {@code count} valid reservations with distinct ids, spread over past days a thousand to a day, as
+     * they would be read from the JSON file.
+     */
+    static List<JsonAdaptedReservation> generate(int count) {
+        long today = LocalDate.now().toEpochDay();
+        List<JsonAdaptedReservation> jsonAdaptedReservations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String date = StartDate.ofEpochDay(today - i / 1000).value;
+            String phone = String.valueOf(80000000 + i % 1000);
+            String time = StartTime.ofMinuteOfDay(i % 144 * 10).value;
+            jsonAdaptedReservations.add(new JsonAdaptedReservation("Guest " + i, phone, date, time, "1.5", "4",
+                    "A" + (i % 40 + 1), "", List.of(new JsonAdaptedTag("regular")),
+                    date.replace("/", "") + phone.substring(4) + time, false));
+        }
+        return jsonAdaptedReservations;
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.storage;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.GastroBook;
+
+/**
+ * Compares converting the reservations read from the JSON file into a {@code GastroBook} on one thread against
+ * converting them on all cores.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class GastroBookLoadBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int reservationCount;
+
+    private List<JsonAdaptedReservation> jsonAdaptedReservations;
+
+    /**
+     * Creates {@code reservationCount} valid reservations with distinct ids, spread over past days, as they would
+     * be read from the JSON file.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        jsonAdaptedReservations = BenchmarkReservations.generate(reservationCount);
+    }
+
+    /**
+     * Converts the reservations one after another, as loading did before.
+     */
+    @Benchmark
+    public GastroBook load_serial() throws IllegalValueException {
+        return JsonSerializableGastroBook.toGastroBook(
+                JsonSerializableGastroBook.convertAll(jsonAdaptedReservations, false));
+    }
+
+    /**
+     * Converts the reservations on all cores.
+     */
+    @Benchmark
+    public GastroBook load_parallel() throws IllegalValueException {
+        return JsonSerializableGastroBook.toGastroBook(
+                JsonSerializableGastroBook.convertAll(jsonAdaptedReservations, true));
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.GastroBook;
+
+/**
+ * Compares saving the GastroBook JSON file indented, as it always was, against saving it compact.
+ * The {@code save_} benchmarks write the file as a save does, which includes forcing it to the disk; the
+ * {@code serialize_} ones write the same bytes to a stream that discards them, to show the write itself.
+ * The size of each file written is printed once the benchmark is done with it.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class GastroBookSaveBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int reservationCount;
+
+    private Path folder;
+    private GastroBook gastroBook;
+
+    /**
+     * Creates a book of {@code reservationCount} reservations with distinct ids, spread over past days.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, IllegalValueException {
+        folder = Files.createTempDirectory("gastrobook-save");
+        gastroBook = JsonSerializableGastroBook.toGastroBook(
+                JsonSerializableGastroBook.convertAll(BenchmarkReservations.generate(reservationCount), false));
+    }
+
+    /**
+     * Prints the size of the files written, and deletes them.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                // The backups kept by each save are the same size
+                if (file.toString().endsWith(".json")) {
+                    System.out.println("\n" + file.getFileName() + ": " + Files.size(file) + " bytes written");
+                }
+                Files.delete(file);
+            }
+        }
+        Files.delete(folder);
+    }
+
+    /**
+     * Saves the book indented, as saves did before.
+     */
+    @Benchmark
+    public void save_indented() throws IOException {
+        save(false);
+    }
+
+    /**
+     * Saves the book without any whitespace between tokens.
+     */
+    @Benchmark
+    public void save_compact() throws IOException {
+        save(true);
+    }
+
+    /**
+     * Writes the book indented, without touching the disk.
+     */
+    @Benchmark
+    public void serialize_indented() throws IOException {
+        serialize(false);
+    }
+
+    /**
+     * Writes the book without any whitespace between tokens, without touching the disk.
+     */
+    @Benchmark
+    public void serialize_compact() throws IOException {
+        serialize(true);
+    }
+
+    private void serialize(boolean isCompact) throws IOException {
+        Iterator<JsonAdaptedReservation> jsonAdaptedReservations = gastroBook.getReservationList().stream()
+                .map(JsonAdaptedReservation::new)
+                .iterator();
+        JsonUtil.writeJsonArray(OutputStream.nullOutputStream(), JsonSerializableGastroBook.RESERVATIONS_FIELD,
+                jsonAdaptedReservations, isCompact);
+    }
+
+    private void save(boolean isCompact) throws IOException {
+        Path filePath = folder.resolve(isCompact ? "compact.json" : "indented.json");
+        new JsonGastroBookStorage(filePath, false, isCompact).saveGastroBook(gastroBook);
+    }
+}
@@ -20,11 +20,15 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.PersonsList;
 import seedu.address.model.ReadOnlyGastroBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.ReservationHistory;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.GastroBookStorage;
+import seedu.address.storage.AsyncStorageManager;
+import seedu.address.storage.BinarySnapshotGastroBookStorage;
+import seedu.address.storage.JournaledGastroBookStorage;
 import seedu.address.storage.JsonGastroBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.PartitionedGastroBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -57,11 +61,18 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        GastroBookStorage gastroBookStorage = new JsonGastroBookStorage(userPrefs.getAddressBookFilePath());
-        PersonsList personsList = new PersonsList();
-        storage = new StorageManager(gastroBookStorage, userPrefsStorage);
-
-        model = initModelManager(storage, personsList, userPrefs);
+        // Each month is kept in a journaled JSON snapshot, whose reservations are converted on all cores, alongside
+        // a binary copy, which is read instead while it is up to date
+        boolean isCompact = userPrefs.isCompactDataFile();
+        PartitionedGastroBookStorage gastroBookStorage = new PartitionedGastroBookStorage(
+                userPrefs.getAddressBookFilePath(), partitionPath -> new JournaledGastroBookStorage(
+                        new BinarySnapshotGastroBookStorage(
+                                new JsonGastroBookStorage(partitionPath, true, isCompact))));
+        PersonsList.setCompactOutput(isCompact);
+        PersonsList personsList = new PersonsList(PersonsList.DEFAULT_FILE_PATH);
+        storage = new AsyncStorageManager(new StorageManager(gastroBookStorage, userPrefsStorage));
+
+        model = initModelManager(storage, personsList, userPrefs, gastroBookStorage);
 
         logic = new LogicManager(model, storage);
 
@@ -74,10 +85,21 @@ public class MainApp extends Application {
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
     protected Model initModelManager(Storage storage, PersonsList personsList, ReadOnlyUserPrefs userPrefs) {
+        return initModelManager(storage, personsList, userPrefs, ReservationHistory.NONE);
+    }
+
+    /**
+     * Similar to {@link #initModelManager(Storage, PersonsList, ReadOnlyUserPrefs)}, but the past reservations
+     * {@code storage}'s address book was read without are in {@code history}, which the model loads when needed.
+     * The history is dropped if the address book is not read.
+     */
+    protected Model initModelManager(Storage storage, PersonsList personsList, ReadOnlyUserPrefs userPrefs,
+                                     ReservationHistory history) {
         logger.info("Using data file : " + storage.getGastroBookFilePath());
 
         Optional<ReadOnlyGastroBook> addressBookOptional;
         ReadOnlyGastroBook initialData;
+        ReservationHistory initialHistory = ReservationHistory.NONE;
         try {
             addressBookOptional = storage.readGastroBook();
             if (!addressBookOptional.isPresent()) {
@@ -85,6 +107,9 @@ public class MainApp extends Application {
                         + " populated with a sample AddressBook.");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            if (addressBookOptional.isPresent()) {
+                initialHistory = history;
+            }
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getGastroBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
@@ -92,7 +117,7 @@ public class MainApp extends Application {
         }
 
 
-        return new ModelManager(initialData, personsList, userPrefs);
+        return new ModelManager(initialData, personsList, userPrefs, initialHistory);
     }
     private void initLogging(Config config) {
         LogsCenter.init(config);
@@ -180,11 +205,10 @@ public class MainApp extends Application {
         logger.info("============================ [ Stopping AddressBook ] =============================");
         try {
             storage.saveUserPrefs(model.getUserPrefs());
+            storage.flushGastroBook();
 
-            // Don't do any file operations on the PersonsList files
-            // The data is already appended to the files during normal operation
-
-            logger.info("Application stopping - all data is already saved through append operations");
+            // Write out any persons list changes still waiting for the background flusher
+            model.getPersonsList().flush();
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         } catch (Exception e) {
@@ -1,18 +1,46 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /** Files at least this large are memory-mapped by {@link #openForReading(Path)}. */
+    public static final long MIN_MAPPED_FILE_SIZE = 1024 * 1024;
+
+    /** Number of earlier versions of a file kept by {@link #writeAtomically(Path, ContentWriter)}. */
+    public static final int BACKUP_GENERATIONS = 2;
+
+    public static final String BACKUP_SUFFIX = ".bak";
+    public static final String TEMP_SUFFIX = ".tmp";
+
     private static final String CHARSET = "UTF-8";
 
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    // A mapped file cannot be overwritten or replaced on Windows until the mapping is garbage collected
+    private static final boolean IS_MAPPING_SUPPORTED = !System.getProperty("os.name", "").startsWith("Windows");
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -71,12 +99,209 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Opens {@code file} for reading as a stream of bytes, without reading it all into memory first.
+     * Large files are memory-mapped, so their bytes are read straight from the page cache instead of being
+     * copied through a read buffer. Files too large to map in one piece (2 GB or more) are read through a buffer.
+     * Assumes file exists
+     */
+    public static InputStream openForReading(Path file) throws IOException {
+        return openForReading(file, MIN_MAPPED_FILE_SIZE);
+    }
+
+    /**
+     * Similar to {@link #openForReading(Path)}, but maps {@code file} if it is at least {@code minMappedSize}
+     * bytes large.
+     */
+    static InputStream openForReading(Path file, long minMappedSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (IS_MAPPING_SUPPORTED && size >= minMappedSize && size <= Integer.MAX_VALUE) {
+                // The mapping stays valid after the channel is closed
+                return new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            }
+        }
+        return new BufferedInputStream(Files.newInputStream(file), READ_BUFFER_SIZE);
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, as in {@link #writeAtomically(Path, ContentWriter)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Writes content to the output stream of a file being written.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, which may be closed when done.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Writes {@code file} with the content written by {@code content}, creating it and its missing parent
+     * directories if needed, and keeps {@link #BACKUP_GENERATIONS} earlier versions of it.
+     *
+     * The content is written to a temporary file in the same directory, which is then moved over {@code file}
+     * in one step, so a crash mid-write leaves the earlier version of {@code file} in place rather than a
+     * truncated one. The content is not forced to the disk; a crash soon after the write may lose it, in which
+     * case the earlier versions are still there to read.
+     */
+    public static void writeAtomically(Path file, ContentWriter content) throws IOException {
+        writeAtomically(file, content, false, BACKUP_GENERATIONS);
+    }
+
+    /**
+     * Similar to {@link #writeAtomically(Path, ContentWriter)}, but forces the content to the disk before it
+     * replaces {@code file} if {@code isForced} is true, and keeps {@code backupGenerations} earlier versions of
+     * {@code file}, which are named by {@link #getBackupPath(Path, int)}.
+     */
+    public static void writeAtomically(Path file, ContentWriter content, boolean isForced, int backupGenerations)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+                content.writeTo(new UnclosableOutputStream(out));
+                out.flush();
+                if (isForced) {
+                    channel.force(true);
+                }
+            }
+            keepBackups(file, backupGenerations);
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Returns the path of the {@code generation}-th most recent earlier version of {@code file}, starting at 1.
+     */
+    public static Path getBackupPath(Path file, int generation) {
+        assert generation >= 1;
+        String suffix = generation == 1 ? BACKUP_SUFFIX : BACKUP_SUFFIX + generation;
+        return file.resolveSibling(file.getFileName() + suffix);
+    }
+
+    /**
+     * Returns {@code file} followed by its earlier versions, most recent first, leaving out those that do not
+     * exist. A reader that cannot read {@code file}, or does not find it, can read the earlier versions instead.
+     */
+    public static List<Path> getGenerations(Path file) {
+        List<Path> generations = new ArrayList<>();
+        if (Files.exists(file)) {
+            generations.add(file);
+        }
+        for (int generation = 1; generation <= BACKUP_GENERATIONS; generation++) {
+            Path backupPath = getBackupPath(file, generation);
+            if (Files.exists(backupPath)) {
+                generations.add(backupPath);
+            }
+        }
+        return generations;
+    }
+
+    /**
+     * Shifts the earlier versions of {@code file} back by one generation, dropping the oldest, and makes the
+     * current version of {@code file} the most recent earlier version.
+     * The current version is hard-linked rather than moved where possible, so that {@code file} never goes
+     * missing while it is replaced.
+     */
+    private static void keepBackups(Path file, int backupGenerations) throws IOException {
+        if (backupGenerations == 0 || !Files.exists(file)) {
+            return;
+        }
+
+        for (int generation = backupGenerations - 1; generation >= 1; generation--) {
+            Path backupPath = getBackupPath(file, generation);
+            if (Files.exists(backupPath)) {
+                Files.move(backupPath, getBackupPath(file, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        Path latestBackupPath = getBackupPath(file, 1);
+        Files.deleteIfExists(latestBackupPath);
+        try {
+            Files.createLink(latestBackupPath, file);
+        } catch (IOException | UnsupportedOperationException e) {
+            // Readers fall back to the backup until the new version is moved in
+            Files.move(file, latestBackupPath);
+        }
+    }
+
+    /**
+     * Passes writes through to another stream, but only flushes it when closed, so that it can be forced to the
+     * disk afterwards.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+    /**
+     * Reads the bytes of a {@code ByteBuffer}, from its position to its limit.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int readLength = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, readLength);
+            return readLength;
+        }
+
+        @Override
+        public long skip(long n) {
+            int skipLength = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + skipLength);
+            return skipLength;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
     }
 
 }
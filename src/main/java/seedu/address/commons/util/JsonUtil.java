@@ -3,18 +3,28 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +32,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -39,18 +50,26 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Writers are immutable and cache what they learn about each type, so they are made once and shared
+    private static final ObjectWriter prettyWriter = objectMapper.writerWithDefaultPrettyPrinter();
+    private static final ObjectWriter compactWriter = objectMapper.writer();
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = FileUtil.openForReading(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
      * Returns the JSON object from the given file or {@code Optional.empty()} object if the file is not found.
      * If any values are missing from the file, default values will be used, as long as the file is a valid JSON file.
+     * If the file is missing or cannot be read, the earlier versions of it kept by {@link FileUtil#writeAtomically}
+     * are read instead, most recent first.
      *
      * @param filePath cannot be null.
      * @param classOfObjectToDeserialize JSON file has to correspond to the structure in the class given here.
@@ -60,21 +79,22 @@ public class JsonUtil {
             Path filePath, Class<T> classOfObjectToDeserialize) throws DataLoadingException {
         requireNonNull(filePath);
 
-        if (!Files.exists(filePath)) {
+        List<Path> generations = FileUtil.getGenerations(filePath);
+        if (generations.isEmpty()) {
             return Optional.empty();
         }
-        logger.info("JSON file " + filePath + " found.");
 
-        T jsonFile;
-
-        try {
-            jsonFile = deserializeObjectFromJsonFile(filePath, classOfObjectToDeserialize);
-        } catch (IOException e) {
-            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
-            throw new DataLoadingException(e);
+        IOException firstError = null;
+        for (Path generation : generations) {
+            logger.info("JSON file " + generation + " found.");
+            try {
+                return Optional.of(deserializeObjectFromJsonFile(generation, classOfObjectToDeserialize));
+            } catch (IOException e) {
+                logger.warning("Error reading from jsonFile file " + generation + ": " + e);
+                firstError = firstError == null ? e : firstError;
+            }
         }
-
-        return Optional.of(jsonFile);
+        throw new DataLoadingException(firstError);
     }
 
     /**
@@ -92,6 +112,108 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Saves {@code elements} to the specified file as a JSON object holding a single array field named
+     * {@code fieldName}, laid out the same way as {@link #saveJsonFile(Object, Path)} would.
+     * The elements are converted and written one at a time, so the whole document is never held in memory.
+     * Overwrites existing file if it exists, creates a new file if it doesn't. The file is replaced atomically
+     * and only once it is on the disk, keeping its earlier versions as in {@link FileUtil#writeAtomically}.
+     *
+     * @param elements cannot be null. Each element is only taken from the iterator when it is about to be written.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void saveJsonArrayFile(Path filePath, String fieldName, Iterator<?> elements) throws IOException {
+        saveJsonArrayFile(filePath, fieldName, elements, false);
+    }
+
+    /**
+     * Similar to {@link #saveJsonArrayFile(Path, String, Iterator)}, but leaves out all whitespace between tokens
+     * if {@code isCompact} is true, which makes the file smaller and faster to write.
+     */
+    public static void saveJsonArrayFile(Path filePath, String fieldName, Iterator<?> elements, boolean isCompact)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(fieldName);
+        requireNonNull(elements);
+
+        FileUtil.writeAtomically(filePath, out -> writeJsonArray(out, fieldName, elements, isCompact),
+                true, FileUtil.BACKUP_GENERATIONS);
+    }
+
+    /**
+     * Writes {@code elements} to {@code out} as {@link #saveJsonArrayFile(Path, String, Iterator, boolean)} would
+     * write them to its file, without replacing any file or forcing anything to the disk.
+     * {@code out} is closed once the document is written.
+     */
+    public static void writeJsonArray(OutputStream out, String fieldName, Iterator<?> elements, boolean isCompact)
+            throws IOException {
+        requireNonNull(out);
+        requireNonNull(fieldName);
+        requireNonNull(elements);
+
+        // Flushing after every element would defeat the buffering
+        ObjectWriter elementWriter = compactWriter.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            if (!isCompact) {
+                generator.useDefaultPrettyPrinter();
+            }
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(fieldName);
+            while (elements.hasNext()) {
+                elementWriter.writeValue(generator, elements.next());
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Reads the elements of the array field named {@code fieldName} from the JSON object in the specified file,
+     * and passes each to {@code handler} as soon as it is read, so the whole document is never held in memory.
+     * Other fields of the object are skipped, and a missing array is read as an empty one.
+     *
+     * @return false if the file is not found, or true once every element has been handled.
+     * @throws DataLoadingException if reading the JSON file failed.
+     * @throws IllegalValueException if {@code handler} rejected an element.
+     */
+    public static <E> boolean readJsonArrayFile(Path filePath, String fieldName, Class<E> elementClass,
+            JsonElementHandler<E> handler) throws DataLoadingException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(fieldName);
+        requireNonNull(elementClass);
+        requireNonNull(handler);
+
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream in = FileUtil.openForReading(filePath);
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                boolean isArrayField = fieldName.equals(parser.getCurrentName());
+                JsonToken valueToken = parser.nextToken();
+                if (!isArrayField || valueToken == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array in " + fieldName);
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    handler.handle(objectMapper.readValue(parser, elementClass));
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return true;
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -108,7 +230,31 @@ public class JsonUtil {
      * @return JSON data representation of the given class instance, in string
      */
     public static <T> String toJsonString(T instance) throws JsonProcessingException {
-        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
+        return prettyWriter.writeValueAsString(instance);
+    }
+
+    /**
+     * Converts a given instance of a class into its JSON data string representation, without any whitespace
+     * between tokens, so that the result fits on a single line.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return compactWriter.writeValueAsString(instance);
+    }
+
+    /**
+     * Handles each element read by {@link #readJsonArrayFile(Path, String, Class, JsonElementHandler)}.
+     */
+    @FunctionalInterface
+    public interface JsonElementHandler<E> {
+        /**
+         * Handles {@code element}, which was just read.
+         *
+         * @throws IllegalValueException if the element is not valid, which stops the reading.
+         */
+        void handle(E element) throws IllegalValueException;
     }
 
     /**
@@ -65,4 +65,51 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns true if {@code first} can be turned into {@code second} by at most {@code maxEdits} insertions,
+     * deletions or substitutions of single characters. Characters are compared exactly.
+     * Only the diagonal band of width {@code 2 * maxEdits + 1} of the usual distance table is filled in, and the
+     * comparison stops as soon as every entry in a row of the band is over {@code maxEdits}.
+     *   <br>examples:<pre>
+     *       isWithinEditDistance("alice", "alise", 1) == true
+     *       isWithinEditDistance("alice", "alcie", 1) == false //a swap takes two edits
+     *       </pre>
+     * @param maxEdits cannot be negative
+     */
+    public static boolean isWithinEditDistance(String first, String second, int maxEdits) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxEdits >= 0, "Maximum edits cannot be negative");
+
+        if (Math.abs(first.length() - second.length()) > maxEdits) {
+            return false;
+        }
+        int outOfReach = maxEdits + 1;
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = Math.min(j, outOfReach);
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            int from = Math.max(1, i - maxEdits);
+            int to = Math.min(second.length(), i + maxEdits);
+            Arrays.fill(current, outOfReach);
+            current[0] = Math.min(i, outOfReach);
+            int rowMinimum = from == 1 ? current[0] : outOfReach;
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                int edits = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                current[j] = Math.min(edits, outOfReach);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > maxEdits) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()] <= maxEdits;
+    }
 }
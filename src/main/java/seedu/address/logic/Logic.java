@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -8,6 +9,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyGastroBook;
+import seedu.address.model.reservation.Phone;
 import seedu.address.model.reservation.Reservation;
 
 /**
@@ -33,6 +35,11 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Reservation> getFilteredReservationList();
 
+    /**
+     * Returns true if the customer with the given phone number is a regular.
+     */
+    boolean isRegularCustomer(Phone phone);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -47,4 +54,10 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler shown the error message of a save that fails after the command that made it has returned.
+     * The handler may be called from any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
 }
@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -15,6 +16,7 @@ import seedu.address.logic.parser.GastroBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyGastroBook;
+import seedu.address.model.reservation.Phone;
 import seedu.address.model.reservation.Reservation;
 import seedu.address.storage.Storage;
 
@@ -27,12 +29,19 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    private static final long NEVER_SAVED = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final GastroBookParser gastroBookParser;
 
+    // Version of the gastro book as last saved, so that commands that change nothing need not save it again.
+    // Reset by saves that fail in the background, so the next command saves again.
+    private volatile long savedVersion = NEVER_SAVED;
+    private long skippedSaveCount;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -50,17 +59,40 @@ public class LogicManager implements Logic {
         Command command = gastroBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        ReadOnlyGastroBook gastroBook = model.getAddressBook();
+        if (gastroBook.getVersion() == savedVersion) {
+            skippedSaveCount++;
+            logger.fine("Gastro book unchanged, skipped saving it (" + skippedSaveCount + " saves skipped so far)");
+            return commandResult;
+        }
+
+        // Recorded before the save is handed over, so that a failure reported by the writer always comes after
+        // it, and is not undone by it
+        savedVersion = gastroBook.getVersion();
         try {
-            storage.saveGastroBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            storage.saveGastroBook(gastroBook);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            savedVersion = NEVER_SAVED;
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    /**
+     * Returns the number of commands after which saving was skipped because the gastro book had not changed.
+     */
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
     @Override
     public ReadOnlyGastroBook getAddressBook() {
         return model.getAddressBook();
@@ -71,6 +103,11 @@ public class LogicManager implements Logic {
         return model.getFilteredReservationList();
     }
 
+    @Override
+    public boolean isRegularCustomer(Phone phone) {
+        return model.isRegularCustomer(phone);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -85,4 +122,12 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        storage.setSaveFailureHandler(ioe -> {
+            savedVersion = NEVER_SAVED;
+            saveFailureHandler.accept(getSaveErrorMessage(ioe));
+        });
+    }
 }
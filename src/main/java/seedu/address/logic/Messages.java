@@ -17,6 +17,9 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_RESERVATION_DISPLAYED_INDEX =
             "The Reservation index provided is invalid";
+    public static final String MESSAGE_RESERVATION_ID_NOT_FOUND = "Input reservation id does not exist.";
+    public static final String MESSAGE_TABLE_OCCUPIED =
+            "Table %1$s is already booked by %2$s from %3$s for %4$s hour(s) on this date.";
     public static final String MESSAGE_RESERVATIONS_LISTED_OVERVIEW = "%1$d reservations listed!";
     public static final String MESSAGE_NO_RESERVATIONS_LISTED = "No matching reservations found!";
     public static final String MESSAGE_DUPLICATE_FIELDS =
@@ -34,6 +37,14 @@ public class Messages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Returns an error message indicating that {@code conflict} already occupies its table.
+     */
+    public static String getErrorMessageForTableConflict(Reservation conflict) {
+        return String.format(MESSAGE_TABLE_OCCUPIED, conflict.getTable(), conflict.getName(), conflict.getTime(),
+                conflict.getDuration());
+    }
+
     /**
      * Formats the {@code reservation} for display to the user.
      */
@@ -15,6 +15,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.exceptions.TableConflictException;
 
 /**
  * Adds a reservation to the gastro book.
@@ -65,7 +66,11 @@ public class AddCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_RESERVATION);
         }
 
-        model.addReservation(toAdd);
+        try {
+            model.addReservation(toAdd);
+        } catch (TableConflictException e) {
+            throw new CommandException(Messages.getErrorMessageForTableConflict(e.getConflict()));
+        }
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
     }
 
@@ -35,10 +35,9 @@ public class DeleteCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        Reservation reservationToDelete = Identification.getReservationUsingId(id, model);
+        Reservation reservationToDelete = model.findById(id)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_RESERVATION_ID_NOT_FOUND));
         model.deleteReservation(reservationToDelete);
-        //delete/decrement in persons list
-        model.updatePersonsListAfterDelete(reservationToDelete);
         return new CommandResult(String.format(MESSAGE_DELETE_RESERVATION_SUCCESS,
                 Messages.format(reservationToDelete)));
     }
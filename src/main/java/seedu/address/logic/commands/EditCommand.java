@@ -32,6 +32,7 @@ import seedu.address.model.reservation.Reservation;
 import seedu.address.model.reservation.StartDate;
 import seedu.address.model.reservation.StartTime;
 import seedu.address.model.reservation.Table;
+import seedu.address.model.reservation.exceptions.TableConflictException;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -81,16 +82,19 @@ public class EditCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        Reservation reservationToEdit = Identification.getReservationUsingId(id, model);
+        Reservation reservationToEdit = model.findById(id)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_RESERVATION_ID_NOT_FOUND));
         Reservation editedReservation = createEditedReservation(reservationToEdit, editReservationDescriptor);
 
         if (!reservationToEdit.isSameReservation(editedReservation) && model.hasReservation(editedReservation)) {
             throw new CommandException(MESSAGE_DUPLICATE_RESERVATION);
         }
 
-        model.setReservation(reservationToEdit, editedReservation);
-        //Reload persons list after editing to update details
-        model.updatePersonsListAfterEdit(reservationToEdit, editedReservation);
+        try {
+            model.setReservation(reservationToEdit, editedReservation);
+        } catch (TableConflictException e) {
+            throw new CommandException(Messages.getErrorMessageForTableConflict(e.getConflict()));
+        }
 
         model.updateFilteredReservationList(PREDICATE_SHOW_ALL_RESERVATIONS);
         return new CommandResult(String.format(MESSAGE_EDIT_RESERVATION_SUCCESS, Messages.format(editedReservation)));
@@ -6,11 +6,10 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.reservation.NameContainsKeywordsPredicate;
-import seedu.address.model.reservation.StartDate;
 
 /**
  * Finds and lists all persons whose name contains any of the argument keywords.
- * Keyword matching is case-insensitive.
+ * Keyword matching is case-insensitive, and keywords marked as fuzzy also match words a few typing mistakes away.
  */
 public class FindByNameCommand extends Command {
 
@@ -19,8 +18,9 @@ public class FindByNameCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names match any of "
             + "the specified names (case-insensitive) and displays reservations made by them for today or "
             + "tomorrow as a list with reservation IDs.\n"
+            + "Start a name with ~ to also match names spelt slightly differently.\n"
             + "Parameters: NAME [MORE NAMES]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob ~charly";
 
     private final NameContainsKeywordsPredicate predicate;
 
@@ -32,14 +32,7 @@ public class FindByNameCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        model.updateFilteredReservationList(reservation -> {
-            // Check name
-            boolean matchesName = predicate.test(reservation);
-
-            // Check if date is today or tomorrow
-            boolean isTodayOrTomorrow = StartDate.isValidDateRange(reservation.getDate().value);
-            return matchesName && isTodayOrTomorrow;
-        });
+        model.filterReservationsByName(predicate);
 
         int count = model.getFilteredReservationList().size();
         String resultMessage;
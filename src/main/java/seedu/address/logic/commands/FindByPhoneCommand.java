@@ -6,10 +6,10 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.reservation.PhoneContainsKeywordsPredicate;
-import seedu.address.model.reservation.StartDate;
 
 /**
  * Finds and lists all reservations whose phone numbers match any of the argument keywords.
+ * A keyword may also give only the first or last digits of a number, with a {@code *} in place of the rest.
  */
 public class FindByPhoneCommand extends Command {
 
@@ -18,8 +18,9 @@ public class FindByPhoneCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose phone numbers match "
             + "any of the specified phone numbers and displays reservations made by them for today or "
             + "tomorrow as a list with reservation IDs.\n"
+            + "A number may also be given as its first or last digits, with * in place of the rest.\n"
             + "Parameters: PHONE NUMBER [MORE PHONE NUMBERS]...\n"
-            + "Example: " + COMMAND_WORD + " 98765432 81234567";
+            + "Example: " + COMMAND_WORD + " 98765432 8123* *4567";
 
     private final PhoneContainsKeywordsPredicate predicate;
 
@@ -31,14 +32,7 @@ public class FindByPhoneCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        model.updateFilteredReservationList(reservation -> {
-            // Check phone number
-            boolean matchesPhone = predicate.test(reservation);
-
-            // Check if date is today or tomorrow
-            boolean isTodayOrTomorrow = StartDate.isValidDateRange(reservation.getDate().value);
-            return matchesPhone && isTodayOrTomorrow;
-        });
+        model.filterReservationsByPhone(predicate);
 
         int count = model.getFilteredReservationList().size();
         String resultMessage;
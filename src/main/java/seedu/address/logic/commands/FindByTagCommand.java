@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.reservation.TagsMatchPredicate;
+
+/**
+ * Finds and lists all reservations for today or tomorrow carrying every one of the argument tags.
+ * Groups of tags separated by {@code |} are alternatives, any one of which a reservation may carry instead.
+ */
+public class FindByTagCommand extends Command {
+
+    public static final String COMMAND_WORD = "findtag";
+
+    public static final String ALTERNATIVE_SEPARATOR = "|";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all reservations for today or tomorrow "
+            + "carrying all of the specified tags and displays them as a list with reservation IDs.\n"
+            + "Groups of tags separated by " + ALTERNATIVE_SEPARATOR + " are alternatives: a reservation carrying "
+            + "all the tags of any one group is shown.\n"
+            + "Parameters: TAG [MORE_TAGS]... [" + ALTERNATIVE_SEPARATOR + " TAG [MORE_TAGS]...]...\n"
+            + "Example: " + COMMAND_WORD + " vip nuts " + ALTERNATIVE_SEPARATOR + " vip shellfish";
+
+    private final TagsMatchPredicate predicate;
+
+    public FindByTagCommand(TagsMatchPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        model.filterReservationsByTag(predicate);
+
+        int count = model.getFilteredReservationList().size();
+        String resultMessage;
+        if (count == 0) {
+            resultMessage = Messages.MESSAGE_NO_RESERVATIONS_LISTED;
+        } else {
+            resultMessage = String.format(Messages.MESSAGE_RESERVATIONS_LISTED_OVERVIEW, count);
+        }
+        return new CommandResult(resultMessage);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof FindByTagCommand)) {
+            return false;
+        }
+        FindByTagCommand otherFindByTagCommand = (FindByTagCommand) other;
+        return predicate.equals(otherFindByTagCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
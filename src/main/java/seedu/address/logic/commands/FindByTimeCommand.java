@@ -2,27 +2,29 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.time.LocalDate;
-
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.reservation.TimeMatchesPredicate;
 
 /**
- * Finds and lists all reservations scheduled for today that are ongoing at the specified time.
+ * Finds and lists all reservations scheduled for today that are ongoing at the specified time,
+ * or at any time within the specified range.
  * A reservation is ongoing if its start time is at or before the search time and its end time
  * (computed as start time + duration) is after the search time.
- * Reservations ending exactly at the search time are not shown.
+ * Reservations ending exactly at the search time, or at the start of the range, are not shown.
  */
 public class FindByTimeCommand extends Command {
 
     public static final String COMMAND_WORD = "findt";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Finds all reservations scheduled for today only that are ongoing at the specified time.\n"
-            + "Parameters: TIME (in HHmm format)\n"
-            + "Example: " + COMMAND_WORD + " 1400";
+            + ": Finds all reservations scheduled for today only that are ongoing at the specified time, "
+            + "or at any time from START_TIME until END_TIME.\n"
+            + "Parameters: TIME or START_TIME END_TIME (in HHmm format)\n"
+            + "Example: " + COMMAND_WORD + " 1400 or " + COMMAND_WORD + " 1900 2100";
+
+    public static final String MESSAGE_INVALID_RANGE = "The start time must be before the end time.";
 
     private final TimeMatchesPredicate predicate;
 
@@ -34,14 +36,7 @@ public class FindByTimeCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        model.updateFilteredReservationList(reservation -> {
-            // check time
-            boolean matchesTime = predicate.test(reservation);
-
-            // check if date is today
-            boolean isToday = reservation.getDate().toLocalDate().equals(LocalDate.now());
-            return matchesTime && isToday;
-        });
+        model.filterReservationsOngoingToday(predicate);
 
         int count = model.getFilteredReservationList().size();
         String resultMessage;
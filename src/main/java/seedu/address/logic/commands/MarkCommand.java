@@ -45,7 +45,8 @@ public class MarkCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        Reservation reservationToMark = Identification.getReservationUsingId(id, model);
+        Reservation reservationToMark = model.findById(id)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_RESERVATION_ID_NOT_FOUND));
         if (reservationToMark.getIsPaid()) {
             throw new CommandException(MESSAGE_DUPLICATE_MARK);
         }
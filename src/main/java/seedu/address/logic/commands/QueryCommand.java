@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TABLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.reservation.ReservationQuery;
+
+/**
+ * Finds and lists the reservations, on any date, meeting every one of the criteria given.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Finds all reservations, on any date, that meet every one of the criteria given. "
+            + "At least one criterion must be given.\n"
+            + "Parameters: "
+            + "[" + PREFIX_NAME + "NAME_KEYWORDS] "
+            + "[" + PREFIX_PHONE + "PHONE_KEYWORDS] "
+            + "[" + PREFIX_DATE + "DATE [" + PREFIX_DATE + "END_DATE]] "
+            + "[" + PREFIX_TIME + "TIME[-END_TIME]] "
+            + "[" + PREFIX_TABLE + "TABLE] "
+            + "[" + PREFIX_TAG + "TAG]... "
+            + "[" + PREFIX_PAID + "yes/no] "
+            + "[" + PREFIX_PAX + "PAX[-MAX_PAX]]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_NAME + "alex ~bernice "
+            + PREFIX_DATE + "01/10/2026 "
+            + PREFIX_DATE + "31/10/2026 "
+            + PREFIX_TIME + "1800-2000 "
+            + PREFIX_PAID + "no";
+
+    private final ReservationQuery query;
+
+    /**
+     * Creates a QueryCommand to find the reservations matching {@code query}.
+     */
+    public QueryCommand(ReservationQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        model.filterReservations(query);
+
+        int count = model.getFilteredReservationList().size();
+        String resultMessage;
+        if (count == 0) {
+            resultMessage = Messages.MESSAGE_NO_RESERVATIONS_LISTED;
+        } else {
+            resultMessage = String.format(Messages.MESSAGE_RESERVATIONS_LISTED_OVERVIEW, count);
+        }
+        return new CommandResult(resultMessage);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof QueryCommand)) {
+            return false;
+        }
+        QueryCommand otherQueryCommand = (QueryCommand) other;
+        return query.equals(otherQueryCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
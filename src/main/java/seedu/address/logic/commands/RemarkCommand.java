@@ -47,7 +47,8 @@ public class RemarkCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
 
-        Reservation reservationToEdit = Identification.getReservationUsingId(id, model);
+        Reservation reservationToEdit = model.findById(id)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_RESERVATION_ID_NOT_FOUND));
         Reservation editedReservation = new Reservation(reservationToEdit.getName(), reservationToEdit.getPhone(),
                 reservationToEdit.getDate(), reservationToEdit.getTime(), reservationToEdit.getDuration(),
                 reservationToEdit.getPax(), reservationToEdit.getTable(), remark, reservationToEdit.getTags(),
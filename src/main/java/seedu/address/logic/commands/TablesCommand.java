@@ -0,0 +1,111 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.ReservationIntervalIndex;
+import seedu.address.model.reservation.StartDate;
+
+/**
+ * Shows the times each booked table is free on a date.
+ */
+public class TablesCommand extends Command {
+
+    public static final String COMMAND_WORD = "tables";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the times each booked table is free on the specified date, or today if no date is given.\n"
+            + "Parameters: [DATE (in dd/MM/yyyy format, TODAY or TOMORROW)]\n"
+            + "Example: " + COMMAND_WORD + " or " + COMMAND_WORD + " 05/04/2025";
+
+    public static final String MESSAGE_NO_TABLES_BOOKED = "No tables are booked on %1$s. All tables are free.";
+    public static final String MESSAGE_FREE_SLOTS = "Free slots of booked tables on %1$s "
+            + "(tables not listed are free all day):";
+    public static final String MESSAGE_TABLE_FREE_SLOTS = "%1$s: %2$s";
+    public static final String MESSAGE_TABLE_FULLY_BOOKED = "fully booked";
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final StartDate date;
+
+    /**
+     * Creates a TablesCommand to show free slots on {@code date}, or today if {@code date} is null.
+     */
+    public TablesCommand(StartDate date) {
+        this.date = date;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        LocalDate searchDate = date == null ? LocalDate.now() : date.toLocalDate();
+        String displayedDate = searchDate.format(StartDate.DATE_FORMATTER);
+        SortedMap<String, List<Reservation>> bookingsByTable = model.getBookingsByTable(searchDate);
+        if (bookingsByTable.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_TABLES_BOOKED, displayedDate));
+        }
+
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_FREE_SLOTS, displayedDate));
+        for (Map.Entry<String, List<Reservation>> entry : bookingsByTable.entrySet()) {
+            List<String> freeSlots = getFreeSlots(entry.getValue());
+            result.append('\n').append(String.format(MESSAGE_TABLE_FREE_SLOTS, entry.getKey(),
+                    freeSlots.isEmpty() ? MESSAGE_TABLE_FULLY_BOOKED : String.join(", ", freeSlots)));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    /**
+     * Returns the gaps between {@code bookings} in the day, which must be sorted by start time.
+     */
+    private static List<String> getFreeSlots(List<Reservation> bookings) {
+        List<String> freeSlots = new ArrayList<>();
+        int freeFrom = 0;
+        for (Reservation booking : bookings) {
+            int startMinute = booking.getTime().toMinuteOfDay();
+            if (startMinute > freeFrom) {
+                freeSlots.add(formatMinute(freeFrom) + "-" + formatMinute(startMinute));
+            }
+            freeFrom = Math.max(freeFrom, ReservationIntervalIndex.endMinuteOf(booking));
+        }
+        if (freeFrom < MINUTES_PER_DAY) {
+            freeSlots.add(formatMinute(freeFrom) + "-" + formatMinute(MINUTES_PER_DAY));
+        }
+        return freeSlots;
+    }
+
+    private static String formatMinute(int minuteOfDay) {
+        return String.format("%02d%02d", minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TablesCommand)) {
+            return false;
+        }
+
+        TablesCommand otherTablesCommand = (TablesCommand) other;
+        return Objects.equals(date, otherTablesCommand.date);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("date", date)
+                .toString();
+    }
+}
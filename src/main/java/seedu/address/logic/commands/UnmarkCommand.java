@@ -47,7 +47,8 @@ public class UnmarkCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        Reservation reservationToUnmark = Identification.getReservationUsingId(id, model);
+        Reservation reservationToUnmark = model.findById(id)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_RESERVATION_ID_NOT_FOUND));
         if (!reservationToUnmark.getIsPaid()) {
             throw new CommandException(MESSAGE_DUPLICATE_UNMARK);
         }
@@ -28,6 +28,12 @@ public class FindByNameCommandParser implements Parser<FindByNameCommand> {
 
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
+        for (String keyword : nameKeywords) {
+            if (keyword.equals(NameContainsKeywordsPredicate.FUZZY_MARKER)) {
+                throw new ParseException(NameContainsKeywordsPredicate.MESSAGE_FUZZY_CONSTRAINTS);
+            }
+        }
+
         return new FindByNameCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
     }
 
@@ -31,7 +31,11 @@ public class FindByPhoneCommandParser implements Parser<FindByPhoneCommand> {
 
         // check if phone number is valid
         for (String keyword : phoneKeywords) {
-            if (!Phone.isValidPhone(keyword)) {
+            if (PhoneContainsKeywordsPredicate.isPartialKeyword(keyword)) {
+                if (!PhoneContainsKeywordsPredicate.isValidPartialKeyword(keyword)) {
+                    throw new ParseException(PhoneContainsKeywordsPredicate.MESSAGE_PARTIAL_CONSTRAINTS);
+                }
+            } else if (!Phone.isValidPhone(keyword)) {
                 throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
             }
         }
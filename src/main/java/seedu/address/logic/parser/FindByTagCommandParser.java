@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.FindByTagCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.reservation.TagsMatchPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new FindByTagCommand object
+ */
+public class FindByTagCommandParser implements Parser<FindByTagCommand> {
+    private static final String ALTERNATIVE_SEPARATOR_REGEX = Pattern.quote(FindByTagCommand.ALTERNATIVE_SEPARATOR);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindByTagCommand
+     * and returns a FindByTagCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindByTagCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindByTagCommand.MESSAGE_USAGE));
+        }
+
+        List<Set<Tag>> alternatives = new ArrayList<>();
+        for (String group : trimmedArgs.split(ALTERNATIVE_SEPARATOR_REGEX, -1)) {
+            String trimmedGroup = group.trim();
+            if (trimmedGroup.isEmpty()) {
+                // A separator with no tags on one side
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindByTagCommand.MESSAGE_USAGE));
+            }
+            alternatives.add(ParserUtil.parseTags(Arrays.asList(trimmedGroup.split("\\s+"))));
+        }
+
+        return new FindByTagCommand(new TagsMatchPredicate(alternatives));
+    }
+}
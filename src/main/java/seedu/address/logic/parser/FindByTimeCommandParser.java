@@ -30,16 +30,27 @@ public class FindByTimeCommandParser implements Parser<FindByTimeCommand> {
         }
 
         String[] timeKeyword = trimmedArgs.split("\\s+");
-        if (timeKeyword.length != 1) {
+        if (timeKeyword.length > 2) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindByTimeCommand.MESSAGE_USAGE));
         }
 
-        if (!StartTime.isValidTime(timeKeyword[0])) {
-            throw new ParseException(StartTime.MESSAGE_CONSTRAINTS);
+        LocalTime searchTime = parseTime(timeKeyword[0]);
+        if (timeKeyword.length == 1) {
+            return new FindByTimeCommand(new TimeMatchesPredicate(searchTime));
+        }
+
+        LocalTime searchEndTime = parseTime(timeKeyword[1]);
+        if (!searchTime.isBefore(searchEndTime)) {
+            throw new ParseException(FindByTimeCommand.MESSAGE_INVALID_RANGE);
         }
+        return new FindByTimeCommand(new TimeMatchesPredicate(searchTime, searchEndTime));
+    }
 
-        LocalTime searchTime = LocalTime.parse(timeKeyword[0], TIME_FORMATTER);
-        return new FindByTimeCommand(new TimeMatchesPredicate(searchTime));
+    private static LocalTime parseTime(String time) throws ParseException {
+        if (!StartTime.isValidTime(time)) {
+            throw new ParseException(StartTime.MESSAGE_CONSTRAINTS);
+        }
+        return LocalTime.parse(time, TIME_FORMATTER);
     }
 }
@@ -16,6 +16,7 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindByNameCommand;
 import seedu.address.logic.commands.FindByPhoneCommand;
+import seedu.address.logic.commands.FindByTagCommand;
 import seedu.address.logic.commands.FindByTimeCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
@@ -24,7 +25,9 @@ import seedu.address.logic.commands.ListRCommand;
 import seedu.address.logic.commands.ListRnCommand;
 import seedu.address.logic.commands.ListRtCommand;
 import seedu.address.logic.commands.MarkCommand;
+import seedu.address.logic.commands.QueryCommand;
 import seedu.address.logic.commands.RemarkCommand;
+import seedu.address.logic.commands.TablesCommand;
 import seedu.address.logic.commands.UnmarkCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -81,9 +84,15 @@ public class GastroBookParser {
         case FindByPhoneCommand.COMMAND_WORD:
             return new FindByPhoneCommandParser().parse(arguments);
 
+        case FindByTagCommand.COMMAND_WORD:
+            return new FindByTagCommandParser().parse(arguments);
+
         case FindByTimeCommand.COMMAND_WORD:
             return new FindByTimeCommandParser().parse(arguments);
 
+        case QueryCommand.COMMAND_WORD:
+            return new QueryCommandParser().parse(arguments);
+
         case MarkCommand.COMMAND_WORD:
             return new MarkCommandParser().parse(arguments);
 
@@ -114,6 +123,9 @@ public class GastroBookParser {
         case RemarkCommand.COMMAND_WORD:
             return new RemarkCommandParser().parse(arguments);
 
+        case TablesCommand.COMMAND_WORD:
+            return new TablesCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -0,0 +1,194 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TABLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.reservation.NameContainsKeywordsPredicate;
+import seedu.address.model.reservation.Pax;
+import seedu.address.model.reservation.Phone;
+import seedu.address.model.reservation.PhoneContainsKeywordsPredicate;
+import seedu.address.model.reservation.ReservationQuery;
+import seedu.address.model.reservation.StartDate;
+import seedu.address.model.reservation.StartTime;
+import seedu.address.model.reservation.TimeMatchesPredicate;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The first date must not be after the second date.";
+    public static final String MESSAGE_INVALID_TIME_RANGE = "The start time must be before the end time.";
+    public static final String MESSAGE_INVALID_PAX_RANGE = "The smallest pax must not be more than the largest pax.";
+    public static final String MESSAGE_INVALID_PAID = "Paid status must be either yes or no.";
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmm");
+    private static final String RANGE_SEPARATOR = "-";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_DATE,
+                PREFIX_TIME, PREFIX_TABLE, PREFIX_TAG, PREFIX_PAID, PREFIX_PAX);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE, PREFIX_TIME, PREFIX_TABLE, PREFIX_PAID,
+                PREFIX_PAX);
+
+        ReservationQuery.Builder queryBuilder = new ReservationQuery.Builder();
+        if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
+            queryBuilder.withNames(parseNames(argMultimap.getValue(PREFIX_NAME).get()));
+        }
+        if (argMultimap.getValue(PREFIX_PHONE).isPresent()) {
+            queryBuilder.withPhones(parsePhones(argMultimap.getValue(PREFIX_PHONE).get()));
+        }
+        if (!argMultimap.getAllValues(PREFIX_DATE).isEmpty()) {
+            parseDates(argMultimap.getAllValues(PREFIX_DATE), queryBuilder);
+        }
+        if (argMultimap.getValue(PREFIX_TIME).isPresent()) {
+            queryBuilder.withTimes(parseTimes(argMultimap.getValue(PREFIX_TIME).get()));
+        }
+        if (argMultimap.getValue(PREFIX_TABLE).isPresent()) {
+            queryBuilder.withTable(ParserUtil.parseTable(argMultimap.getValue(PREFIX_TABLE).get()));
+        }
+        if (!argMultimap.getAllValues(PREFIX_TAG).isEmpty()) {
+            queryBuilder.withTags(ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG)));
+        }
+        if (argMultimap.getValue(PREFIX_PAID).isPresent()) {
+            queryBuilder.withPaid(parsePaid(argMultimap.getValue(PREFIX_PAID).get()));
+        }
+        if (argMultimap.getValue(PREFIX_PAX).isPresent()) {
+            parsePax(argMultimap.getValue(PREFIX_PAX).get(), queryBuilder);
+        }
+
+        ReservationQuery query = queryBuilder.build();
+        if (!query.isAnyCriterionSet()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+        return new QueryCommand(query);
+    }
+
+    private static NameContainsKeywordsPredicate parseNames(String names) throws ParseException {
+        String trimmedNames = names.trim();
+        if (trimmedNames.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+        String[] nameKeywords = trimmedNames.split("\\s+");
+        for (String keyword : nameKeywords) {
+            if (keyword.equals(NameContainsKeywordsPredicate.FUZZY_MARKER)) {
+                throw new ParseException(NameContainsKeywordsPredicate.MESSAGE_FUZZY_CONSTRAINTS);
+            }
+        }
+        return new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords));
+    }
+
+    private static PhoneContainsKeywordsPredicate parsePhones(String phones) throws ParseException {
+        String trimmedPhones = phones.trim();
+        if (trimmedPhones.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+        String[] phoneKeywords = trimmedPhones.split("\\s+");
+        for (String keyword : phoneKeywords) {
+            if (PhoneContainsKeywordsPredicate.isPartialKeyword(keyword)) {
+                if (!PhoneContainsKeywordsPredicate.isValidPartialKeyword(keyword)) {
+                    throw new ParseException(PhoneContainsKeywordsPredicate.MESSAGE_PARTIAL_CONSTRAINTS);
+                }
+            } else if (!Phone.isValidPhone(keyword)) {
+                throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
+            }
+        }
+        return new PhoneContainsKeywordsPredicate(Arrays.asList(phoneKeywords));
+    }
+
+    /**
+     * Sets the dates of {@code queryBuilder} to the single date in {@code dates}, or to the range between the two.
+     * Unlike dates of new reservations, these may be on any day.
+     */
+    private static void parseDates(List<String> dates, ReservationQuery.Builder queryBuilder) throws ParseException {
+        if (dates.size() > 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+        LocalDate fromDate = parseDate(dates.get(0));
+        LocalDate toDate = dates.size() == 1 ? fromDate : parseDate(dates.get(1));
+        if (fromDate.isAfter(toDate)) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+        queryBuilder.withDates(fromDate, toDate);
+    }
+
+    private static LocalDate parseDate(String date) throws ParseException {
+        String trimmedDate = date.trim();
+        if (!StartDate.isValidDate(trimmedDate)) {
+            throw new ParseException(StartDate.MESSAGE_CONSTRAINTS);
+        }
+        return StartDate.ofStoredDate(trimmedDate).toLocalDate();
+    }
+
+    private static TimeMatchesPredicate parseTimes(String times) throws ParseException {
+        String[] bounds = times.trim().split(RANGE_SEPARATOR, -1);
+        if (bounds.length > 2) {
+            throw new ParseException(StartTime.MESSAGE_CONSTRAINTS);
+        }
+        LocalTime searchTime = parseTime(bounds[0]);
+        if (bounds.length == 1) {
+            return new TimeMatchesPredicate(searchTime);
+        }
+        LocalTime searchEndTime = parseTime(bounds[1]);
+        if (!searchTime.isBefore(searchEndTime)) {
+            throw new ParseException(MESSAGE_INVALID_TIME_RANGE);
+        }
+        return new TimeMatchesPredicate(searchTime, searchEndTime);
+    }
+
+    private static LocalTime parseTime(String time) throws ParseException {
+        String trimmedTime = time.trim();
+        if (!StartTime.isValidTime(trimmedTime)) {
+            throw new ParseException(StartTime.MESSAGE_CONSTRAINTS);
+        }
+        return LocalTime.parse(trimmedTime, TIME_FORMATTER);
+    }
+
+    private static boolean parsePaid(String paid) throws ParseException {
+        String trimmedPaid = paid.trim();
+        if (trimmedPaid.equalsIgnoreCase("yes")) {
+            return true;
+        } else if (trimmedPaid.equalsIgnoreCase("no")) {
+            return false;
+        }
+        throw new ParseException(MESSAGE_INVALID_PAID);
+    }
+
+    private static void parsePax(String pax, ReservationQuery.Builder queryBuilder) throws ParseException {
+        String[] bounds = pax.trim().split(RANGE_SEPARATOR, -1);
+        if (bounds.length > 2) {
+            throw new ParseException(Pax.MESSAGE_CONSTRAINTS);
+        }
+        int minPax = ParserUtil.parsePax(bounds[0]).toInt();
+        int maxPax = bounds.length == 1 ? minPax : ParserUtil.parsePax(bounds[1]).toInt();
+        if (minPax > maxPax) {
+            throw new ParseException(MESSAGE_INVALID_PAX_RANGE);
+        }
+        queryBuilder.withPax(minPax, maxPax);
+    }
+}
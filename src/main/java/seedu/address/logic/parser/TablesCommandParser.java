@@ -0,0 +1,24 @@
+package seedu.address.logic.parser;
+
+import seedu.address.logic.commands.TablesCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new TablesCommand object
+ */
+public class TablesCommandParser implements Parser<TablesCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the TablesCommand
+     * and returns a TablesCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public TablesCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new TablesCommand(null);
+        }
+        return new TablesCommand(ParserUtil.parseDate(trimmedArgs));
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.PersonsList.REGULAR_CUSTOMER_THRESHOLD;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.reservation.Name;
+import seedu.address.model.reservation.Person;
+import seedu.address.model.reservation.Phone;
+import seedu.address.model.reservation.Reservation;
+
+/**
+ * Keeps the number of bookings made with each phone number, and which of those customers are regulars,
+ * for a list of reservations.
+ * The counts are updated from the list's change events, so they always match the reservations in the list
+ * and never need to be saved separately.
+ */
+public class CustomerBookings {
+    private final Map<String, Person> customers = new HashMap<>();
+    private final Map<String, Person> regulars = new LinkedHashMap<>();
+
+    /**
+     * Creates a {@code CustomerBookings} that counts the bookings in {@code reservations}
+     * and follows all later changes to it.
+     */
+    public CustomerBookings(ObservableList<Reservation> reservations) {
+        this(reservations, List.of());
+    }
+
+    /**
+     * Creates a {@code CustomerBookings} that counts the bookings of {@code earlierCustomers}, whose counters hold
+     * the number of bookings each made before those in {@code reservations}, and then those in
+     * {@code reservations}, following all later changes to it.
+     * Used for bookings whose reservations are not in the list, such as those of a history not yet loaded.
+     */
+    public CustomerBookings(ObservableList<Reservation> reservations, Collection<Person> earlierCustomers) {
+        requireAllNonNull(reservations, earlierCustomers);
+        earlierCustomers.forEach(customer ->
+                adjustCounter(customer.getName(), customer.getPhone(), customer.getCounter()));
+        reservations.forEach(reservation -> adjustCounter(reservation, 1));
+        reservations.addListener((ListChangeListener<Reservation>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(reservation -> adjustCounter(reservation, -1));
+                change.getAddedSubList().forEach(reservation -> adjustCounter(reservation, 1));
+            }
+        });
+    }
+
+    /**
+     * Stops counting the bookings of {@code earlierCustomers} given when this was created, once their reservations
+     * have been added to the list.
+     */
+    public void removeEarlierBookings(Collection<Person> earlierCustomers) {
+        requireNonNull(earlierCustomers);
+        earlierCustomers.forEach(customer ->
+                adjustCounter(customer.getName(), customer.getPhone(), -customer.getCounter()));
+    }
+
+    private void adjustCounter(Reservation reservation, int delta) {
+        adjustCounter(reservation.getName(), reservation.getPhone(), delta);
+    }
+
+    /**
+     * Adds {@code delta} to the booking count of the customer with the given phone number.
+     * A newly added booking also updates the customer's name to {@code name}.
+     */
+    private void adjustCounter(Name name, Phone phone, int delta) {
+        String phoneValue = phone.value;
+        Person existingPerson = customers.get(phoneValue);
+        int newCount = (existingPerson == null ? 0 : existingPerson.getCounter()) + delta;
+
+        if (newCount <= 0) {
+            customers.remove(phoneValue);
+            regulars.remove(phoneValue);
+            return;
+        }
+
+        Person updatedPerson = new Person(delta > 0 || existingPerson == null
+                ? name : existingPerson.getName(), phone);
+        updatedPerson.setCounter(newCount);
+        updatedPerson.setIsRegular(newCount >= REGULAR_CUSTOMER_THRESHOLD);
+        customers.put(phoneValue, updatedPerson);
+
+        if (updatedPerson.isRegular()) {
+            regulars.put(phoneValue, updatedPerson);
+        } else {
+            regulars.remove(phoneValue);
+        }
+    }
+
+    /**
+     * Returns the customer with the given phone number, or null if there are no bookings with it.
+     */
+    public Person getPerson(Phone phone) {
+        requireNonNull(phone);
+        return customers.get(phone.value);
+    }
+
+    /**
+     * Returns true if the customer with the given phone number is a regular.
+     */
+    public boolean isRegular(Phone phone) {
+        requireNonNull(phone);
+        return regulars.containsKey(phone.value);
+    }
+
+    /**
+     * Returns an unmodifiable view of the phone numbers of all regular customers.
+     */
+    public Set<String> getRegularPhones() {
+        return Collections.unmodifiableSet(regulars.keySet());
+    }
+
+    /**
+     * Returns a list of all regular customers.
+     */
+    public ArrayList<Person> getRegularCustomers() {
+        return new ArrayList<>(regulars.values());
+    }
+}
@@ -2,11 +2,16 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.SortedMap;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.reservation.Identification;
 import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.ReservationQuery;
 import seedu.address.model.reservation.UniqueReservationList;
 
 
@@ -17,6 +22,7 @@ import seedu.address.model.reservation.UniqueReservationList;
 public class GastroBook implements ReadOnlyGastroBook {
 
     private final UniqueReservationList reservations;
+    private final ReservationChangeLog changeLog = new ReservationChangeLog();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -47,6 +53,7 @@ public class GastroBook implements ReadOnlyGastroBook {
      */
     public void setReservations(List<Reservation> reservations) {
         this.reservations.setReservations(reservations);
+        changeLog.reset();
     }
 
     /**
@@ -67,12 +74,61 @@ public class GastroBook implements ReadOnlyGastroBook {
         return reservations.contains(reservation);
     }
 
+    /**
+     * Returns the reservations on any of the given {@code dates}, in list order.
+     */
+    public List<Reservation> getReservationsOn(LocalDate... dates) {
+        return reservations.getReservationsOn(dates);
+    }
+
+    /**
+     * Returns the reservations on {@code date} that are ongoing at some minute of the day in
+     * {@code [fromMinute, toMinute)}, in list order.
+     */
+    public List<Reservation> getReservationsDuring(LocalDate date, int fromMinute, int toMinute) {
+        return reservations.getReservationsDuring(date, fromMinute, toMinute);
+    }
+
+    /**
+     * Returns the reservations matching {@code query}, in list order.
+     */
+    public List<Reservation> findReservations(ReservationQuery query) {
+        requireNonNull(query);
+        return query.findIn(reservations);
+    }
+
+    /**
+     * Returns a reservation, other than {@code ignored}, whose table is occupied at some time during
+     * {@code reservation}, if any. {@code ignored} may be null.
+     */
+    public Optional<Reservation> findTableConflict(Reservation reservation, Reservation ignored) {
+        requireNonNull(reservation);
+        return reservations.findTableConflict(reservation, ignored);
+    }
+
+    /**
+     * Returns the reservations on {@code date}, grouped by table in table order, and sorted by start time within
+     * each table.
+     */
+    public SortedMap<String, List<Reservation>> getBookingsByTable(LocalDate date) {
+        return reservations.getBookingsByTable(date);
+    }
+
+    /**
+     * Returns the reservation with the given {@code id} in the address book, if any.
+     */
+    public Optional<Reservation> findReservationById(Identification id) {
+        requireNonNull(id);
+        return reservations.findById(id);
+    }
+
     /**
      * Adds a reservation to the address book.
      * The reservation must not already exist in the address book.
      */
     public void addReservation(Reservation p) {
         reservations.add(p);
+        changeLog.record(null, p);
     }
 
     /**
@@ -84,7 +140,8 @@ public class GastroBook implements ReadOnlyGastroBook {
     public void setReservation(Reservation target, Reservation editedReservation) {
         requireNonNull(editedReservation);
 
-        reservations.setReservation(target, editedReservation);
+        Reservation replaced = reservations.setReservation(target, editedReservation);
+        changeLog.record(replaced, editedReservation);
     }
 
     /**
@@ -92,11 +149,21 @@ public class GastroBook implements ReadOnlyGastroBook {
      * {@code key} must exist in the address book.
      */
     public void removeReservation(Reservation key) {
-        reservations.remove(key);
+        changeLog.record(reservations.remove(key), null);
     }
 
     //// util methods
 
+    @Override
+    public long getVersion() {
+        return changeLog.getVersion();
+    }
+
+    @Override
+    public Optional<List<ReservationChange>> getChangesSince(long version) {
+        return changeLog.getChangesSince(version);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
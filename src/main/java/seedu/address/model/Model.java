@@ -1,15 +1,26 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedMap;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.reservation.Identification;
 import seedu.address.model.reservation.Name;
+import seedu.address.model.reservation.NameContainsKeywordsPredicate;
 import seedu.address.model.reservation.Person;
 import seedu.address.model.reservation.Phone;
+import seedu.address.model.reservation.PhoneContainsKeywordsPredicate;
 import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.ReservationQuery;
+import seedu.address.model.reservation.TagsMatchPredicate;
+import seedu.address.model.reservation.TimeMatchesPredicate;
+import seedu.address.model.reservation.exceptions.TableConflictException;
 
 /**
  * The API of the Model component.
@@ -63,20 +74,23 @@ public interface Model {
      */
     boolean hasReservation(Reservation reservation);
 
+    /**
+     * Returns the reservation with the given {@code id} in the address book, if any.
+     * Unlike {@link #getOverallReservationList()}, this does not change the filtered reservation list.
+     */
+    Optional<Reservation> findById(Identification id);
+
     /**
      * Deletes the given reservation.
      * The reservation must exist in the address book.
      */
     void deleteReservation(Reservation target);
-    /**
-     * Updates person details in PersonsList when a reservation is edited.
-     * @param oldReservation the reservation before editing
-     * @param newReservation the reservation after editing
-     */
-    void updatePersonsListAfterEdit(Reservation oldReservation, Reservation newReservation);
+
     /**
      * Adds the given reservation.
      * {@code reservation} must not already exist in the address book.
+     *
+     * @throws TableConflictException if another reservation occupies its table at some time during it.
      */
     void addReservation(Reservation reservation);
 
@@ -85,14 +99,12 @@ public interface Model {
      * {@code target} must exist in the address book.
      * The reservation identity of {@code editedReservation} must not be the same as another existing reservation
      * in the address book.
+     *
+     * @throws TableConflictException if {@code editedReservation} moves onto a table another reservation occupies
+     *     at some time during it.
      */
     void setReservation(Reservation target, Reservation editedReservation);
 
-    /**
-     * Updates person details in PersonsList when a reservation is deleted.
-     * @param deletedReservation the reservation that was deleted
-     */
-    void updatePersonsListAfterDelete(Reservation deletedReservation);
     /**
      * Returns an unmodifiable view of the filtered reservation list
      */
@@ -121,10 +133,42 @@ public interface Model {
      */
     void filterReservationsForTomorrow(Predicate<Reservation> predicate);
 
+    /**
+     * Returns the reservations on {@code date}, grouped by table in table order, and sorted by start time within
+     * each table.
+     */
+    SortedMap<String, List<Reservation>> getBookingsByTable(LocalDate date);
+
+    /**
+     * Filters reservations for today that are ongoing during the times searched by {@code predicate}.
+     */
+    void filterReservationsOngoingToday(TimeMatchesPredicate predicate);
+
+    /**
+     * Filters reservations for today or tomorrow made under a name matched by {@code predicate}.
+     */
+    void filterReservationsByName(NameContainsKeywordsPredicate predicate);
+
+    /**
+     * Filters reservations for today or tomorrow made under a phone number matched by {@code predicate}.
+     */
+    void filterReservationsByPhone(PhoneContainsKeywordsPredicate predicate);
+
+    /**
+     * Filters reservations for today or tomorrow carrying the tags matched by {@code predicate}.
+     */
+    void filterReservationsByTag(TagsMatchPredicate predicate);
+
+    /**
+     * Filters reservations, on any date, to those matching every criterion of {@code query}.
+     */
+    void filterReservations(ReservationQuery query);
+
     // New methods for PersonsList
 
     /**
-     * Returns true if a person with the same identity as {@code person} exists in the persons list.
+     * Returns true if a person with the same phone number as {@code person} has a booking in the address book
+     * or exists in the persons list.
      */
     boolean hasPerson(Person person);
 
@@ -135,9 +179,10 @@ public interface Model {
     void addPerson(Person person);
 
     /**
-     * Records a booking for the specified person.
+     * Records a booking for the specified person in the persons list.
      * If the person doesn't exist, creates a new person.
-     * Updates booking count and regular status.
+     * Updates booking count and regular status there; the counts shown for customers are derived from the
+     * reservations instead, and are not affected.
      * @param name Name of the person
      * @param phone Phone number of the person
      * @return The updated or newly created Person
@@ -145,10 +190,15 @@ public interface Model {
     Person recordBooking(Name name, Phone phone);
 
     /**
-     * Returns a list of all regular customers.
+     * Returns a list of all regular customers, derived from the reservations in the address book.
      */
     ArrayList<Person> getRegularCustomers();
 
+    /**
+     * Returns true if the customer with the given phone number is a regular.
+     */
+    boolean isRegularCustomer(Phone phone);
+
     /**
      * Returns the list of all persons.
      */
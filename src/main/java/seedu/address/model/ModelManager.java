@@ -4,18 +4,34 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedMap;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.reservation.Identification;
 import seedu.address.model.reservation.Name;
+import seedu.address.model.reservation.NameContainsKeywordsPredicate;
 import seedu.address.model.reservation.Person;
 import seedu.address.model.reservation.Phone;
+import seedu.address.model.reservation.PhoneContainsKeywordsPredicate;
 import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.ReservationQuery;
+import seedu.address.model.reservation.TagsMatchPredicate;
+import seedu.address.model.reservation.TimeMatchesPredicate;
+import seedu.address.model.reservation.exceptions.DuplicateReservationException;
+import seedu.address.model.reservation.exceptions.TableConflictException;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -25,16 +41,40 @@ public class ModelManager implements Model {
 
     private final GastroBook gastroBook;
     private final PersonsList personsList;
-    private final PersonsListManager personsListManager;
+    private final CustomerBookings customerBookings;
     private final UserPrefs userPrefs;
     private final FilteredList<Reservation> filteredReservations;
 
+    // The past reservations the book was started without, and their customers, counted until they are loaded
+    private final ReservationHistory history;
+    private final List<Person> historyCustomers;
+    private boolean isHistoryLoaded;
+
+    // The reservations the filtered list picks from: either the whole book, or only the reservations on
+    // windowDates, taken straight from the book's date buckets. If windowTimes is set, only the reservations
+    // ongoing during those times are taken, from the book's interval index. If windowLookup is set, only the
+    // reservations it looks up in one of the book's other indexes, which are those matched by windowMatch, are taken.
+    private final ObservableList<Reservation> windowedReservations = FXCollections.observableArrayList();
+    private List<LocalDate> windowDates;
+    private TimeMatchesPredicate windowTimes;
+    private Predicate<Reservation> windowMatch;
+    private Supplier<List<Reservation>> windowLookup;
+
 
     /**
      * Initializes a ModelManager with the given addressBook, personsList and userPrefs.
      */
     public ModelManager(ReadOnlyGastroBook addressBook, PersonsList personsList, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, personsList, userPrefs);
+        this(addressBook, personsList, userPrefs, ReservationHistory.NONE);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook, personsList and userPrefs, where the reservations
+     * before those in addressBook are in {@code history}, which is loaded once any of them are needed.
+     */
+    public ModelManager(ReadOnlyGastroBook addressBook, PersonsList personsList, ReadOnlyUserPrefs userPrefs,
+                        ReservationHistory history) {
+        requireAllNonNull(addressBook, personsList, userPrefs, history);
 
         logger.fine("Initializing with address book: " + addressBook + ", persons list: "
                 + personsList
@@ -42,9 +82,13 @@ public class ModelManager implements Model {
 
         this.gastroBook = new GastroBook(addressBook);
         this.personsList = personsList;
-        this.personsListManager = new PersonsListManager(personsList);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredReservations = new FilteredList<>(this.gastroBook.getReservationList());
+        this.history = history;
+        this.historyCustomers = history.getBookingCounts();
+        this.customerBookings = new CustomerBookings(this.gastroBook.getReservationList(), historyCustomers);
+        windowedReservations.setAll(this.gastroBook.getReservationList());
+        this.gastroBook.getReservationList().addListener(this::updateWindowedReservations);
+        filteredReservations = new FilteredList<>(windowedReservations);
     }
 
     /**
@@ -97,7 +141,7 @@ public class ModelManager implements Model {
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
-        return personsList.hasPerson(person);
+        return customerBookings.getPerson(person.getPhone()) != null || personsList.hasPerson(person);
     }
 
     @Override
@@ -112,7 +156,12 @@ public class ModelManager implements Model {
 
     @Override
     public ArrayList<Person> getRegularCustomers() {
-        return personsList.getRegularCustomers();
+        return customerBookings.getRegularCustomers();
+    }
+
+    @Override
+    public boolean isRegularCustomer(Phone phone) {
+        return customerBookings.isRegular(phone);
     }
 
     public PersonsList getPersonsList() {
@@ -123,6 +172,8 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyGastroBook addressBook) {
+        // The history is loaded first, so that the new data replaces it too when saved
+        loadHistory();
         this.gastroBook.resetData(addressBook);
     }
 
@@ -134,37 +185,38 @@ public class ModelManager implements Model {
     @Override
     public boolean hasReservation(Reservation reservation) {
         requireNonNull(reservation);
+        loadHistoryIfBefore(reservation.getDate().toLocalDate());
         return gastroBook.hasReservation(reservation);
     }
+
     @Override
-    public void updatePersonsListAfterDelete(Reservation deletedReservation) {
-        personsListManager.updatePersonsListAfterDelete(deletedReservation);
+    public Optional<Reservation> findById(Identification id) {
+        requireNonNull(id);
+        Optional<Reservation> reservation = gastroBook.findReservationById(id);
+        if (reservation.isPresent() || isHistoryLoaded) {
+            return reservation;
+        }
+        loadHistory();
+        return gastroBook.findReservationById(id);
     }
+
     @Override
-    public void deleteReservation(Reservation target) {
-        gastroBook.removeReservation(target);
+    public SortedMap<String, List<Reservation>> getBookingsByTable(LocalDate date) {
+        requireNonNull(date);
+        loadHistoryIfBefore(date);
+        return gastroBook.getBookingsByTable(date);
     }
 
-    /**
-     * Updates person details in PersonsList when a reservation is edited.
-     * @param oldReservation the reservation before editing
-     * @param newReservation the reservation after editing
-     */
     @Override
-    public void updatePersonsListAfterEdit(Reservation oldReservation, Reservation newReservation) {
-
-        personsListManager.updatePersonsListAfterEdit(oldReservation, newReservation);
+    public void deleteReservation(Reservation target) {
+        gastroBook.removeReservation(target);
     }
 
     @Override
     public void addReservation(Reservation reservation) {
+        requireNonNull(reservation);
+        checkTableFree(reservation, null);
         gastroBook.addReservation(reservation);
-
-        // Update customer booking history when adding a reservation
-        Name customerName = reservation.getName();
-        Phone customerPhone = reservation.getPhone();
-        recordBooking(customerName, customerPhone);
-
         updateFilteredReservationList(PREDICATE_SHOW_ALL_RESERVATIONS);
     }
 
@@ -172,9 +224,72 @@ public class ModelManager implements Model {
     public void setReservation(Reservation target, Reservation editedReservation) {
         requireAllNonNull(target, editedReservation);
 
+        // Only a change to when or where the party sits can make it clash with another booking
+        if (isOccupancyChanged(target, editedReservation)) {
+            checkTableFree(editedReservation, target);
+        }
         gastroBook.setReservation(target, editedReservation);
     }
 
+    /**
+     * Throws a {@code TableConflictException} if a reservation other than {@code ignored}, which may be null,
+     * occupies the table of {@code reservation} at some time during it.
+     */
+    private void checkTableFree(Reservation reservation, Reservation ignored) {
+        loadHistoryIfBefore(reservation.getDate().toLocalDate());
+        Optional<Reservation> conflict = gastroBook.findTableConflict(reservation, ignored);
+        if (conflict.isPresent()) {
+            throw new TableConflictException(conflict.get());
+        }
+    }
+
+    private static boolean isOccupancyChanged(Reservation target, Reservation editedReservation) {
+        return !target.getTable().equals(editedReservation.getTable())
+                || !target.getDate().equals(editedReservation.getDate())
+                || !target.getTime().equals(editedReservation.getTime())
+                || !target.getDuration().equals(editedReservation.getDuration());
+    }
+
+    /**
+     * Loads the history if {@code date} is in it.
+     */
+    private void loadHistoryIfBefore(LocalDate date) {
+        if (!isHistoryLoaded && date.isBefore(history.getLoadedFrom())) {
+            loadHistory();
+        }
+    }
+
+    /**
+     * Adds the reservations in the history to the book, ahead of those already in it, if they are not yet there.
+     * If the history cannot be loaded, the book goes on without it, and loading is tried again when next needed.
+     */
+    private void loadHistory() {
+        if (isHistoryLoaded) {
+            return;
+        }
+
+        List<Reservation> reservations;
+        try {
+            reservations = new ArrayList<>(history.load());
+        } catch (DataLoadingException e) {
+            logger.warning("Past reservations could not be loaded: " + e.getMessage());
+            return;
+        }
+        int historySize = reservations.size();
+        reservations.addAll(gastroBook.getReservationList());
+
+        try {
+            gastroBook.setReservations(reservations);
+        } catch (DuplicateReservationException e) {
+            logger.warning("Past reservations clash with those already loaded: " + e.getMessage());
+            return;
+        }
+        // The customers are now counted from the reservations themselves
+        customerBookings.removeEarlierBookings(historyCustomers);
+        isHistoryLoaded = true;
+        logger.info("Loaded " + historySize + " past reservations");
+    }
+
     //=========== Filtered Reservation List Accessors =============================================================
 
     /**
@@ -195,35 +310,208 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredReservationList(Predicate<Reservation> predicate) {
         requireNonNull(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_RESERVATIONS) {
+            LocalDate today = LocalDate.now();
+            showReservationsOn(today, today.plusDays(1));
+            filteredReservations.setPredicate(null);
+            return;
+        }
+        showWholeBook();
         filteredReservations.setPredicate(predicate);
     }
 
     @Override
     public void filterReservationsForToday(Predicate<Reservation> predicate) {
         requireNonNull(predicate);
-        Predicate<Reservation> todayPredicate = ReservationsFilter.filterForToday(filteredReservations);
-        filteredReservations.setPredicate(todayPredicate);
+        showReservationsOn(LocalDate.now());
+        filteredReservations.setPredicate(null);
     }
 
     @Override
     public void filterReservationsForTomorrow(Predicate<Reservation> predicate) {
         requireNonNull(predicate);
-        Predicate<Reservation> tomorrowPredicate = ReservationsFilter.filterForTomorrow(filteredReservations);
-        filteredReservations.setPredicate(tomorrowPredicate);
+        showReservationsOn(LocalDate.now().plusDays(1));
+        filteredReservations.setPredicate(null);
     }
 
     @Override
     public void filterReservationsByRegular(Predicate<Reservation> predicate) {
         requireNonNull(predicate);
-        Predicate<Reservation> regularPredicate = ReservationsFilter.filterByRegular(personsList);
+        LocalDate today = LocalDate.now();
+        showReservationsOn(today, today.plusDays(1));
+        Predicate<Reservation> regularPredicate = ReservationsFilter.filterByRegular(customerBookings);
         filteredReservations.setPredicate(regularPredicate);
     }
+
+    @Override
+    public void filterReservationsOngoingToday(TimeMatchesPredicate predicate) {
+        requireNonNull(predicate);
+        showReservationsOngoing(LocalDate.now(), predicate);
+        filteredReservations.setPredicate(null);
+    }
+
+    @Override
+    public void filterReservationsByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        LocalDate today = LocalDate.now();
+        // Planned like a query, so that the name index is only used when it gives fewer candidates than the
+        // reservations on the two days do
+        showReservationsFound(new ReservationQuery.Builder()
+                .withNames(predicate)
+                .withDates(today, today.plusDays(1))
+                .build());
+        filteredReservations.setPredicate(null);
+    }
+
+    @Override
+    public void filterReservationsByPhone(PhoneContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        LocalDate today = LocalDate.now();
+        showReservationsFound(new ReservationQuery.Builder()
+                .withPhones(predicate)
+                .withDates(today, today.plusDays(1))
+                .build());
+        filteredReservations.setPredicate(null);
+    }
+
+    @Override
+    public void filterReservationsByTag(TagsMatchPredicate predicate) {
+        requireNonNull(predicate);
+        LocalDate today = LocalDate.now();
+        showReservationsFound(new ReservationQuery.Builder()
+                .withTags(predicate)
+                .withDates(today, today.plusDays(1))
+                .build());
+        filteredReservations.setPredicate(null);
+    }
+
+    @Override
+    public void filterReservations(ReservationQuery query) {
+        requireNonNull(query);
+        Optional<LocalDate> fromDate = query.getFromDate();
+        if (fromDate.isPresent()) {
+            loadHistoryIfBefore(fromDate.get());
+        } else {
+            loadHistory();
+        }
+        showReservationsFound(query);
+        filteredReservations.setPredicate(null);
+    }
+
     @Override
     public void filterPreviousReservations(Predicate<Reservation> predicate) {
+        showWholeBook();
         Predicate<Reservation> previousPredicate = ReservationsFilter.filterForPrevious();
         filteredReservations.setPredicate(previousPredicate);
     }
 
+    /**
+     * Narrows the reservations the filtered list picks from to those on {@code dates}.
+     */
+    private void showReservationsOn(LocalDate... dates) {
+        windowDates = List.of(dates);
+        windowTimes = null;
+        windowMatch = null;
+        windowLookup = null;
+        refreshWindow();
+    }
+
+    /**
+     * Narrows the reservations the filtered list picks from to those on {@code date} that are ongoing during
+     * the times searched by {@code times}.
+     */
+    private void showReservationsOngoing(LocalDate date, TimeMatchesPredicate times) {
+        windowDates = List.of(date);
+        windowTimes = times;
+        windowMatch = null;
+        windowLookup = null;
+        refreshWindow();
+    }
+
+    /**
+     * Narrows the reservations the filtered list picks from to those matched by {@code match}, which
+     * {@code lookup} looks up from the book, in list order.
+     */
+    private void showReservationsMatching(Predicate<Reservation> match, Supplier<List<Reservation>> lookup) {
+        windowDates = null;
+        windowTimes = null;
+        windowMatch = match;
+        windowLookup = lookup;
+        refreshWindow();
+    }
+
+    /**
+     * Narrows the reservations the filtered list picks from to those matching {@code query}, which the book finds
+     * through whichever of its indexes the query's plan expects to give the fewest candidates.
+     */
+    private void showReservationsFound(ReservationQuery query) {
+        showReservationsMatching(query, () -> gastroBook.findReservations(query));
+    }
+
+    private void refreshWindow() {
+        if (windowLookup != null) {
+            windowedReservations.setAll(windowLookup.get());
+            return;
+        }
+        if (windowTimes == null) {
+            windowedReservations.setAll(gastroBook.getReservationsOn(windowDates.toArray(new LocalDate[0])));
+            return;
+        }
+        windowedReservations.setAll(gastroBook.getReservationsDuring(windowDates.get(0),
+                windowTimes.getSearchStartMinute(), windowTimes.getSearchEndMinute()));
+    }
+
+    /**
+     * Lets the filtered list pick from every reservation in the book.
+     */
+    private void showWholeBook() {
+        loadHistory();
+        if (isWholeBookShown()) {
+            return;
+        }
+        windowDates = null;
+        windowTimes = null;
+        windowMatch = null;
+        windowLookup = null;
+        windowedReservations.setAll(gastroBook.getReservationList());
+    }
+
+    /**
+     * Keeps {@code windowedReservations} in step with changes to the reservations in the book.
+     */
+    private void updateWindowedReservations(ListChangeListener.Change<? extends Reservation> change) {
+        if (isWholeBookShown()) {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    windowedReservations.setAll(gastroBook.getReservationList());
+                    return;
+                }
+                int from = change.getFrom();
+                windowedReservations.remove(from, from + change.getRemovedSize());
+                windowedReservations.addAll(from, change.getAddedSubList());
+            }
+            return;
+        }
+
+        boolean isWindowChanged = false;
+        while (change.next()) {
+            isWindowChanged |= change.getRemoved().stream().anyMatch(this::isInWindow)
+                    || change.getAddedSubList().stream().anyMatch(this::isInWindow);
+        }
+        if (isWindowChanged) {
+            refreshWindow();
+        }
+    }
+
+    private boolean isWholeBookShown() {
+        return windowDates == null && windowLookup == null;
+    }
+
+    private boolean isInWindow(Reservation reservation) {
+        return (windowDates == null || windowDates.contains(reservation.getDate().toLocalDate()))
+                && (windowMatch == null || windowMatch.test(reservation));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
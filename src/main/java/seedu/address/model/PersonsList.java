@@ -1,168 +1,189 @@
 package seedu.address.model;
 
-import java.io.File;
-import java.io.FileWriter;
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.type.CollectionType;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.reservation.Name;
 import seedu.address.model.reservation.Person;
 import seedu.address.model.reservation.Phone;
 
 /**
- * Represents a list of persons who have made reservations.
- * Tracks booking frequency and regular customer status.
+ * Represents a list of persons kept apart from the reservations, in a file of its own.
+ *
+ * The booking counts and regular status shown for customers are no longer taken from here, but derived from the
+ * reservations by {@link CustomerBookings}, so no command writes to this list. It still holds the persons added
+ * through {@link Model#addPerson(Person)} and {@link Model#recordBooking(Name, Phone)}, and those read from the
+ * persons file of earlier versions, which {@link Model#hasPerson(Person)} goes on recognising as known customers.
+ *
+ * Persons are held in memory, keyed by phone number. A list backed by a file is read from it once, when created.
+ * Mutations then only mark the list as dirty and schedule a write; a background flusher writes the whole list to
+ * the file once per {@link #FLUSH_DELAY_MILLIS} window, so a burst of bookings costs a single file write. Call
+ * {@link #flush()} to write pending changes immediately, e.g. on shutdown. A list created without a file is only
+ * kept in memory.
  */
 public class PersonsList {
     public static final int REGULAR_CUSTOMER_THRESHOLD = 3;
+    public static final Path DEFAULT_FILE_PATH = Paths.get("data", "personslist.json");
+    static final long FLUSH_DELAY_MILLIS = 500;
     private static final Logger logger = LogsCenter.getLogger(PersonsList.class);
-    private static final Path PERSONS_FILE_PATH = Paths.get("data", "personslist.json");
-    private static ArrayList<Person> personsList;
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final ObjectWriter PRETTY_WRITER = MAPPER.writerWithDefaultPrettyPrinter();
+    private static final ObjectWriter COMPACT_WRITER = MAPPER.writer();
+    private static final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "PersonsList-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static volatile boolean isCompactOutput;
+
+    // The file the list is kept in, or null if it is only kept in memory
+    private final Path filePath;
+
+    // All access to the fields below that can race with the flusher is guarded by this object's lock.
+    private final Map<String, Person> personsList = new LinkedHashMap<>();
+    private final Object writeLock = new Object();
+    private ScheduledFuture<?> pendingFlush;
+    private boolean isDirty;
 
     /**
-     * Initializes a PersonsList.
+     * Initializes an empty PersonsList that is only kept in memory.
      */
     public PersonsList() {
+        filePath = null;
+    }
+
+    /**
+     * Initializes a PersonsList kept in the file at {@code filePath}, reading the persons already in it.
+     */
+    public PersonsList(Path filePath) {
+        this.filePath = requireNonNull(filePath);
+
         // Create data directory if it doesn't exist
         try {
-            Files.createDirectories(PERSONS_FILE_PATH.getParent());
+            FileUtil.createParentDirsOfFile(filePath);
         } catch (IOException e) {
             logger.warning("Could not create data directory: " + e.getMessage());
         }
 
-        // Initialize with empty list
-        this.personsList = new ArrayList<>();
-
         // Load from file if it exists
         loadListFromFile();
     }
 
-
     /**
-     * Updates a person in the file if they exist, otherwise adds them.
-     * This method preserves ALL existing entries in the file.
+     * Sets whether the persons file is written without indentation from the next write on.
      */
-    private void updatePhoneInFileAndKeepOthers(Person person) {
-        try {
-            // First check if file exists and has content
-            File file = PERSONS_FILE_PATH.toFile();
-            if (!file.exists() || file.length() == 0) {
-                // Create new file with just this person
-                ArrayList<Person> newList = new ArrayList<>();
-                newList.add(person);
-
-                ObjectMapper mapper = new ObjectMapper();
-                mapper.enable(SerializationFeature.INDENT_OUTPUT);
-                mapper.writeValue(file, newList);
-
-                logger.info("Created new file with first person: " + person.getName().getFullName());
-                return;
-            }
-
-            // Read the existing file content
-            ObjectMapper mapper = new ObjectMapper();
-            CollectionType listType = mapper.getTypeFactory()
-                    .constructCollectionType(ArrayList.class, Person.class);
+    public static void setCompactOutput(boolean isCompact) {
+        isCompactOutput = isCompact;
+    }
 
-            ArrayList<Person> filePersons;
-            try {
-                filePersons = mapper.readValue(file, listType);
-            } catch (Exception e) {
-                logger.warning("Could not parse file, resetting: " + e.getMessage());
-                ArrayList<Person> newList = new ArrayList<>();
-                newList.add(person);
-                mapper.enable(SerializationFeature.INDENT_OUTPUT);
-                mapper.writeValue(file, newList);
-                return;
+    /**
+     * Marks the list as changed and schedules a write to file if none is pending.
+     */
+    private void markDirty() {
+        if (filePath == null) {
+            return;
+        }
+        synchronized (this) {
+            isDirty = true;
+            if (pendingFlush == null) {
+                pendingFlush = flusher.schedule(this::flush, FLUSH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
             }
+        }
+    }
 
-            // Check what kind of operation this is
-            boolean isUpdateForExisting = false;
-            String targetPhone = person.getPhone().value;
-
-            // Check if this phone number exists in the file already
-            for (Person p : filePersons) {
-                if (p.getPhone().value.equals(targetPhone)) {
-                    isUpdateForExisting = true;
-                    break;
+    /**
+     * Writes any pending changes to file immediately.
+     */
+    public void flush() {
+        // Snapshots are taken and written under the same lock so an older snapshot never overwrites a newer one.
+        synchronized (writeLock) {
+            ArrayList<Person> snapshot;
+            synchronized (this) {
+                if (pendingFlush != null) {
+                    pendingFlush.cancel(false);
+                    pendingFlush = null;
                 }
+                if (!isDirty) {
+                    return;
+                }
+                snapshot = new ArrayList<>(personsList.values());
+                isDirty = false;
             }
+            writeToFile(snapshot);
+        }
+    }
 
-            // make a copy of the existing list
-            ArrayList<Person> updatedList = new ArrayList<>(filePersons);
-
-            if (isUpdateForExisting) {
-                // For existing phone numbers, add the updated entry
-                updatedList.add(person);
-                logger.info("Added updated entry for existing person: " + person.getName().getFullName());
-            } else {
-                // For new phone numbers, add to the list
-                updatedList.add(person);
-                logger.info("Added new person to file: " + person.getName().getFullName());
-            }
-
-            // Write the updated list
-            mapper.enable(SerializationFeature.INDENT_OUTPUT);
-            mapper.writeValue(file, updatedList);
-
-            logger.info("File now contains " + updatedList.size() + " entries (previous: " + filePersons.size() + ")");
-
+    /**
+     * Writes {@code persons} to the persons file, which is replaced in one step once the new content is on the disk,
+     * so that a crash mid-write never leaves a truncated file behind.
+     */
+    private void writeToFile(ArrayList<Person> persons) {
+        try {
+            ObjectWriter writer = isCompactOutput ? COMPACT_WRITER : PRETTY_WRITER;
+            FileUtil.writeAtomically(filePath, out -> writer.writeValue(out, persons),
+                    true, FileUtil.BACKUP_GENERATIONS);
+            logger.fine("Saved persons list with " + persons.size() + " entries");
         } catch (IOException e) {
-            logger.severe("Failed to update file: " + e.getMessage());
-            e.printStackTrace();
+            logger.severe("Failed to save persons list: " + e.getMessage());
         }
     }
 
     /**
      * Returns true if a person with the same phone number exists in the list.
      */
-    public boolean hasPerson(Person person) {
+    public synchronized boolean hasPerson(Person person) {
         if (person == null) {
             throw new NullPointerException();
         }
 
-        for (Person p : personsList) {
-            if (p.getPhone().value.equals(person.getPhone().value)) {
-                return true;
-            }
-        }
-        return false;
+        return personsList.containsKey(person.getPhone().value);
     }
 
     /**
      * Returns a person with the given phone number.
      */
-    public static Person getPerson(Phone phone) {
+    public synchronized Person getPerson(Phone phone) {
         if (phone == null) {
             throw new NullPointerException();
         }
 
-        for (Person p : personsList) {
-            if (p.getPhone().value.equals(phone.value)) {
-                return p;
-            }
-        }
-        return null;
+        return personsList.get(phone.value);
     }
 
 
     /**
-     * Adds a person to the persons list and to the file.
+     * Adds a person to the persons list, replacing any person with the same phone number.
      */
     public void addPerson(Person p) {
-        personsList.add(p);
-        updatePhoneInFileAndKeepOthers(p);
-        logger.info("Added person: " + p.getName().getFullName());
+        synchronized (this) {
+            personsList.put(p.getPhone().value, p);
+        }
+        markDirty();
+        logger.fine("Added person: " + p.getName().getFullName());
     }
 
 
@@ -170,151 +191,96 @@ public class PersonsList {
      * Records a booking for a person, updating their counter and regular status if needed.
      */
     public Person recordBooking(Name name, Phone phone) {
-        logger.info("Recording booking for " + name.getFullName() + " with phone " + phone.value);
-
-        // Check if person already exists
-        Person existingPerson = null;
-        int existingIndex = -1;
-
-        for (int i = 0; i < personsList.size(); i++) {
-            if (personsList.get(i).getPhone().value.equals(phone.value)) {
-                existingPerson = personsList.get(i);
-                existingIndex = i;
-                logger.info("Found existing person with phone " + phone.value
-                        + ", current counter: " + existingPerson.getCounter());
-                break;
-            }
-        }
+        logger.fine("Recording booking for " + name.getFullName() + " with phone " + phone.value);
 
         Person resultPerson;
+        synchronized (this) {
+            Person existingPerson = personsList.get(phone.value);
+            int newCount = existingPerson == null ? 1 : existingPerson.getCounter() + 1;
 
-        if (existingPerson != null) {
-            // Update existing person
-            int newCount = existingPerson.getCounter() + 1;
-            boolean isNowRegular = newCount >= REGULAR_CUSTOMER_THRESHOLD;
-
-            logger.info("Incrementing counter from " + existingPerson.getCounter() + " to " + newCount);
-
-            // Create updated person
             resultPerson = new Person(name, phone);
             resultPerson.setCounter(newCount);
-            resultPerson.setIsRegular(isNowRegular);
-
-            // Replace in memory list
-            personsList.set(existingIndex, resultPerson);
-        } else {
-            // Create new person
-            resultPerson = new Person(name, phone);
-            resultPerson.setCounter(1);
-            resultPerson.setIsRegular(false);
-
-            logger.info("Creating new person with phone " + phone.value);
+            resultPerson.setIsRegular(newCount >= REGULAR_CUSTOMER_THRESHOLD);
 
-            // Add to memory list
-            personsList.add(resultPerson);
+            // An existing person keeps their position in the list
+            personsList.put(phone.value, resultPerson);
         }
-
-        // save the entire list to file after updating memory
-        savePersonsToFile();
+        markDirty();
 
         return resultPerson;
     }
 
     /**
-     * Saves the persons list to file.
+     * Loads the persons list from file.
+     * For entries with the same phone number, picks the one with the highest counter.
+     * If the file cannot be read, the earlier versions of it kept by each write are read instead. If none can be
+     * read, the list starts empty, and the unreadable file is copied aside so that the next write does not lose it.
      */
-    public void savePersonsToFile() {
-        try {
-            logger.info("Saving persons list with " + personsList.size() + " entries");
+    private void loadListFromFile() {
+        List<Path> generations = FileUtil.getGenerations(filePath);
+        for (Path generation : generations) {
+            try {
+                ArrayList<Person> loadedPersons = readPersons(generation);
 
-            // Create parent directories if they don't exist
-            Files.createDirectories(PERSONS_FILE_PATH.getParent());
+                // For each phone number, keep the entry with the highest counter
+                Map<String, Person> phoneToPersonMap = new LinkedHashMap<>();
+                for (Person p : loadedPersons) {
+                    String phoneValue = p.getPhone().value;
 
-            // Create the file if it doesn't exist
-            File file = PERSONS_FILE_PATH.toFile();
-            if (!file.exists()) {
-                file.createNewFile();
-                logger.info("Created new persons file");
-            }
+                    if (!phoneToPersonMap.containsKey(phoneValue)
+                            || p.getCounter() > phoneToPersonMap.get(phoneValue).getCounter()) {
+                        phoneToPersonMap.put(phoneValue, p);
+                    }
+                }
 
-            // Write the current in-memory list to file
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.enable(SerializationFeature.INDENT_OUTPUT);
-            mapper.writeValue(file, personsList);
+                replaceAll(phoneToPersonMap);
 
-            logger.info("Successfully saved persons list to file");
+                logger.info("Loaded " + personsList.size() + " unique persons from " + loadedPersons.size()
+                        + " entries in " + generation);
+                return;
+            } catch (IOException e) {
+                logger.warning("Error loading persons list from " + generation + ": " + e.getMessage());
+            }
+        }
+
+        try {
+            if (Files.exists(filePath)) {
+                Path corruptFile = filePath.resolveSibling(filePath.getFileName() + ".corrupt");
+                Files.copy(filePath, corruptFile, StandardCopyOption.REPLACE_EXISTING);
+                logger.warning("Kept unreadable persons list as " + corruptFile);
+            } else {
+                FileUtil.writeToFile(filePath, "[]");
+                logger.info("Created new empty persons file with empty array");
+            }
         } catch (IOException e) {
-            logger.severe("Failed to save persons list: " + e.getMessage());
-            e.printStackTrace();
+            logger.warning("Error preparing persons file: " + e.getMessage());
         }
+        replaceAll(new LinkedHashMap<>());
     }
 
     /**
-     * Loads the persons list from file.
-     * For entries with the same phone number, picks the one with the highest counter.
+     * Returns the persons in {@code file}, which holds none if it is empty.
      */
-    void loadListFromFile() {
-        try {
-            File personsFile = PERSONS_FILE_PATH.toFile();
-            if (personsFile.exists() && personsFile.length() > 0) {
-                ObjectMapper mapper = new ObjectMapper();
-                mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-                CollectionType listType = mapper.getTypeFactory()
-                        .constructCollectionType(ArrayList.class, Person.class);
-
-                ArrayList<Person> loadedPersons = mapper.readValue(personsFile, listType);
-                if (loadedPersons != null) {
-                    // for debug
-                    logger.info("Read " + loadedPersons.size() + " total entries from file");
-                    for (Person p : loadedPersons) {
-                        logger.info("  Entry: " + p.getName().getFullName()
-                                + ", phone: " + p.getPhone().value
-                                + ", counter: " + p.getCounter());
-                    }
-
-                    // For each phone number, keep the entry with the highest counter
-                    java.util.Map<String, Person> phoneToPersonMap = new java.util.HashMap<>();
-
-                    for (Person p : loadedPersons) {
-                        String phoneValue = p.getPhone().value;
-
-                        if (!phoneToPersonMap.containsKey(phoneValue)
-                                || p.getCounter() > phoneToPersonMap.get(phoneValue).getCounter()) {
-                            phoneToPersonMap.put(phoneValue, p);
-                        }
-                    }
-
-                    // Convert the map values to list
-                    this.personsList = new ArrayList<>(phoneToPersonMap.values());
-
-                    logger.info("Loaded " + personsList.size() + " unique persons from file, prioritizing "
-                            + "highest counter values");
-                    for (Person p : personsList) {
-                        logger.info("  Loaded: " + p.getName().getFullName()
-                                + ", phone: " + p.getPhone().value
-                                + ", counter: " + p.getCounter());
-                    }
-                }
-            } else {
-                // Create empty file if it doesn't exist
-                if (!personsFile.exists()) {
-                    Files.createDirectories(personsFile.getParentFile().toPath());
-                    personsFile.createNewFile();
-
-                    // Initialize with empty array
-                    FileWriter writer = new FileWriter(personsFile);
-                    writer.write("[]");
-                    writer.close();
+    private static ArrayList<Person> readPersons(Path file) throws IOException {
+        if (Files.size(file) == 0) {
+            return new ArrayList<>();
+        }
 
-                    logger.info("Created new empty persons file with empty array");
-                }
+        CollectionType listType = MAPPER.getTypeFactory().constructCollectionType(ArrayList.class, Person.class);
+        ArrayList<Person> loadedPersons;
+        try (InputStream in = FileUtil.openForReading(file)) {
+            loadedPersons = MAPPER.readValue(in, listType);
+        }
+        return loadedPersons == null ? new ArrayList<>() : loadedPersons;
+    }
 
-                this.personsList = new ArrayList<>();
-            }
-        } catch (IOException e) {
-            logger.warning("Error loading persons list: " + e.getMessage());
-            e.printStackTrace();
-            this.personsList = new ArrayList<>();
+    /**
+     * Replaces the in-memory persons with {@code persons}, which are already in sync with the file.
+     */
+    private void replaceAll(Map<String, Person> persons) {
+        synchronized (this) {
+            personsList.clear();
+            personsList.putAll(persons);
         }
     }
 
@@ -322,28 +288,40 @@ public class PersonsList {
      * Removes a person from the list.
      */
     public void removePerson(Person key) {
-        boolean removed = personsList.remove(key);
+        boolean removed;
+        synchronized (this) {
+            removed = personsList.remove(key.getPhone().value, key);
+        }
 
         if (removed) {
-            // Save updated list to file
-            savePersonsToFile();
-            logger.info("Removed person: " + key.getName().getFullName());
+            markDirty();
+            logger.fine("Removed person: " + key.getName().getFullName());
+        }
+    }
+
+    /**
+     * Removes all persons from the list.
+     */
+    void clear() {
+        synchronized (this) {
+            personsList.clear();
         }
+        markDirty();
     }
 
     /**
      * Returns a copy of the persons list.
      */
-    public ArrayList<Person> getPersonsList() {
-        return new ArrayList<>(personsList);
+    public synchronized ArrayList<Person> getPersonsList() {
+        return new ArrayList<>(personsList.values());
     }
 
     /**
      * Returns a list of all regular customers (persons with isRegular set to true).
      */
-    public ArrayList<Person> getRegularCustomers() {
+    public synchronized ArrayList<Person> getRegularCustomers() {
         ArrayList<Person> regulars = new ArrayList<>();
-        for (Person person : personsList) {
+        for (Person person : personsList.values()) {
             if (person.getCounter() >= getRegularCustomerThreshold()) {
                 regulars.add(person);
             }
@@ -368,7 +346,7 @@ public class PersonsList {
     @Override
     public String toString() {
         int regularCount = 0;
-        for (Person p : personsList) {
+        for (Person p : personsList.values()) {
             if (p.isRegular()) {
                 regularCount++;
             }
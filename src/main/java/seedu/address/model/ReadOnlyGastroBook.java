@@ -1,5 +1,8 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.reservation.Reservation;
 
@@ -14,5 +17,19 @@ public interface ReadOnlyGastroBook {
      */
     ObservableList<Reservation> getReservationList();
 
+    /**
+     * Returns a number that changes whenever the reservations in this book change, so that callers can tell
+     * whether the book has changed since they last looked at it.
+     */
+    long getVersion();
+
+    /**
+     * Returns the changes made to the reservations since this book was at {@code version}, oldest first, or an
+     * empty {@code Optional} if they are not known, in which case the whole reservation list must be gone through
+     * instead.
+     */
+    default Optional<List<ReservationChange>> getChangesSince(long version) {
+        return Optional.empty();
+    }
 
 }
@@ -0,0 +1,48 @@
+package seedu.address.model;
+
+import java.util.Optional;
+
+import seedu.address.model.reservation.Reservation;
+
+/**
+ * A single change to the reservations of a GastroBook: a reservation added, a reservation removed, or a reservation
+ * replaced in place by an edited one.
+ */
+public class ReservationChange {
+
+    private final long version;
+    private final Reservation removed;
+    private final Reservation added;
+
+    /**
+     * Creates a change that took its book to {@code version}, removing {@code removed} and adding {@code added} in
+     * its place. Either may be null, but not both.
+     */
+    public ReservationChange(long version, Reservation removed, Reservation added) {
+        assert removed != null || added != null;
+        this.version = version;
+        this.removed = removed;
+        this.added = added;
+    }
+
+    /**
+     * Returns the version of the book right after this change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the reservation this change removed, which is the very object that was in the book, if any.
+     */
+    public Optional<Reservation> getRemoved() {
+        return Optional.ofNullable(removed);
+    }
+
+    /**
+     * Returns the reservation this change added, if any.
+     */
+    public Optional<Reservation> getAdded() {
+        return Optional.ofNullable(added);
+    }
+}
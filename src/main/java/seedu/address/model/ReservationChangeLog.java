@@ -0,0 +1,93 @@
+package seedu.address.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import seedu.address.model.reservation.Reservation;
+
+/**
+ * The version of a book of reservations, and the latest changes that led to it, so that whoever looked at an
+ * earlier version can find out what changed since without going through the whole book.
+ *
+ * Versions are drawn from a counter shared by every log, so that a version stands for one state of one book, and a
+ * version taken from another book is never mistaken for one of this book's. Only the latest {@value #CAPACITY}
+ * changes are kept.
+ */
+public class ReservationChangeLog {
+
+    public static final int CAPACITY = 1000;
+
+    private static final AtomicLong lastVersion = new AtomicLong();
+
+    private final Deque<ReservationChange> changes = new ArrayDeque<>();
+    // The version the kept changes were made on top of
+    private long firstVersion;
+    private long version;
+
+    /**
+     * Creates a log of a new book, with no changes yet.
+     */
+    public ReservationChangeLog() {
+        reset();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Moves to a new version that no change leads to, as when every reservation is replaced at once.
+     */
+    public void reset() {
+        version = lastVersion.incrementAndGet();
+        firstVersion = version;
+        changes.clear();
+    }
+
+    /**
+     * Moves to a new version, reached by removing {@code removed} and adding {@code added} in its place.
+     * Either may be null, but not both.
+     */
+    public void record(Reservation removed, Reservation added) {
+        version = lastVersion.incrementAndGet();
+        changes.addLast(new ReservationChange(version, removed, added));
+        if (changes.size() > CAPACITY) {
+            firstVersion = changes.removeFirst().getVersion();
+        }
+    }
+
+    /**
+     * Returns the changes made since {@code earlierVersion}, oldest first, or an empty {@code Optional} if
+     * {@code earlierVersion} is not a version of this book whose later changes are all still kept.
+     */
+    public Optional<List<ReservationChange>> getChangesSince(long earlierVersion) {
+        if (earlierVersion < firstVersion || earlierVersion > version) {
+            return Optional.empty();
+        }
+
+        List<ReservationChange> changesSince = new ArrayList<>();
+        // The version the changes collected so far were made on top of
+        long reachedVersion = firstVersion;
+        Iterator<ReservationChange> newestFirst = changes.descendingIterator();
+        while (newestFirst.hasNext()) {
+            ReservationChange change = newestFirst.next();
+            if (change.getVersion() <= earlierVersion) {
+                reachedVersion = change.getVersion();
+                break;
+            }
+            changesSince.add(change);
+        }
+        if (reachedVersion != earlierVersion) {
+            // Another book's version, drawn while this one was changing
+            return Optional.empty();
+        }
+        Collections.reverse(changesSince);
+        return Optional.of(changesSince);
+    }
+}
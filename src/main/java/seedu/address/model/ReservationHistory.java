@@ -0,0 +1,51 @@
+package seedu.address.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.reservation.Person;
+import seedu.address.model.reservation.Reservation;
+
+/**
+ * The past reservations a model was started without, which it loads when they are first needed.
+ */
+public interface ReservationHistory {
+
+    /** A history that holds no reservations, for models started with all of their reservations. */
+    ReservationHistory NONE = new ReservationHistory() {
+        @Override
+        public LocalDate getLoadedFrom() {
+            return LocalDate.MIN;
+        }
+
+        @Override
+        public List<Person> getBookingCounts() {
+            return List.of();
+        }
+
+        @Override
+        public List<Reservation> load() {
+            return List.of();
+        }
+    };
+
+    /**
+     * Returns the first day of the reservations the model was started with. Every reservation in this history is
+     * on an earlier day.
+     */
+    LocalDate getLoadedFrom();
+
+    /**
+     * Returns the customers who made the reservations in this history, each with the number of those reservations
+     * they made as their counter, so that customers can be counted without loading the history.
+     */
+    List<Person> getBookingCounts();
+
+    /**
+     * Returns every reservation in this history, oldest first.
+     *
+     * @throws DataLoadingException if the reservations could not be loaded.
+     */
+    List<Reservation> load() throws DataLoadingException;
+}
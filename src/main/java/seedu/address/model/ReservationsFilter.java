@@ -1,12 +1,10 @@
 package seedu.address.model;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
-import javafx.collections.transformation.FilteredList;
 import seedu.address.model.reservation.Reservation;
 
 /**
@@ -14,39 +12,6 @@ import seedu.address.model.reservation.Reservation;
  */
 public class ReservationsFilter {
 
-    private static PersonsList personsList = new PersonsList();
-
-    /**
-     * Returns a predicate that filters reservations scheduled for today.
-     *
-     * @param reservationsList The list of reservations to filter
-     * @return Predicate for today's reservations
-     */
-    public static Predicate<Reservation> filterForToday(FilteredList<Reservation> reservationsList) {
-        LocalDate today = LocalDate.now();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-        String todayDate = today.format(formatter);
-        //filter by today
-        Predicate<Reservation> todayPredicate = reservation -> reservation.getDate().value.equals(todayDate);
-        return todayPredicate;
-    }
-
-    /**
-     * Returns a predicate that filters reservations scheduled for tomorrow.
-     *
-     * @param reservationsList The list of reservations to filter
-     * @return Predicate for tomorrow's reservations
-     */
-    public static Predicate<Reservation> filterForTomorrow(FilteredList<Reservation> reservationsList) {
-        LocalDate tomorrow = LocalDate.now().plusDays(1);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-        String tomorrowDate = tomorrow.format(formatter);
-        //filter by tomorrow
-        Predicate<Reservation> tomorrowPredicate = reservation -> reservation.getDate().value.equals(tomorrowDate);
-        return tomorrowPredicate;
-    }
-
-
     /**
      * Returns a predicate that filters reservations scheduled for tomorrow or today.
      *
@@ -54,16 +19,13 @@ public class ReservationsFilter {
      * @return Predicate for tomorrow or today reservations
      */
     public static Predicate<Reservation> filterForTodayOrTomorrowPredicate() {
-        LocalDate today = LocalDate.now();
-        LocalDate tomorrow = today.plusDays(1);
-
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-        String todayDate = today.format(formatter);
-        String tomorrowDate = tomorrow.format(formatter);
+        long today = LocalDate.now().toEpochDay();
 
         // Predicate to check if the reservation is either today or tomorrow
-        Predicate<Reservation> todayOrTomorrowPredicate = reservation ->
-                reservation.getDate().value.equals(todayDate) || reservation.getDate().value.equals(tomorrowDate);
+        Predicate<Reservation> todayOrTomorrowPredicate = reservation -> {
+            long reservationDay = reservation.getDate().toEpochDay();
+            return reservationDay == today || reservationDay == today + 1;
+        };
 
         return todayOrTomorrowPredicate;
     }
@@ -74,16 +36,13 @@ public class ReservationsFilter {
      * @return Predicate for tomorrow or today reservations
      */
     public static Predicate<Reservation> filterForPrevious() {
-        LocalDate today = LocalDate.now();
-        LocalDate tomorrow = today.plusDays(1);
-
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-        String todayDate = today.format(formatter);
-        String tomorrowDate = tomorrow.format(formatter);
+        long today = LocalDate.now().toEpochDay();
 
         // Predicate to check if the reservation is before today
-        Predicate<Reservation> previousPredicate = reservation ->
-                !(reservation.getDate().value.equals(todayDate) || reservation.getDate().value.equals(tomorrowDate));
+        Predicate<Reservation> previousPredicate = reservation -> {
+            long reservationDay = reservation.getDate().toEpochDay();
+            return !(reservationDay == today || reservationDay == today + 1);
+        };
 
         return previousPredicate;
     }
@@ -91,15 +50,9 @@ public class ReservationsFilter {
      * Returns a predicate that filters reservations made by regulars.
      * @return Predicate for regulars' reservation
      */
-    public static Predicate<Reservation> filterByRegular(PersonsList personsList) {
-        // Load the current persons list
-        personsList.loadListFromFile();
-
-        // get a list of regular numbers
-        Set<String> regularNumbers = personsList.getRegularCustomers()
-                .stream()
-                .map(person -> person.getPhone().value)
-                .collect(Collectors.toSet());
+    public static Predicate<Reservation> filterByRegular(CustomerBookings customerBookings) {
+        // take a copy of the regular numbers so the filter does not change under the list
+        Set<String> regularNumbers = new HashSet<>(customerBookings.getRegularPhones());
 
         // check if any reservations match these regular customers
         Predicate<Reservation> regularPredicate = reservation -> {
@@ -3,6 +3,8 @@ package seedu.address.model.reservation;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a reservation duration in the system.
  * Ensures that the duration follows the specified constraints.
@@ -15,8 +17,17 @@ public class Duration {
     public static final String VALIDATION_REGEX = "^(0\\.5|1|1\\.5|2|2\\.5|3|3\\.5|4|4\\.5|5|5\\.5|6|6\\.5|7|7"
             + "\\.5|8|8\\.5|9|9\\.5|10|10\\.5|11|11\\.5|12)$";
 
+    /** The longest a reservation can last, in minutes. */
+    public static final int MAX_MINUTES = 12 * 60;
+
+    // Compiled once, rather than on every match
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
+    // Parsed once here so that time calculations do not need to parse the value again
+    private final int minutes;
+
     /**
      * Constructs a {@code Duration}.
      *
@@ -26,20 +37,34 @@ public class Duration {
         requireNonNull(duration);
         checkArgument(isValidDuration(duration), MESSAGE_CONSTRAINTS);
         value = duration;
+        minutes = (int) (Double.parseDouble(duration) * 60);
+    }
+
+    private Duration(int minutes) {
+        value = (minutes / 60) + (minutes % 60 == 0 ? "" : ".5");
+        this.minutes = minutes;
+    }
+
+    /**
+     * Returns the {@code Duration} lasting {@code minutes} minutes.
+     */
+    public static Duration ofMinutes(int minutes) {
+        checkArgument(minutes >= 30 && minutes <= MAX_MINUTES && minutes % 30 == 0, MESSAGE_CONSTRAINTS);
+        return new Duration(minutes);
     }
 
     /**
      * Returns true if a given string is a valid duration.
      */
     public static boolean isValidDuration(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
      * Returns this Duration's value (in hours) as minutes.
      */
     public int toMinutes() {
-        return (int) (Double.parseDouble(value) * 60);
+        return minutes;
     }
 
     @Override
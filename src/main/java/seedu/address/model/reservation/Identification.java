@@ -2,10 +2,7 @@ package seedu.address.model.reservation;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.Model;
+import java.util.regex.Pattern;
 
 /**
  * Represents an identification number in the reservation system.
@@ -31,6 +28,9 @@ public class Identification {
                     + "(\\d{4})" // Matches the last 4 digits (any number from 0000-9999)
                     + "(?:[01]\\d|2[0-3])[0-5]\\d$"; // Last 4 digits in HHMM format
 
+    // Compiled once, rather than on every match
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
 
     public final String value;
 
@@ -66,19 +66,10 @@ public class Identification {
      * Returns true if a given string is a valid ID.
      */
     public static boolean isValidId(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
-    //This method will be called by the Commands and assumes that isValidId has been used to check
-    //Validity of ID
-    public static Reservation getReservationUsingId(Identification id, Model model) throws CommandException {
-        List<Reservation> overallList = model.getOverallReservationList();
-
-        return overallList.stream().filter(r -> r.getId().equals(id))
-                .findFirst().orElseThrow(() -> new CommandException("Input reservation id does not exist."));
-    }
-
     @Override
     public String toString() {
         return value;
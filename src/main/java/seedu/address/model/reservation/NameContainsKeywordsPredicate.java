@@ -1,5 +1,6 @@
 package seedu.address.model.reservation;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -8,18 +9,56 @@ import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * A keyword matches a whole word of the name, ignoring case. A keyword starting with {@link #FUZZY_MARKER} also
+ * matches words a small number of typing mistakes away from it, as given by {@link #getMaxEdits(String)}.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Reservation> {
+    public static final String FUZZY_MARKER = "~";
+    public static final String MESSAGE_FUZZY_CONSTRAINTS =
+            "A fuzzy search word must have at least one character after " + FUZZY_MARKER + ", e.g. "
+            + FUZZY_MARKER + "alise";
+
+    // Words up to this long are short enough that two mistakes would leave little of them
+    private static final int SHORT_WORD_LENGTH = 4;
+
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns true if {@code keyword} asks for a fuzzy match.
+     */
+    public static boolean isFuzzyKeyword(String keyword) {
+        return keyword.startsWith(FUZZY_MARKER);
+    }
+
+    /**
+     * Returns the most single-character insertions, deletions or substitutions that a word of a name may be away
+     * from the fuzzy search {@code word}, given without its marker, to match it.
+     */
+    public static int getMaxEdits(String word) {
+        return word.length() <= SHORT_WORD_LENGTH ? 1 : 2;
+    }
+
     @Override
     public boolean test(Reservation reservation) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(reservation.getName().getFullName(), keyword));
+        String fullName = reservation.getName().getFullName();
+        return keywords.stream().anyMatch(keyword -> isFuzzyKeyword(keyword)
+                ? containsWordNear(fullName, keyword.substring(FUZZY_MARKER.length()))
+                : StringUtil.containsWordIgnoreCase(fullName, keyword));
+    }
+
+    private static boolean containsWordNear(String fullName, String word) {
+        String foldedWord = ReservationNameIndex.foldCase(word);
+        int maxEdits = getMaxEdits(foldedWord);
+        return Arrays.stream(fullName.split("\\s+")).anyMatch(nameWord -> !nameWord.isEmpty()
+                && StringUtil.isWithinEditDistance(ReservationNameIndex.foldCase(nameWord), foldedWord, maxEdits));
     }
 
     @Override
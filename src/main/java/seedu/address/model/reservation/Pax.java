@@ -4,6 +4,8 @@ package seedu.address.model.reservation;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents the number of people (pax) in a reservation.
  * Ensures that the value is a valid positive integer greater than zero.
@@ -13,8 +15,14 @@ public class Pax {
             "Pax number must be of numeric values only, at least 1 and at most 9999";
     public static final String VALIDATION_REGEX = "^[1-9]\\d{0,3}$";
 
+    // Compiled once, rather than on every match
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
+    // Parsed once here so that filtering by party size does not need to parse the value again
+    private final int count;
+
     /**
      * Constructs a {@code Pax}.
      *
@@ -24,13 +32,34 @@ public class Pax {
         requireNonNull(pax);
         checkArgument(isValidPax(pax), MESSAGE_CONSTRAINTS);
         value = pax;
+        count = Integer.parseInt(pax);
+    }
+
+    private Pax(int count) {
+        value = String.valueOf(count);
+        this.count = count;
+    }
+
+    /**
+     * Returns the {@code Pax} for a party of {@code count} people.
+     */
+    public static Pax of(int count) {
+        checkArgument(count >= 1 && count <= 9999, MESSAGE_CONSTRAINTS);
+        return new Pax(count);
+    }
+
+    /**
+     * Returns the number of people as an integer.
+     */
+    public int toInt() {
+        return count;
     }
 
     /**
      * Returns true if a given string is a valid number of people.
      */
     public static boolean isValidPax(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
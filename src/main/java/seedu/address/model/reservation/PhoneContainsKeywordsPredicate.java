@@ -2,24 +2,60 @@ package seedu.address.model.reservation;
 
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Phone} matches any of the keywords given.
+ * A keyword matches a phone number exactly, unless it ends with {@link #WILDCARD}, in which case it matches the
+ * numbers starting with its digits, or starts with it, in which case it matches the numbers ending with its digits.
  */
 public class PhoneContainsKeywordsPredicate implements Predicate<Reservation> {
+    public static final String WILDCARD = "*";
+    public static final String MESSAGE_PARTIAL_CONSTRAINTS =
+            "A partial phone number must be 1 to 20 digits, with " + WILDCARD + " either before or after them, "
+            + "e.g. 9123" + WILDCARD + " or " + WILDCARD + "4567";
+
+    private static final Pattern PARTIAL_PATTERN = Pattern.compile("\\*\\d{1,20}|\\d{1,20}\\*");
+
     private final List<String> keywords;
 
     public PhoneContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    /**
+     * Returns true if {@code keyword} has a {@link #WILDCARD} at either end.
+     */
+    public static boolean isPartialKeyword(String keyword) {
+        return keyword.startsWith(WILDCARD) || keyword.endsWith(WILDCARD);
+    }
+
+    /**
+     * Returns true if {@code keyword} is a valid partial phone number, with a {@link #WILDCARD} at one end only.
+     */
+    public static boolean isValidPartialKeyword(String keyword) {
+        return PARTIAL_PATTERN.matcher(keyword).matches();
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Reservation reservation) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(reservation.getPhone().value, keyword));
+        return keywords.stream().anyMatch(keyword -> matches(reservation.getPhone().value, keyword));
+    }
+
+    private static boolean matches(String phone, String keyword) {
+        if (keyword.endsWith(WILDCARD)) {
+            return phone.startsWith(keyword.substring(0, keyword.length() - WILDCARD.length()));
+        }
+        if (keyword.startsWith(WILDCARD)) {
+            return phone.endsWith(keyword.substring(WILDCARD.length()));
+        }
+        return phone.equals(keyword);
     }
 
     @Override
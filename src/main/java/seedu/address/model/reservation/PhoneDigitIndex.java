@@ -0,0 +1,230 @@
+package seedu.address.model.reservation;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.reservation.PhoneContainsKeywordsPredicate.WILDCARD;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Indexes reservations by the digits of their phone numbers, so that the reservations under a whole phone number,
+ * or under the numbers starting or ending with some digits, can be found without scanning the whole book.
+ *
+ * The numbers are kept in two digit tries, one reading each number forwards and one reading it backwards. Each
+ * reservation is kept at the node where its number ends, ordered by its sequence number in the reservation list.
+ * A lookup walks down to the node for its digits, which takes time linear in the number of digits, and then
+ * collects the reservations kept at or below that node.
+ */
+public class PhoneDigitIndex {
+
+    private final Node forwards = new Node();
+    private final Node backwards = new Node();
+
+    /**
+     * Indexes {@code reservation}, which has the given sequence number in the reservation list, under its phone
+     * number.
+     */
+    public void add(Reservation reservation, long sequenceNumber) {
+        requireNonNull(reservation);
+        String phone = reservation.getPhone().value;
+        forwards.add(phone, false, sequenceNumber, reservation);
+        backwards.add(phone, true, sequenceNumber, reservation);
+    }
+
+    /**
+     * Removes {@code reservation}, which was added with the given sequence number, from the index.
+     */
+    public void remove(Reservation reservation, long sequenceNumber) {
+        requireNonNull(reservation);
+        String phone = reservation.getPhone().value;
+        forwards.remove(phone, false, sequenceNumber);
+        backwards.remove(phone, true, sequenceNumber);
+    }
+
+    /**
+     * Removes every reservation from the index.
+     */
+    public void clear() {
+        forwards.clear();
+        backwards.clear();
+    }
+
+    /**
+     * Returns the reservations whose phone number matches any of {@code keywords}, in list order.
+     * Keywords are matched as described in {@link PhoneContainsKeywordsPredicate}.
+     */
+    public List<Reservation> findMatching(Collection<String> keywords) {
+        requireNonNull(keywords);
+        TreeMap<Long, Reservation> matches = new TreeMap<>();
+        for (String keyword : keywords) {
+            Node node = findNode(keyword);
+            if (node == null) {
+                continue;
+            }
+            if (PhoneContainsKeywordsPredicate.isPartialKeyword(keyword)) {
+                collectBelow(node, matches);
+            } else {
+                node.collect(matches);
+            }
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    /**
+     * Returns an upper bound on the number of reservations {@link #findMatching(Collection)} would return for
+     * {@code keywords}, in time linear in the number of digits in them.
+     */
+    public int countMatching(Collection<String> keywords) {
+        requireNonNull(keywords);
+        int count = 0;
+        for (String keyword : keywords) {
+            Node node = findNode(keyword);
+            if (node != null) {
+                count += PhoneContainsKeywordsPredicate.isPartialKeyword(keyword)
+                        ? node.countBelow
+                        : node.countAt();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the node holding the numbers matching {@code keyword}, or those starting or ending at it if the
+     * keyword is partial, or null if there are none.
+     */
+    private Node findNode(String keyword) {
+        if (keyword.endsWith(WILDCARD)) {
+            return forwards.find(keyword.substring(0, keyword.length() - WILDCARD.length()), false);
+        } else if (keyword.startsWith(WILDCARD)) {
+            return backwards.find(keyword.substring(WILDCARD.length()), true);
+        } else {
+            return forwards.find(keyword, false);
+        }
+    }
+
+    private static void collectBelow(Node top, TreeMap<Long, Reservation> matches) {
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(top);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            node.collect(matches);
+            if (node.children == null) {
+                continue;
+            }
+            for (Node child : node.children) {
+                if (child != null) {
+                    toVisit.push(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * A node of a digit trie, holding the reservations whose number ends at it, and counting those at or below it.
+     */
+    private static class Node {
+        // Made on the first reservation, as most nodes only lie on the way to others
+        private TreeMap<Long, Reservation> reservations;
+        private int countBelow;
+        // Made on the first child, as most nodes near the leaves have none
+        private Node[] children;
+        private int childCount;
+
+        void add(String digits, boolean isBackwards, long sequenceNumber, Reservation reservation) {
+            Node node = this;
+            for (int i = 0; i < digits.length(); i++) {
+                node.countBelow++;
+                int digit = digitAt(digits, i, isBackwards);
+                if (node.children == null) {
+                    node.children = new Node[10];
+                }
+                if (node.children[digit] == null) {
+                    node.children[digit] = new Node();
+                    node.childCount++;
+                }
+                node = node.children[digit];
+            }
+            node.countBelow++;
+            if (node.reservations == null) {
+                node.reservations = new TreeMap<>();
+            }
+            node.reservations.put(sequenceNumber, reservation);
+        }
+
+        /**
+         * Removes the reservation with {@code sequenceNumber} under {@code digits}, and prunes the nodes left
+         * without any reservations at or below them.
+         */
+        void remove(String digits, boolean isBackwards, long sequenceNumber) {
+            Node[] path = new Node[digits.length() + 1];
+            path[0] = this;
+            for (int i = 0; i < digits.length(); i++) {
+                Node[] children = path[i].children;
+                path[i + 1] = children == null ? null : children[digitAt(digits, i, isBackwards)];
+                if (path[i + 1] == null) {
+                    return;
+                }
+            }
+            Node end = path[digits.length()];
+            if (end.reservations == null || end.reservations.remove(sequenceNumber) == null) {
+                return;
+            }
+            if (end.reservations.isEmpty()) {
+                end.reservations = null;
+            }
+            for (Node node : path) {
+                node.countBelow--;
+            }
+            for (int i = digits.length(); i > 0 && path[i].isEmpty(); i--) {
+                path[i - 1].children[digitAt(digits, i - 1, isBackwards)] = null;
+                if (--path[i - 1].childCount == 0) {
+                    path[i - 1].children = null;
+                }
+            }
+        }
+
+        /**
+         * Returns the node reached by following {@code digits}, or null if there is none.
+         */
+        Node find(String digits, boolean isBackwards) {
+            Node node = this;
+            for (int i = 0; i < digits.length() && node != null; i++) {
+                int digit = digitAt(digits, i, isBackwards);
+                if (digit < 0 || digit > 9 || node.children == null) {
+                    return null;
+                }
+                node = node.children[digit];
+            }
+            return node;
+        }
+
+        void collect(TreeMap<Long, Reservation> matches) {
+            if (reservations != null) {
+                matches.putAll(reservations);
+            }
+        }
+
+        int countAt() {
+            return reservations == null ? 0 : reservations.size();
+        }
+
+        void clear() {
+            reservations = null;
+            children = null;
+            childCount = 0;
+            countBelow = 0;
+        }
+
+        private boolean isEmpty() {
+            return reservations == null && childCount == 0;
+        }
+
+        private static int digitAt(String digits, int i, boolean isBackwards) {
+            return digits.charAt(isBackwards ? digits.length() - 1 - i : i) - '0';
+        }
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.model.reservation;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's remark in the address book.
  * Guarantees: immutable; is always valid
@@ -10,6 +12,9 @@ public class Remark {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}\\s]{0,30}";
     public static final String MESSAGE_CONSTRAINTS = "Remark must be of alphanumeric only and "
             + "length must be at least 1 and at most 30";
+
+    // Compiled once, rather than on every match
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public final String value;
 
     /**
@@ -26,7 +31,7 @@ public class Remark {
      * Returns true if a given string is a valid remark.
      */
     public static boolean isValidRemark(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -2,13 +2,12 @@ package seedu.address.model.reservation;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSetPool;
 
 /**
  * Represents a Person in the address book.
@@ -27,7 +26,8 @@ public class Reservation {
     private final Pax pax;
     private final Table table;
     private final Remark remark;
-    private final Set<Tag> tags = new HashSet<>();
+    // Interned, so that reservations carrying the same tags share one set
+    private final Set<Tag> tags;
     private final Identification id;
     private boolean isPaid;
 
@@ -45,7 +45,7 @@ public class Reservation {
         this.pax = pax;
         this.table = table;
         this.remark = remark;
-        this.tags.addAll(tags);
+        this.tags = TagSetPool.intern(tags);
         this.id = id;
         this.isPaid = isPaid;
     }
@@ -95,7 +95,7 @@ public class Reservation {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -160,8 +160,8 @@ public class Reservation {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, date, time, duration, pax, table, tags, id);
+        // only hash the fields compared in equals, so that equal reservations land in the same hash bucket
+        return Objects.hash(phone.getLastFourDigitsString(), date, time);
     }
 
     @Override
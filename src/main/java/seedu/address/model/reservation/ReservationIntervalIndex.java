@@ -0,0 +1,102 @@
+package seedu.address.model.reservation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable interval index over the reservations of a single day, answering which reservations are ongoing
+ * during a span of time in O(log n + k).
+ * Each reservation covers the minutes {@code [start, start + duration)}, clipped to midnight.
+ *
+ * The reservations are kept sorted by start minute and viewed as an implicit balanced binary search tree, where
+ * the root of any range is its middle element. Each node also records the latest end minute in its subtree, so
+ * that subtrees whose reservations have all ended can be skipped.
+ */
+public class ReservationIntervalIndex {
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final Reservation[] reservations;
+    private final long[] sequenceNumbers;
+    private final int[] startMinutes;
+    private final int[] endMinutes;
+    private final int[] maxEndMinutes;
+
+    /**
+     * Builds an index over {@code reservations}, given by their sequence numbers in the reservation list.
+     * Reservations returned by queries are ordered by these sequence numbers.
+     */
+    public ReservationIntervalIndex(Map<Long, Reservation> reservations) {
+        List<Map.Entry<Long, Reservation>> entries = new ArrayList<>(reservations.entrySet());
+        entries.sort(Comparator.comparingInt(entry -> entry.getValue().getTime().toMinuteOfDay()));
+
+        int size = entries.size();
+        this.reservations = new Reservation[size];
+        this.sequenceNumbers = new long[size];
+        this.startMinutes = new int[size];
+        this.endMinutes = new int[size];
+        this.maxEndMinutes = new int[size];
+        for (int i = 0; i < size; i++) {
+            Reservation reservation = entries.get(i).getValue();
+            this.reservations[i] = reservation;
+            this.sequenceNumbers[i] = entries.get(i).getKey();
+            this.startMinutes[i] = reservation.getTime().toMinuteOfDay();
+            this.endMinutes[i] = endMinuteOf(reservation);
+        }
+        computeMaxEndMinutes(0, size - 1);
+    }
+
+    /**
+     * Returns the minute of the day at which {@code reservation} ends, clipped to midnight.
+     */
+    public static int endMinuteOf(Reservation reservation) {
+        return Math.min(reservation.getTime().toMinuteOfDay() + reservation.getDuration().toMinutes(),
+                MINUTES_PER_DAY);
+    }
+
+    private int computeMaxEndMinutes(int low, int high) {
+        if (low > high) {
+            return Integer.MIN_VALUE;
+        }
+        int mid = (low + high) >>> 1;
+        maxEndMinutes[mid] = Math.max(endMinutes[mid],
+                Math.max(computeMaxEndMinutes(low, mid - 1), computeMaxEndMinutes(mid + 1, high)));
+        return maxEndMinutes[mid];
+    }
+
+    /**
+     * Returns the reservations that are ongoing at some minute in {@code [fromMinute, toMinute)}.
+     */
+    public List<Reservation> findOverlapping(int fromMinute, int toMinute) {
+        List<Integer> matches = new ArrayList<>();
+        collectOverlapping(0, reservations.length - 1, fromMinute, toMinute, matches);
+        matches.sort(Comparator.comparingLong(i -> sequenceNumbers[i]));
+
+        List<Reservation> result = new ArrayList<>(matches.size());
+        for (int i : matches) {
+            result.add(reservations[i]);
+        }
+        return result;
+    }
+
+    private void collectOverlapping(int low, int high, int fromMinute, int toMinute, List<Integer> matches) {
+        if (low > high) {
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        if (maxEndMinutes[mid] <= fromMinute) {
+            // Every reservation in this subtree has ended by fromMinute
+            return;
+        }
+        collectOverlapping(low, mid - 1, fromMinute, toMinute, matches);
+        if (startMinutes[mid] >= toMinute) {
+            // This reservation and everything to its right start too late
+            return;
+        }
+        if (endMinutes[mid] > fromMinute) {
+            matches.add(mid);
+        }
+        collectOverlapping(mid + 1, high, fromMinute, toMinute, matches);
+    }
+}
@@ -0,0 +1,256 @@
+package seedu.address.model.reservation;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from the words in the names of reservations to the reservations, so that the reservations
+ * made under any of a few words can be found without scanning the whole book.
+ *
+ * Names are split into words on whitespace, and each word is case-folded so that two words are indexed together
+ * exactly when {@code String#equalsIgnoreCase(String)} holds between them. The reservations under each word are
+ * ordered by their sequence numbers in the reservation list.
+ *
+ * For fuzzy searches, the distinct words are also indexed by their trigrams, the runs of three characters in the
+ * word padded with two {@link #PADDING} characters on each side. Since a single edit changes at most three
+ * trigrams, a word within {@code k} edits of a search word must share all but {@code 3k} of its distinct trigrams.
+ * Only the words passing that count, and with a length within {@code k} of it, have their edit distance checked.
+ */
+public class ReservationNameIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final String PADDING = "\u0000\u0000";
+
+    private final Map<String, TreeMap<Long, Reservation>> postings = new HashMap<>();
+    // Each distinct word is given a small id, so that trigrams can be counted in an array rather than a map
+    private final Map<String, Integer> wordIds = new HashMap<>();
+    private final Map<String, IdList> wordIdsByTrigram = new HashMap<>();
+    private final IdList freeWordIds = new IdList();
+    private String[] wordsById = new String[16];
+
+    /**
+     * Indexes {@code reservation}, which has the given sequence number in the reservation list, under each word
+     * of its name.
+     */
+    public void add(Reservation reservation, long sequenceNumber) {
+        requireNonNull(reservation);
+        for (String word : wordsOf(reservation)) {
+            postings.computeIfAbsent(word, w -> {
+                addTrigrams(w);
+                return new TreeMap<>();
+            }).put(sequenceNumber, reservation);
+        }
+    }
+
+    /**
+     * Removes {@code reservation}, which was added with the given sequence number, from the index.
+     */
+    public void remove(Reservation reservation, long sequenceNumber) {
+        requireNonNull(reservation);
+        for (String word : wordsOf(reservation)) {
+            TreeMap<Long, Reservation> posting = postings.get(word);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(sequenceNumber);
+            if (posting.isEmpty()) {
+                postings.remove(word);
+                removeTrigrams(word);
+            }
+        }
+    }
+
+    /**
+     * Removes every reservation from the index.
+     */
+    public void clear() {
+        postings.clear();
+        wordIds.clear();
+        wordIdsByTrigram.clear();
+        freeWordIds.clear();
+        wordsById = new String[16];
+    }
+
+    /**
+     * Returns the reservations whose name matches any of {@code keywords}, in list order.
+     * Keywords are matched as described in {@link NameContainsKeywordsPredicate}, and each must be a single word.
+     */
+    public List<Reservation> findMatching(Collection<String> keywords) {
+        requireNonNull(keywords);
+        TreeMap<Long, Reservation> matches = new TreeMap<>();
+        for (TreeMap<Long, Reservation> posting : getPostings(keywords)) {
+            matches.putAll(posting);
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    /**
+     * Returns an upper bound on the number of reservations {@link #findMatching(Collection)} would return for
+     * {@code keywords}, without collecting them.
+     */
+    public int countMatching(Collection<String> keywords) {
+        requireNonNull(keywords);
+        int count = 0;
+        for (TreeMap<Long, Reservation> posting : getPostings(keywords)) {
+            count += posting.size();
+        }
+        return count;
+    }
+
+    private List<TreeMap<Long, Reservation>> getPostings(Collection<String> keywords) {
+        List<TreeMap<Long, Reservation>> matchingPostings = new ArrayList<>();
+        for (String keyword : keywords) {
+            Collection<String> words = NameContainsKeywordsPredicate.isFuzzyKeyword(keyword)
+                    ? findWordsNear(foldCase(keyword.substring(NameContainsKeywordsPredicate.FUZZY_MARKER.length())))
+                    : List.of(foldCase(keyword.trim()));
+            for (String word : words) {
+                TreeMap<Long, Reservation> posting = postings.get(word);
+                if (posting != null) {
+                    matchingPostings.add(posting);
+                }
+            }
+        }
+        return matchingPostings;
+    }
+
+    /**
+     * Returns the indexed words within {@link NameContainsKeywordsPredicate#getMaxEdits(String)} edits of the
+     * case-folded {@code word}.
+     */
+    private List<String> findWordsNear(String word) {
+        int maxEdits = NameContainsKeywordsPredicate.getMaxEdits(word);
+        Set<String> trigrams = trigramsOf(word);
+        int minSharedTrigrams = trigrams.size() - GRAM_LENGTH * maxEdits;
+
+        List<String> words = new ArrayList<>();
+        if (minSharedTrigrams <= 0) {
+            // Too short for the trigrams to rule anything out
+            for (String candidate : postings.keySet()) {
+                addIfNear(candidate, word, maxEdits, words);
+            }
+            return words;
+        }
+
+        int[] sharedTrigrams = new int[wordsById.length];
+        for (String gram : trigrams) {
+            IdList ids = wordIdsByTrigram.get(gram);
+            if (ids == null) {
+                continue;
+            }
+            for (int i = 0; i < ids.size; i++) {
+                // Checked on reaching the threshold, so that each candidate is checked once
+                if (++sharedTrigrams[ids.ids[i]] == minSharedTrigrams) {
+                    addIfNear(wordsById[ids.ids[i]], word, maxEdits, words);
+                }
+            }
+        }
+        return words;
+    }
+
+    private static void addIfNear(String candidate, String word, int maxEdits, List<String> words) {
+        if (Math.abs(candidate.length() - word.length()) <= maxEdits
+                && StringUtil.isWithinEditDistance(candidate, word, maxEdits)) {
+            words.add(candidate);
+        }
+    }
+
+    private void addTrigrams(String word) {
+        int id = freeWordIds.size > 0 ? freeWordIds.ids[--freeWordIds.size] : wordIds.size();
+        if (id == wordsById.length) {
+            wordsById = Arrays.copyOf(wordsById, id * 2);
+        }
+        wordsById[id] = word;
+        wordIds.put(word, id);
+        for (String gram : trigramsOf(word)) {
+            wordIdsByTrigram.computeIfAbsent(gram, g -> new IdList()).add(id);
+        }
+    }
+
+    private void removeTrigrams(String word) {
+        int id = wordIds.remove(word);
+        wordsById[id] = null;
+        freeWordIds.add(id);
+        for (String gram : trigramsOf(word)) {
+            IdList ids = wordIdsByTrigram.get(gram);
+            ids.remove(id);
+            if (ids.size == 0) {
+                wordIdsByTrigram.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word} padded on each side.
+     */
+    private static Set<String> trigramsOf(String word) {
+        String padded = PADDING + word + PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    private static List<String> wordsOf(Reservation reservation) {
+        List<String> words = new ArrayList<>();
+        for (String word : reservation.getName().getFullName().split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(foldCase(word));
+            }
+        }
+        return words;
+    }
+
+    /**
+     * A growable list of word ids, in no particular order.
+     */
+    private static class IdList {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        /**
+         * Removes {@code id} by moving the last id into its place.
+         */
+        void remove(int id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--size];
+                    return;
+                }
+            }
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+
+    /**
+     * Returns {@code word} with each character folded the same way {@code String#equalsIgnoreCase(String)}
+     * compares them, so that two words are equal ignoring case exactly when their folded forms are equal.
+     */
+    static String foldCase(String word) {
+        char[] folded = new char[word.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(word.charAt(i)));
+        }
+        return new String(folded);
+    }
+}
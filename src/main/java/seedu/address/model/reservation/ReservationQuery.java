@@ -0,0 +1,345 @@
+package seedu.address.model.reservation;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A search for the reservations meeting every one of a number of criteria, each of which may be left out.
+ *
+ * A query is answered in two steps. First, a plan picks where to take the candidates from: the name index, the
+ * phone digit index, the tag index, the date buckets (or a day's interval index, if a time is also searched), or
+ * failing those the whole list. Each of these can count its candidates without collecting them, and the one with
+ * the fewest is used. Then only the criteria the chosen source does not already ensure are tested on each candidate.
+ */
+public class ReservationQuery implements Predicate<Reservation> {
+    private static final Logger logger = LogsCenter.getLogger(ReservationQuery.class);
+
+    private final NameContainsKeywordsPredicate names;
+    private final PhoneContainsKeywordsPredicate phones;
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+    private final Predicate<Reservation> dateRange;
+    private final TimeMatchesPredicate times;
+    private final Table table;
+    private final TagsMatchPredicate tags;
+    private final Boolean isPaid;
+    private final Integer minPax;
+    private final Integer maxPax;
+
+    private ReservationQuery(Builder builder) {
+        this.names = builder.names;
+        this.phones = builder.phones;
+        this.fromDate = builder.fromDate;
+        this.toDate = builder.toDate;
+        if (fromDate != null) {
+            long fromDay = fromDate.toEpochDay();
+            long toDay = toDate.toEpochDay();
+            this.dateRange = reservation -> reservation.getDate().toEpochDay() >= fromDay
+                    && reservation.getDate().toEpochDay() <= toDay;
+        } else {
+            this.dateRange = null;
+        }
+        this.times = builder.times;
+        this.table = builder.table;
+        this.tags = builder.tags;
+        this.isPaid = builder.isPaid;
+        this.minPax = builder.minPax;
+        this.maxPax = builder.maxPax;
+    }
+
+    /**
+     * Returns true if at least one criterion is set.
+     */
+    public boolean isAnyCriterionSet() {
+        return names != null || phones != null || fromDate != null || times != null || table != null
+                || tags != null || isPaid != null || minPax != null;
+    }
+
+    /**
+     * Returns the earliest date searched, if the dates are limited.
+     */
+    public Optional<LocalDate> getFromDate() {
+        return Optional.ofNullable(fromDate);
+    }
+
+    @Override
+    public boolean test(Reservation reservation) {
+        return getCriteria().stream().allMatch(criterion -> criterion.test(reservation));
+    }
+
+    /**
+     * Returns the reservations in {@code reservations} matching this query, in list order.
+     */
+    public List<Reservation> findIn(UniqueReservationList reservations) {
+        requireNonNull(reservations);
+        List<Predicate<Reservation>> criteria = getCriteria();
+        Plan plan = makePlan(reservations);
+        logger.fine("Answering " + this + " from " + plan.source + " with " + plan.estimate + " candidates");
+
+        List<Predicate<Reservation>> residualCriteria = new ArrayList<>(criteria);
+        residualCriteria.removeAll(plan.coveredCriteria);
+        List<Reservation> matches = new ArrayList<>();
+        for (Reservation candidate : plan.candidates.get()) {
+            if (residualCriteria.stream().allMatch(criterion -> criterion.test(candidate))) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the plan expected to give the fewest candidates for this query.
+     */
+    private Plan makePlan(UniqueReservationList reservations) {
+        Plan best = new Plan("the whole list", reservations.size(), reservations::asUnmodifiableObservableList,
+                List.of());
+        if (names != null) {
+            int count = reservations.countReservationsNamed(names.getKeywords());
+            Supplier<List<Reservation>> candidates = () -> reservations.getReservationsNamed(names.getKeywords());
+            best = best.orCheaper(new Plan("the name index", count, candidates, List.of(names)));
+        }
+        if (phones != null) {
+            int count = reservations.countReservationsWithPhone(phones.getKeywords());
+            Supplier<List<Reservation>> candidates = () -> reservations.getReservationsWithPhone(phones.getKeywords());
+            best = best.orCheaper(new Plan("the phone index", count, candidates, List.of(phones)));
+        }
+        if (tags != null) {
+            int count = reservations.countReservationsTagged(tags.getAlternatives());
+            Supplier<List<Reservation>> candidates = () -> reservations.getReservationsTagged(tags.getAlternatives());
+            best = best.orCheaper(new Plan("the tag index", count, candidates, List.of(tags)));
+        }
+        if (fromDate != null) {
+            int count = reservations.countReservationsBetween(fromDate, toDate);
+            if (times != null && fromDate.equals(toDate)) {
+                // The interval index returns at most the reservations on the day, and often far fewer
+                Supplier<List<Reservation>> candidates = () -> reservations.getReservationsDuring(fromDate,
+                        times.getSearchStartMinute(), times.getSearchEndMinute());
+                best = best.orCheaper(new Plan("the interval index", count, candidates, List.of(dateRange, times)));
+            } else {
+                Supplier<List<Reservation>> candidates = () -> reservations.getReservationsBetween(fromDate, toDate);
+                best = best.orCheaper(new Plan("the date buckets", count, candidates, List.of(dateRange)));
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the criteria set in this query.
+     */
+    private List<Predicate<Reservation>> getCriteria() {
+        List<Predicate<Reservation>> criteria = new ArrayList<>();
+        if (names != null) {
+            criteria.add(names);
+        }
+        if (phones != null) {
+            criteria.add(phones);
+        }
+        if (dateRange != null) {
+            criteria.add(dateRange);
+        }
+        if (times != null) {
+            criteria.add(times);
+        }
+        if (table != null) {
+            criteria.add(reservation -> reservation.getTable().equals(table));
+        }
+        if (tags != null) {
+            criteria.add(tags);
+        }
+        if (isPaid != null) {
+            criteria.add(reservation -> reservation.getIsPaid() == isPaid);
+        }
+        if (minPax != null) {
+            int min = minPax;
+            int max = maxPax;
+            criteria.add(reservation -> {
+                int pax = reservation.getPax().toInt();
+                return pax >= min && pax <= max;
+            });
+        }
+        return criteria;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ReservationQuery)) {
+            return false;
+        }
+
+        ReservationQuery otherQuery = (ReservationQuery) other;
+        return Objects.equals(names, otherQuery.names)
+                && Objects.equals(phones, otherQuery.phones)
+                && Objects.equals(fromDate, otherQuery.fromDate)
+                && Objects.equals(toDate, otherQuery.toDate)
+                && Objects.equals(times, otherQuery.times)
+                && Objects.equals(table, otherQuery.table)
+                && Objects.equals(tags, otherQuery.tags)
+                && Objects.equals(isPaid, otherQuery.isPaid)
+                && Objects.equals(minPax, otherQuery.minPax)
+                && Objects.equals(maxPax, otherQuery.maxPax);
+    }
+
+    @Override
+    public int hashCode() {
+        // The name, phone and time predicates do not define hashCode, so they are left out
+        return Objects.hash(fromDate, toDate, table, tags == null ? null : tags.getAlternatives(), isPaid, minPax,
+                maxPax);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("names", names)
+                .add("phones", phones)
+                .add("fromDate", fromDate)
+                .add("toDate", toDate)
+                .add("times", times)
+                .add("table", table)
+                .add("tags", tags)
+                .add("isPaid", isPaid)
+                .add("minPax", minPax)
+                .add("maxPax", maxPax)
+                .toString();
+    }
+
+    /**
+     * Builds a {@code ReservationQuery} one criterion at a time. Criteria that are not set are left out.
+     */
+    public static class Builder {
+        private NameContainsKeywordsPredicate names;
+        private PhoneContainsKeywordsPredicate phones;
+        private LocalDate fromDate;
+        private LocalDate toDate;
+        private TimeMatchesPredicate times;
+        private Table table;
+        private TagsMatchPredicate tags;
+        private Boolean isPaid;
+        private Integer minPax;
+        private Integer maxPax;
+
+        /**
+         * Keeps to the reservations whose name matches {@code names}.
+         */
+        public Builder withNames(NameContainsKeywordsPredicate names) {
+            this.names = names;
+            return this;
+        }
+
+        /**
+         * Keeps to the reservations whose phone number matches {@code phones}.
+         */
+        public Builder withPhones(PhoneContainsKeywordsPredicate phones) {
+            this.phones = phones;
+            return this;
+        }
+
+        /**
+         * Keeps to the reservations from {@code fromDate} to {@code toDate} inclusive.
+         * {@code fromDate} must not be after {@code toDate}.
+         */
+        public Builder withDates(LocalDate fromDate, LocalDate toDate) {
+            requireNonNull(fromDate);
+            requireNonNull(toDate);
+            assert !fromDate.isAfter(toDate);
+            this.fromDate = fromDate;
+            this.toDate = toDate;
+            return this;
+        }
+
+        /**
+         * Keeps to the reservations ongoing at the times {@code times} searches.
+         */
+        public Builder withTimes(TimeMatchesPredicate times) {
+            this.times = times;
+            return this;
+        }
+
+        /**
+         * Keeps to the reservations at {@code table}.
+         */
+        public Builder withTable(Table table) {
+            this.table = table;
+            return this;
+        }
+
+        /**
+         * Keeps to the reservations carrying every one of {@code tags}.
+         * A defensive copy of {@code tags} is used internally.
+         */
+        public Builder withTags(Set<Tag> tags) {
+            this.tags = (tags != null && !tags.isEmpty()) ? new TagsMatchPredicate(List.of(Set.copyOf(tags))) : null;
+            return this;
+        }
+
+        /**
+         * Keeps to the reservations carrying every one of the tags of any of the alternatives {@code tags} holds.
+         */
+        public Builder withTags(TagsMatchPredicate tags) {
+            this.tags = tags;
+            return this;
+        }
+
+        /**
+         * Keeps to the reservations that are paid for if {@code isPaid} is true, or not paid for otherwise.
+         */
+        public Builder withPaid(boolean isPaid) {
+            this.isPaid = isPaid;
+            return this;
+        }
+
+        /**
+         * Keeps to the reservations for {@code minPax} to {@code maxPax} people inclusive.
+         */
+        public Builder withPax(int minPax, int maxPax) {
+            assert minPax <= maxPax;
+            this.minPax = minPax;
+            this.maxPax = maxPax;
+            return this;
+        }
+
+        public ReservationQuery build() {
+            return new ReservationQuery(this);
+        }
+    }
+
+    /**
+     * A source of candidates for a query, the number of candidates it is expected to give, and the criteria every
+     * candidate it gives is sure to meet.
+     */
+    private static class Plan {
+        private final String source;
+        private final int estimate;
+        private final Supplier<List<Reservation>> candidates;
+        private final List<Predicate<Reservation>> coveredCriteria;
+
+        Plan(String source, int estimate, Supplier<List<Reservation>> candidates,
+             List<Predicate<Reservation>> coveredCriteria) {
+            this.source = source;
+            this.estimate = estimate;
+            this.candidates = candidates;
+            this.coveredCriteria = coveredCriteria;
+        }
+
+        Plan orCheaper(Plan other) {
+            return other.estimate < estimate ? other : this;
+        }
+    }
+}
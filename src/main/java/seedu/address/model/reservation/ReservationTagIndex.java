@@ -0,0 +1,115 @@
+package seedu.address.model.reservation;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from tags to the reservations carrying them, so that the reservations with some tags can be
+ * found without scanning the whole book.
+ *
+ * The reservations under each tag are ordered by their sequence numbers in the reservation list. The reservations
+ * carrying all of several tags are found by walking the shortest of their postings and looking each reservation
+ * up in the others.
+ */
+public class ReservationTagIndex {
+
+    private final Map<Tag, TreeMap<Long, Reservation>> postings = new HashMap<>();
+
+    /**
+     * Indexes {@code reservation}, which has the given sequence number in the reservation list, under each of its
+     * tags.
+     */
+    public void add(Reservation reservation, long sequenceNumber) {
+        requireNonNull(reservation);
+        for (Tag tag : reservation.getTags()) {
+            postings.computeIfAbsent(tag, t -> new TreeMap<>()).put(sequenceNumber, reservation);
+        }
+    }
+
+    /**
+     * Removes {@code reservation}, which was added with the given sequence number, from the index.
+     */
+    public void remove(Reservation reservation, long sequenceNumber) {
+        requireNonNull(reservation);
+        for (Tag tag : reservation.getTags()) {
+            TreeMap<Long, Reservation> posting = postings.get(tag);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(sequenceNumber);
+            if (posting.isEmpty()) {
+                postings.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Removes every reservation from the index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the reservations carrying every tag of at least one of {@code alternatives}, in list order.
+     */
+    public List<Reservation> findMatching(Collection<Set<Tag>> alternatives) {
+        requireNonNull(alternatives);
+        TreeMap<Long, Reservation> matches = new TreeMap<>();
+        for (Set<Tag> tags : alternatives) {
+            List<TreeMap<Long, Reservation>> tagPostings = getPostings(tags);
+            if (tagPostings == null) {
+                continue;
+            }
+            TreeMap<Long, Reservation> shortest = tagPostings.get(0);
+            for (Entry<Long, Reservation> entry : shortest.entrySet()) {
+                if (tagPostings.stream().allMatch(posting -> posting.containsKey(entry.getKey()))) {
+                    matches.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    /**
+     * Returns an upper bound on the number of reservations {@link #findMatching(Collection)} would return for
+     * {@code alternatives}, without collecting them.
+     */
+    public int countMatching(Collection<Set<Tag>> alternatives) {
+        requireNonNull(alternatives);
+        int count = 0;
+        for (Set<Tag> tags : alternatives) {
+            List<TreeMap<Long, Reservation>> tagPostings = getPostings(tags);
+            if (tagPostings != null) {
+                count += tagPostings.get(0).size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the postings of {@code tags}, shortest first, or null if some tag is carried by no reservation.
+     */
+    private List<TreeMap<Long, Reservation>> getPostings(Set<Tag> tags) {
+        List<TreeMap<Long, Reservation>> tagPostings = new ArrayList<>();
+        for (Tag tag : tags) {
+            TreeMap<Long, Reservation> posting = postings.get(tag);
+            if (posting == null) {
+                return null;
+            }
+            tagPostings.add(posting);
+        }
+        tagPostings.sort((first, second) -> Integer.compare(first.size(), second.size()));
+        return tagPostings;
+    }
+}
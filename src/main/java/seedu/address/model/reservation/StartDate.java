@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 /**
  * Represents a start date in a reservation.
@@ -21,27 +22,73 @@ public class StartDate {
             + "|(?:(?:16|[2468][048]|[3579][26])00)))|"
             + "(?:0[1-9]|1\\d|2[0-8])/(?:0[1-9]|1[0-2]))/(?:1\\d{3}|[2-9]\\d{3})$";
 
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
     // Flag to bypass date range validation during sample data initialization
     private static boolean bypassDateRangeValidation = false;
 
+    // Compiled once, rather than on every match
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
+    // Parsed once here so that date comparisons do not need to parse the value again
+    private final long epochDay;
+
     /**
      * Constructs a {@code Date}.
      *
      * @param date A valid Date.
      */
     public StartDate(String date) {
+        this(date, !bypassDateRangeValidation);
+    }
+
+    private StartDate(String date, boolean isRangeChecked) {
         requireNonNull(date);
         // Always check format validity
         checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
 
-        // Check date range only if bypass is not enabled to
-        if (!bypassDateRangeValidation) {
+        if (isRangeChecked) {
             checkArgument(isValidDateRange(date), MESSAGE_CONSTRAINTS);
         }
 
         value = date;
+        epochDay = LocalDate.of(Integer.parseInt(date.substring(6)), Integer.parseInt(date.substring(3, 5)),
+                Integer.parseInt(date.substring(0, 2))).toEpochDay();
+    }
+
+    private StartDate(LocalDate date) {
+        int day = date.getDayOfMonth();
+        int month = date.getMonthValue();
+        int year = date.getYear();
+        value = new String(new char[] {
+            (char) ('0' + day / 10), (char) ('0' + day % 10), '/', (char) ('0' + month / 10), (char) ('0' + month % 10),
+            '/', (char) ('0' + year / 1000), (char) ('0' + year / 100 % 10), (char) ('0' + year / 10 % 10),
+            (char) ('0' + year % 10)
+        });
+        epochDay = date.toEpochDay();
+    }
+
+    /**
+     * Returns the {@code StartDate} of a valid {@code date} read back from storage, which may be on any day.
+     * Unlike {@link #enableBypassForSampleData()}, this affects no other thread, so it is safe to call from
+     * several threads at once.
+     */
+    public static StartDate ofStoredDate(String date) {
+        return new StartDate(date, false);
+    }
+
+    /**
+     * Returns the {@code StartDate} of the day {@code epochDay} days from the epoch, as in
+     * {@link LocalDate#toEpochDay()}.
+     * Unlike the constructor, the date is not required to be today or tomorrow, so that stored reservations on
+     * other days can be rebuilt.
+     */
+    public static StartDate ofEpochDay(long epochDay) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        checkArgument(date.getYear() >= 1000 && date.getYear() <= 9999, MESSAGE_CONSTRAINTS);
+        return new StartDate(date);
     }
 
     /**
@@ -62,15 +109,21 @@ public class StartDate {
      * Returns true if a given string is a valid date.
      */
     public static boolean isValidDate(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
      * Returns this StartDate's value (in "dd/MM/yyyy" format) as a LocalDate object.
      */
     public LocalDate toLocalDate() {
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-        return LocalDate.parse(value, dateFormatter);
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Returns this StartDate as a day count from the epoch, as in {@link LocalDate#toEpochDay()}.
+     */
+    public long toEpochDay() {
+        return epochDay;
     }
 
     @Override
@@ -110,9 +163,8 @@ public class StartDate {
      */
     public static boolean isValidDateRange(String userInputDate) {
         LocalDate date = LocalDate.now();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-        String dateToday = date.format(formatter);
-        String dateTomorrow = date.plusDays(1).format(formatter);
+        String dateToday = date.format(DATE_FORMATTER);
+        String dateTomorrow = date.plusDays(1).format(DATE_FORMATTER);
 
         if (!Objects.equals(userInputDate, dateToday) && !Objects.equals(userInputDate, dateTomorrow)) {
             return false;
@@ -4,7 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.util.regex.Pattern;
 
 /**
  * Represents a start time in a reservation.
@@ -14,8 +14,14 @@ public class StartTime {
     public static final String MESSAGE_CONSTRAINTS =
             "Time must be of 24 hour format in the form of HHMM";
     public static final String VALIDATION_REGEX = "^(?:[01]\\d|2[0-3])[0-5]\\d$";
+
+    // Compiled once, rather than on every match
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public final String value;
 
+    // Parsed once here so that time comparisons do not need to parse the value again
+    private final int minuteOfDay;
+
     /**
      * Constructs a {@code Time}.
      *
@@ -25,21 +31,45 @@ public class StartTime {
         requireNonNull(time);
         checkArgument(isValidTime(time), MESSAGE_CONSTRAINTS);
         value = time;
+        minuteOfDay = Integer.parseInt(time.substring(0, 2)) * 60 + Integer.parseInt(time.substring(2));
+    }
+
+    private StartTime(int minuteOfDay) {
+        int hour = minuteOfDay / 60;
+        int minute = minuteOfDay % 60;
+        value = new String(new char[] {
+            (char) ('0' + hour / 10), (char) ('0' + hour % 10), (char) ('0' + minute / 10), (char) ('0' + minute % 10)
+        });
+        this.minuteOfDay = minuteOfDay;
+    }
+
+    /**
+     * Returns the {@code StartTime} {@code minuteOfDay} minutes after midnight.
+     */
+    public static StartTime ofMinuteOfDay(int minuteOfDay) {
+        checkArgument(minuteOfDay >= 0 && minuteOfDay < 24 * 60, MESSAGE_CONSTRAINTS);
+        return new StartTime(minuteOfDay);
     }
 
     /**
      * Returns true if a given string is a time.
      */
     public static boolean isValidTime(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
      * Returns this StartTime's value (in "HHmm" format) as a LocalTime object.
      */
     public LocalTime toLocalTime() {
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HHmm");
-        return LocalTime.parse(value, timeFormatter);
+        return LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    /**
+     * Returns this StartTime as the number of minutes since midnight.
+     */
+    public int toMinuteOfDay() {
+        return minuteOfDay;
     }
 
     @Override
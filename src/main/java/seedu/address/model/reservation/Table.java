@@ -3,6 +3,8 @@ package seedu.address.model.reservation;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a table in a reservation system.
  * Ensures that the table number follows the valid format:
@@ -14,6 +16,9 @@ public class Table {
             "Table number must be in the form of 1 uppercase English letter followed by 1-3 digits";
     public static final String VALIDATION_REGEX = "^[A-Z]\\d{1,3}$";
 
+    // Compiled once, rather than on every match
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
     /**
@@ -31,7 +36,7 @@ public class Table {
      * Returns true if a given string is a table.
      */
     public static boolean isValidTable(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -0,0 +1,104 @@
+package seedu.address.model.reservation;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Tracks when each table is occupied on each day, so that bookings clashing with a reservation can be found
+ * without scanning the whole book.
+ *
+ * For each day and table, the reservations are kept in a map sorted by start minute. Since no reservation lasts
+ * longer than {@link Duration#MAX_MINUTES}, only the reservations starting within that long before a reservation,
+ * up to its end, can overlap it. A reservation occupies its table over {@code [start, start + duration)}, clipped
+ * to midnight.
+ *
+ * The reservations already in the book are not required to be free of clashes, since older data may contain them.
+ */
+public class TableOccupancy {
+
+    private final Map<Long, Map<String, TreeMap<Integer, List<Reservation>>>> timelines = new HashMap<>();
+
+    /**
+     * Marks the table of {@code reservation} as occupied during the reservation.
+     */
+    public void add(Reservation reservation) {
+        requireNonNull(reservation);
+        timelines.computeIfAbsent(reservation.getDate().toEpochDay(), day -> new HashMap<>())
+                .computeIfAbsent(reservation.getTable().value, table -> new TreeMap<>())
+                .computeIfAbsent(reservation.getTime().toMinuteOfDay(), start -> new ArrayList<>(1))
+                .add(reservation);
+    }
+
+    /**
+     * Frees the table of {@code reservation} during the reservation.
+     * {@code reservation} must have been added.
+     */
+    public void remove(Reservation reservation) {
+        requireNonNull(reservation);
+        long epochDay = reservation.getDate().toEpochDay();
+        Map<String, TreeMap<Integer, List<Reservation>>> tables = timelines.get(epochDay);
+        TreeMap<Integer, List<Reservation>> timeline = tables.get(reservation.getTable().value);
+        int startMinute = reservation.getTime().toMinuteOfDay();
+        List<Reservation> startingTogether = timeline.get(startMinute);
+        startingTogether.remove(reservation);
+
+        if (startingTogether.isEmpty()) {
+            timeline.remove(startMinute);
+        }
+        if (timeline.isEmpty()) {
+            tables.remove(reservation.getTable().value);
+        }
+        if (tables.isEmpty()) {
+            timelines.remove(epochDay);
+        }
+    }
+
+    public void clear() {
+        timelines.clear();
+    }
+
+    /**
+     * Returns a reservation, other than {@code ignored}, that occupies the table of {@code reservation} at some
+     * time during it, if any. {@code ignored} may be null.
+     */
+    public Optional<Reservation> findConflict(Reservation reservation, Reservation ignored) {
+        requireNonNull(reservation);
+        Map<String, TreeMap<Integer, List<Reservation>>> tables = timelines.get(reservation.getDate().toEpochDay());
+        if (tables == null || !tables.containsKey(reservation.getTable().value)) {
+            return Optional.empty();
+        }
+
+        int startMinute = reservation.getTime().toMinuteOfDay();
+        int endMinute = ReservationIntervalIndex.endMinuteOf(reservation);
+        return tables.get(reservation.getTable().value)
+                .subMap(startMinute - Duration.MAX_MINUTES, false, endMinute, false)
+                .values().stream()
+                .flatMap(List::stream)
+                .filter(other -> !other.equals(ignored))
+                .filter(other -> ReservationIntervalIndex.endMinuteOf(other) > startMinute)
+                .findFirst();
+    }
+
+    /**
+     * Returns the reservations on {@code date}, grouped by table in table order, and sorted by start time within
+     * each table.
+     */
+    public SortedMap<String, List<Reservation>> getBookingsByTable(LocalDate date) {
+        requireNonNull(date);
+        TreeMap<String, List<Reservation>> bookings = new TreeMap<>();
+        timelines.getOrDefault(date.toEpochDay(), Map.of()).forEach((table, timeline) -> {
+            List<Reservation> tableBookings = new ArrayList<>();
+            timeline.values().forEach(tableBookings::addAll);
+            bookings.put(table, tableBookings);
+        });
+        return bookings;
+    }
+}
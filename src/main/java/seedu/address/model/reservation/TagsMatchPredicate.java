@@ -0,0 +1,52 @@
+package seedu.address.model.reservation;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Reservation} carries every tag of at least one of a number of alternative sets of tags.
+ * For example, the alternatives {@code {vip, nuts}} and {@code {vip, shellfish}} match the reservations tagged
+ * vip along with nuts, shellfish, or both.
+ */
+public class TagsMatchPredicate implements Predicate<Reservation> {
+    private final List<Set<Tag>> alternatives;
+
+    /**
+     * Creates a predicate matching the reservations carrying all the tags of any one of {@code alternatives},
+     * none of which may be empty.
+     */
+    public TagsMatchPredicate(List<Set<Tag>> alternatives) {
+        assert alternatives.stream().noneMatch(Set::isEmpty);
+        this.alternatives = alternatives;
+    }
+
+    public List<Set<Tag>> getAlternatives() {
+        return alternatives;
+    }
+
+    @Override
+    public boolean test(Reservation reservation) {
+        return alternatives.stream().anyMatch(tags -> reservation.getTags().containsAll(tags));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof TagsMatchPredicate)) {
+            return false;
+        }
+        TagsMatchPredicate otherTagsMatchPredicate = (TagsMatchPredicate) other;
+        return alternatives.equals(otherTagsMatchPredicate.alternatives);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("alternatives", alternatives).toString();
+    }
+}
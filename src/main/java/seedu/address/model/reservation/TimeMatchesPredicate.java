@@ -1,36 +1,70 @@
 package seedu.address.model.reservation;
 
 import java.time.LocalTime;
+import java.util.Objects;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
- * Tests whether a reservation is ongoing at a specified time.
- * A reservation is considered ongoing if its start time is at or before the search time,
- * and its end time (start time + duration) is after the search time.
+ * Tests whether a reservation is ongoing at a specified time, or at any time in a specified range.
+ * A reservation is considered ongoing at a time if its start time is at or before that time,
+ * and its end time (start time + duration) is after it.
  */
 public class TimeMatchesPredicate implements Predicate<Reservation> {
     private final LocalTime searchTime;
+    private final LocalTime searchEndTime;
+    private final int searchStartMinute;
+    private final int searchEndMinute;
 
+    /**
+     * Creates a predicate for reservations ongoing at {@code searchTime}.
+     */
     public TimeMatchesPredicate(LocalTime searchTime) {
         this.searchTime = searchTime;
+        this.searchEndTime = null;
+        this.searchStartMinute = toMinuteOfDay(searchTime);
+        this.searchEndMinute = searchStartMinute + 1;
     }
 
-    @Override
-    public boolean test(Reservation reservation) {
-        LocalTime startTime = reservation.getTime().toLocalTime();
-        int durationMinutes = reservation.getDuration().toMinutes();
-        LocalTime endTime = startTime.plusMinutes(durationMinutes);
+    /**
+     * Creates a predicate for reservations ongoing at any time from {@code searchTime} until {@code searchEndTime},
+     * excluding {@code searchEndTime} itself. {@code searchTime} must be before {@code searchEndTime}.
+     */
+    public TimeMatchesPredicate(LocalTime searchTime, LocalTime searchEndTime) {
+        assert searchTime.isBefore(searchEndTime);
+        this.searchTime = searchTime;
+        this.searchEndTime = searchEndTime;
+        this.searchStartMinute = toMinuteOfDay(searchTime);
+        this.searchEndMinute = toMinuteOfDay(searchEndTime);
+    }
 
-        // If reservation spans overnight, clip endTime to 11:59
-        if (endTime.isBefore(startTime)) {
-            endTime = LocalTime.of(23, 59, 59);
-        }
+    private static int toMinuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
 
-        // The reservation is ongoing at searchTime if startTime <= searchTime < endTime.
-        return !startTime.isAfter(searchTime) && searchTime.isBefore(endTime);
+    /**
+     * Returns the first minute of the day searched.
+     */
+    public int getSearchStartMinute() {
+        return searchStartMinute;
+    }
+
+    /**
+     * Returns the minute of the day the search ends at, exclusive.
+     */
+    public int getSearchEndMinute() {
+        return searchEndMinute;
+    }
+
+    @Override
+    public boolean test(Reservation reservation) {
+        int startMinute = reservation.getTime().toMinuteOfDay();
+        int endMinute = ReservationIntervalIndex.endMinuteOf(reservation);
 
+        // The reservation is ongoing in the search range if it starts before the range ends
+        // and ends after the range starts.
+        return startMinute < searchEndMinute && endMinute > searchStartMinute;
     }
 
     @Override
@@ -42,11 +76,15 @@ public class TimeMatchesPredicate implements Predicate<Reservation> {
             return false;
         }
         TimeMatchesPredicate otherPredicate = (TimeMatchesPredicate) other;
-        return searchTime.equals(otherPredicate.searchTime);
+        return searchTime.equals(otherPredicate.searchTime)
+                && Objects.equals(searchEndTime, otherPredicate.searchEndTime);
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this).add("searchTime", searchTime).toString();
+        return new ToStringBuilder(this)
+                .add("searchTime", searchTime)
+                .add("searchEndTime", searchEndTime)
+                .toString();
     }
 }
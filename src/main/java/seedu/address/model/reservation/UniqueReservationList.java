@@ -3,13 +3,24 @@ package seedu.address.model.reservation;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.reservation.exceptions.DuplicateReservationException;
 import seedu.address.model.reservation.exceptions.ReservationNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * A list of reservations that enforces uniqueness between its elements and does not allow nulls.
@@ -19,6 +30,21 @@ import seedu.address.model.reservation.exceptions.ReservationNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Alongside the observable list, a hash index from each reservation's {@code Identification} to the reservation is
+ * kept so that duplicate checks and id lookups do not need to scan the whole list. The identification is derived
+ * from the same fields that {@code Reservation#equals(Object)} compares. All mutations go through this class, which
+ * keeps the two in sync.
+ *
+ * Reservations are also bucketed by date, so that the reservations on a given day can be listed without scanning
+ * the whole book. Each reservation is given a sequence number that increases along the list, and the buckets are
+ * ordered by it, so reservations taken from the buckets come out in list order. All indexes are updated before the
+ * observable list fires its change events, so listeners of the list can rely on them.
+ *
+ * The times each table is occupied are tracked by a {@code TableOccupancy}, so that clashing bookings can be
+ * found quickly. Lastly, the words in the names of the reservations are indexed by a {@code ReservationNameIndex},
+ * and the digits of their phone numbers by a {@code PhoneDigitIndex}, so that the reservations made under a name
+ * or number can be found without matching every reservation in the book.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Reservation#isSameReservation(Reservation)
@@ -28,13 +54,174 @@ public class UniqueReservationList implements Iterable<Reservation> {
     private final ObservableList<Reservation> internalList = FXCollections.observableArrayList();
     private final ObservableList<Reservation> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Identification, Reservation> idIndex = new HashMap<>();
+    private final Map<Identification, Long> sequenceNumbers = new HashMap<>();
+    private final Map<Long, TreeMap<Long, Reservation>> dateIndex = new HashMap<>();
+    // Built on first query of a day, and dropped whenever that day's reservations change
+    private final Map<Long, ReservationIntervalIndex> intervalIndexes = new HashMap<>();
+    private final TableOccupancy tableOccupancy = new TableOccupancy();
+    private final ReservationNameIndex nameIndex = new ReservationNameIndex();
+    private final PhoneDigitIndex phoneIndex = new PhoneDigitIndex();
+    private final ReservationTagIndex tagIndex = new ReservationTagIndex();
+    private long nextSequenceNumber;
 
     /**
      * Returns true if the list contains an equivalent reservation as the given argument.
      */
     public boolean contains(Reservation toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameReservation);
+        return idIndex.containsKey(identificationOf(toCheck));
+    }
+
+    /**
+     * Returns the reservation with the given {@code id}, if any.
+     */
+    public Optional<Reservation> findById(Identification id) {
+        requireNonNull(id);
+        return Optional.ofNullable(idIndex.get(id));
+    }
+
+    /**
+     * Returns the reservations on any of the given {@code dates}, in list order.
+     */
+    public List<Reservation> getReservationsOn(LocalDate... dates) {
+        requireAllNonNull((Object[]) dates);
+        TreeMap<Long, Reservation> reservationsOnDates = new TreeMap<>();
+        for (LocalDate date : dates) {
+            TreeMap<Long, Reservation> bucket = dateIndex.get(date.toEpochDay());
+            if (bucket != null) {
+                reservationsOnDates.putAll(bucket);
+            }
+        }
+        return new ArrayList<>(reservationsOnDates.values());
+    }
+
+    /**
+     * Returns the reservations from {@code from} to {@code to} inclusive, in list order.
+     */
+    public List<Reservation> getReservationsBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        TreeMap<Long, Reservation> reservationsBetween = new TreeMap<>();
+        forEachBucketBetween(from, to, reservationsBetween::putAll);
+        return new ArrayList<>(reservationsBetween.values());
+    }
+
+    /**
+     * Returns the number of reservations from {@code from} to {@code to} inclusive.
+     */
+    public int countReservationsBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        int[] count = new int[1];
+        forEachBucketBetween(from, to, bucket -> count[0] += bucket.size());
+        return count[0];
+    }
+
+    /**
+     * Passes the date buckets from {@code from} to {@code to} inclusive to {@code action}, looking up each day in
+     * the range or going through every bucket, whichever is fewer.
+     */
+    private void forEachBucketBetween(LocalDate from, LocalDate to, Consumer<TreeMap<Long, Reservation>> action) {
+        long fromDay = from.toEpochDay();
+        long toDay = to.toEpochDay();
+        if (toDay - fromDay < dateIndex.size()) {
+            for (long day = fromDay; day <= toDay; day++) {
+                TreeMap<Long, Reservation> bucket = dateIndex.get(day);
+                if (bucket != null) {
+                    action.accept(bucket);
+                }
+            }
+            return;
+        }
+        dateIndex.forEach((day, bucket) -> {
+            if (day >= fromDay && day <= toDay) {
+                action.accept(bucket);
+            }
+        });
+    }
+
+    /**
+     * Returns the reservations on {@code date} that are ongoing at some minute of the day in
+     * {@code [fromMinute, toMinute)}, in list order.
+     */
+    public List<Reservation> getReservationsDuring(LocalDate date, int fromMinute, int toMinute) {
+        requireNonNull(date);
+        long epochDay = date.toEpochDay();
+        TreeMap<Long, Reservation> bucket = dateIndex.get(epochDay);
+        if (bucket == null) {
+            return new ArrayList<>();
+        }
+        return intervalIndexes.computeIfAbsent(epochDay, day -> new ReservationIntervalIndex(bucket))
+                .findOverlapping(fromMinute, toMinute);
+    }
+
+    /**
+     * Returns the reservations whose name contains any of {@code keywords} as a whole word, ignoring case, in
+     * list order. Each keyword must be a single word.
+     */
+    public List<Reservation> getReservationsNamed(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return nameIndex.findMatching(keywords);
+    }
+
+    /**
+     * Returns an upper bound on the number of reservations {@link #getReservationsNamed(Collection)} would
+     * return for {@code keywords}.
+     */
+    public int countReservationsNamed(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return nameIndex.countMatching(keywords);
+    }
+
+    /**
+     * Returns the reservations whose phone number matches any of {@code keywords}, in list order.
+     * Keywords are matched as described in {@link PhoneContainsKeywordsPredicate}.
+     */
+    public List<Reservation> getReservationsWithPhone(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return phoneIndex.findMatching(keywords);
+    }
+
+    /**
+     * Returns an upper bound on the number of reservations {@link #getReservationsWithPhone(Collection)} would
+     * return for {@code keywords}.
+     */
+    public int countReservationsWithPhone(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return phoneIndex.countMatching(keywords);
+    }
+
+    /**
+     * Returns the reservations carrying every tag of at least one of {@code alternatives}, in list order.
+     * None of the alternatives may be empty.
+     */
+    public List<Reservation> getReservationsTagged(Collection<Set<Tag>> alternatives) {
+        requireNonNull(alternatives);
+        return tagIndex.findMatching(alternatives);
+    }
+
+    /**
+     * Returns an upper bound on the number of reservations {@link #getReservationsTagged(Collection)} would
+     * return for {@code alternatives}.
+     */
+    public int countReservationsTagged(Collection<Set<Tag>> alternatives) {
+        requireNonNull(alternatives);
+        return tagIndex.countMatching(alternatives);
+    }
+
+    /**
+     * Returns a reservation in the list, other than {@code ignored}, whose table is occupied at some time during
+     * {@code reservation}, if any. {@code ignored} may be null.
+     */
+    public Optional<Reservation> findTableConflict(Reservation reservation, Reservation ignored) {
+        return tableOccupancy.findConflict(reservation, ignored);
+    }
+
+    /**
+     * Returns the reservations on {@code date}, grouped by table in table order, and sorted by start time within
+     * each table.
+     */
+    public SortedMap<String, List<Reservation>> getBookingsByTable(LocalDate date) {
+        return tableOccupancy.getBookingsByTable(date);
     }
 
     /**
@@ -43,9 +230,10 @@ public class UniqueReservationList implements Iterable<Reservation> {
      */
     public void add(Reservation toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (idIndex.putIfAbsent(identificationOf(toAdd), toAdd) != null) {
             throw new DuplicateReservationException();
         }
+        addToDateIndex(toAdd, nextSequenceNumber++);
         internalList.add(toAdd);
     }
 
@@ -54,8 +242,10 @@ public class UniqueReservationList implements Iterable<Reservation> {
      * {@code target} must exist in the list.
      * The reservation identity of {@code editedReservation} must not be the same as another existing
      * reservation in the list.
+     *
+     * @return the reservation replaced, which is equal to {@code target} but need not be the same object.
      */
-    public void setReservation(Reservation target, Reservation editedReservation) {
+    public Reservation setReservation(Reservation target, Reservation editedReservation) {
         requireAllNonNull(target, editedReservation);
 
         int index = internalList.indexOf(target);
@@ -67,22 +257,37 @@ public class UniqueReservationList implements Iterable<Reservation> {
             throw new DuplicateReservationException();
         }
 
-        internalList.set(index, editedReservation);
+        idIndex.remove(identificationOf(target));
+        idIndex.put(identificationOf(editedReservation), editedReservation);
+        // The edited reservation takes the place of the target, so it also takes its sequence number
+        addToDateIndex(editedReservation, removeFromDateIndex(target));
+        return internalList.set(index, editedReservation);
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     *
+     * @return the reservation removed, which is equal to {@code toRemove} but need not be the same object.
      */
-    public void remove(Reservation toRemove) {
+    public Reservation remove(Reservation toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new ReservationNotFoundException();
         }
+        Reservation removed = internalList.get(index);
+        idIndex.remove(identificationOf(removed));
+        removeFromDateIndex(removed);
+        internalList.remove(index);
+        return removed;
     }
 
     public void setReservations(UniqueReservationList replacement) {
         requireNonNull(replacement);
+        idIndex.clear();
+        idIndex.putAll(replacement.idIndex);
+        rebuildDateIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -92,13 +297,23 @@ public class UniqueReservationList implements Iterable<Reservation> {
      */
     public void setReservations(List<Reservation> reservations) {
         requireAllNonNull(reservations);
-        if (!reservationsAreUnique(reservations)) {
-            throw new DuplicateReservationException();
+        Map<Identification, Reservation> newIdIndex = new HashMap<>();
+        for (Reservation reservation : reservations) {
+            if (newIdIndex.putIfAbsent(identificationOf(reservation), reservation) != null) {
+                throw new DuplicateReservationException();
+            }
         }
 
+        idIndex.clear();
+        idIndex.putAll(newIdIndex);
+        rebuildDateIndex(reservations);
         internalList.setAll(reservations);
     }
 
+    public int size() {
+        return internalList.size();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -136,17 +351,52 @@ public class UniqueReservationList implements Iterable<Reservation> {
         return internalList.toString();
     }
 
+    private void addToDateIndex(Reservation reservation, long sequenceNumber) {
+        sequenceNumbers.put(identificationOf(reservation), sequenceNumber);
+        long epochDay = reservation.getDate().toEpochDay();
+        dateIndex.computeIfAbsent(epochDay, day -> new TreeMap<>()).put(sequenceNumber, reservation);
+        intervalIndexes.remove(epochDay);
+        tableOccupancy.add(reservation);
+        nameIndex.add(reservation, sequenceNumber);
+        phoneIndex.add(reservation, sequenceNumber);
+        tagIndex.add(reservation, sequenceNumber);
+    }
+
     /**
-     * Returns true if {@code reservations} contains only unique persons.
+     * Removes {@code reservation} from the date index and returns its sequence number.
      */
-    private boolean reservationsAreUnique(List<Reservation> reservations) {
-        for (int i = 0; i < reservations.size() - 1; i++) {
-            for (int j = i + 1; j < reservations.size(); j++) {
-                if (reservations.get(i).isSameReservation(reservations.get(j))) {
-                    return false;
-                }
-            }
+    private long removeFromDateIndex(Reservation reservation) {
+        long sequenceNumber = sequenceNumbers.remove(identificationOf(reservation));
+        long epochDay = reservation.getDate().toEpochDay();
+        TreeMap<Long, Reservation> bucket = dateIndex.get(epochDay);
+        bucket.remove(sequenceNumber);
+        intervalIndexes.remove(epochDay);
+        tableOccupancy.remove(reservation);
+        nameIndex.remove(reservation, sequenceNumber);
+        phoneIndex.remove(reservation, sequenceNumber);
+        tagIndex.remove(reservation, sequenceNumber);
+        if (bucket.isEmpty()) {
+            dateIndex.remove(epochDay);
         }
-        return true;
+        return sequenceNumber;
+    }
+
+    private void rebuildDateIndex(List<Reservation> reservations) {
+        sequenceNumbers.clear();
+        dateIndex.clear();
+        intervalIndexes.clear();
+        tableOccupancy.clear();
+        nameIndex.clear();
+        phoneIndex.clear();
+        tagIndex.clear();
+        nextSequenceNumber = 0;
+        reservations.forEach(reservation -> addToDateIndex(reservation, nextSequenceNumber++));
+    }
+
+    /**
+     * Returns the identification of {@code reservation}, derived from its identity fields.
+     */
+    private static Identification identificationOf(Reservation reservation) {
+        return new Identification(reservation.getDate(), reservation.getPhone(), reservation.getTime());
     }
 }
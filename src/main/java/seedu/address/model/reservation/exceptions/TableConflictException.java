@@ -0,0 +1,25 @@
+package seedu.address.model.reservation.exceptions;
+
+import seedu.address.model.reservation.Reservation;
+
+/**
+ * Signals that the operation would book a table that another reservation already occupies at the same time.
+ */
+public class TableConflictException extends RuntimeException {
+    private final Reservation conflict;
+
+    /**
+     * Creates an exception for an operation that clashes with {@code conflict}.
+     */
+    public TableConflictException(Reservation conflict) {
+        super("Operation would book a table already occupied by another reservation");
+        this.conflict = conflict;
+    }
+
+    /**
+     * Returns the reservation already occupying the table.
+     */
+    public Reservation getConflict() {
+        return conflict;
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns sets of tags, so that the reservations carrying the same tags share a single unmodifiable set rather
+ * than each holding a copy of its own.
+ *
+ * A restaurant uses a handful of tags, and only a few combinations of them, so the pool stays small and is never
+ * emptied. It may be used from several threads at once, as reservations are read back from storage in parallel.
+ */
+public class TagSetPool {
+    private static final Map<Set<Tag>, Set<Tag>> POOL = new ConcurrentHashMap<>();
+
+    private TagSetPool() {}
+
+    /**
+     * Returns an unmodifiable set equal to {@code tags}, shared with every other caller passing an equal set.
+     */
+    public static Set<Tag> intern(Set<Tag> tags) {
+        requireNonNull(tags);
+        Set<Tag> interned = POOL.get(tags);
+        if (interned != null) {
+            return interned;
+        }
+        Set<Tag> copy = Collections.unmodifiableSet(new HashSet<>(tags));
+        interned = POOL.putIfAbsent(copy, copy);
+        return interned != null ? interned : copy;
+    }
+}
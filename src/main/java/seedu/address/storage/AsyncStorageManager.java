@@ -0,0 +1,252 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyGastroBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.ReservationChange;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.reservation.Reservation;
+
+/**
+ * A {@code Storage} that saves GastroBook data on a background thread, so that saving does not hold up the
+ * thread that changed it.
+ *
+ * Each save hands the changes made to the book since the previous save of the same file to a single writer thread,
+ * which applies them to a replica of the book it keeps for each file, and writes the replica. Only if the changes
+ * are not known, as for the first save or after the book was replaced, is the whole reservation list copied
+ * instead, which is still cheap as reservations are immutable. Saves that arrive while the writer is busy are
+ * merged, so only the latest state of each file is written. As the saves are not written at once, they cannot
+ * throw; failures are instead passed to the handler set with {@link #setSaveFailureHandler(Consumer)}, and thrown
+ * by the next {@link #flushGastroBook()}.
+ * User prefs are read and saved straight away.
+ */
+public class AsyncStorageManager implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncStorageManager.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "gastrobook-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Only used by the writer thread
+    private final Map<Path, GastroBookReplica> replicas = new HashMap<>();
+
+    // All access to the fields below is guarded by this object's lock.
+    private final Map<Path, PendingSave> pendingSaves = new LinkedHashMap<>();
+    // The version of the book each file was last saved from, which the changes of its next save are taken from
+    private final Map<Path, Long> queuedVersions = new HashMap<>();
+    private boolean isWriteScheduled;
+    private IOException lastFailure;
+    private Consumer<IOException> saveFailureHandler = failure -> {};
+
+    /**
+     * Creates an {@code AsyncStorageManager} that writes through {@code storage}.
+     */
+    public AsyncStorageManager(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ GastroBook methods ==============================
+
+    @Override
+    public Path getGastroBookFilePath() {
+        return storage.getGastroBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyGastroBook> readGastroBook() throws DataLoadingException {
+        return readGastroBook(storage.getGastroBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyGastroBook> readGastroBook(Path filePath) throws DataLoadingException {
+        // Reads must see every save made before them
+        waitForPendingSaves();
+        return storage.readGastroBook(filePath);
+    }
+
+    @Override
+    public void saveGastroBook(ReadOnlyGastroBook gastroBook) {
+        saveGastroBook(gastroBook, storage.getGastroBookFilePath());
+    }
+
+    @Override
+    public void saveGastroBook(ReadOnlyGastroBook gastroBook, Path filePath) {
+        requireNonNull(gastroBook);
+        requireNonNull(filePath);
+
+        synchronized (this) {
+            Long queuedVersion = queuedVersions.get(filePath);
+            Optional<List<ReservationChange>> changes = queuedVersion == null
+                    ? Optional.empty()
+                    : gastroBook.getChangesSince(queuedVersion);
+            // Moves the file to the back, so files are written in the order they were last saved to
+            PendingSave pendingSave = pendingSaves.remove(filePath);
+            if (changes.isEmpty()) {
+                pendingSave = new PendingSave(List.copyOf(gastroBook.getReservationList()));
+            } else if (pendingSave == null) {
+                pendingSave = new PendingSave(null);
+            }
+            changes.ifPresent(pendingSave.changes::addAll);
+            pendingSaves.put(filePath, pendingSave);
+            queuedVersions.put(filePath, gastroBook.getVersion());
+
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                writer.execute(this::writePendingSaves);
+            }
+        }
+    }
+
+    /**
+     * Waits for every save made so far to be written, then finishes writing them to the disk.
+     *
+     * @throws IOException if the last save that failed since the previous flush could not be written.
+     */
+    @Override
+    public void flushGastroBook() throws IOException {
+        waitForPendingSaves();
+        storage.flushGastroBook();
+
+        IOException failure;
+        synchronized (this) {
+            failure = lastFailure;
+            lastFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public synchronized void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Writes the pending saves, one at a time, until there are none left.
+     * Runs on the writer thread.
+     */
+    private void writePendingSaves() {
+        while (true) {
+            Map.Entry<Path, PendingSave> save;
+            synchronized (this) {
+                Iterator<Map.Entry<Path, PendingSave>> iterator = pendingSaves.entrySet().iterator();
+                if (!iterator.hasNext()) {
+                    isWriteScheduled = false;
+                    notifyAll();
+                    return;
+                }
+                save = iterator.next();
+                iterator.remove();
+            }
+
+            Path filePath = save.getKey();
+            try {
+                storage.saveGastroBook(applyToReplica(filePath, save.getValue()), filePath);
+            } catch (IOException | RuntimeException e) {
+                IOException failure = e instanceof IOException ? (IOException) e : new IOException(e);
+                logger.warning("Could not save data to " + filePath + ": " + StringUtil.getDetails(failure));
+                Consumer<IOException> handler;
+                synchronized (this) {
+                    lastFailure = failure;
+                    handler = saveFailureHandler;
+                }
+                handler.accept(failure);
+            }
+        }
+    }
+
+    /**
+     * Brings the replica of the book saved to {@code filePath} up to date with {@code save}, and returns it.
+     * If that cannot be done, the replica is dropped, and the next save of the file copies the whole book again.
+     */
+    private GastroBookReplica applyToReplica(Path filePath, PendingSave save) throws IOException {
+        if (save.reservations != null) {
+            replicas.put(filePath, new GastroBookReplica(save.reservations));
+        }
+        GastroBookReplica replica = replicas.get(filePath);
+        try {
+            if (replica == null) {
+                throw new IllegalStateException("No replica to apply changes to");
+            }
+            replica.apply(save.changes);
+            return replica;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            replicas.remove(filePath);
+            synchronized (this) {
+                queuedVersions.remove(filePath);
+            }
+            throw new IOException("Could not bring the saved book up to date", e);
+        }
+    }
+
+    private void waitForPendingSaves() {
+        synchronized (this) {
+            boolean isInterrupted = false;
+            while (isWriteScheduled) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    isInterrupted = true;
+                }
+            }
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * A save waiting to be written: either a copy of the whole reservation list, followed by the changes made since,
+     * or only the changes made since the previous save of the same file.
+     */
+    private static class PendingSave {
+        private final List<Reservation> reservations;
+        private final List<ReservationChange> changes = new ArrayList<>();
+
+        PendingSave(List<Reservation> reservations) {
+            this.reservations = reservations;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package seedu.address.storage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.GastroBook;
+import seedu.address.model.ReadOnlyGastroBook;
+import seedu.address.model.reservation.Duration;
+import seedu.address.model.reservation.Identification;
+import seedu.address.model.reservation.Name;
+import seedu.address.model.reservation.Pax;
+import seedu.address.model.reservation.Phone;
+import seedu.address.model.reservation.Remark;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.StartDate;
+import seedu.address.model.reservation.StartTime;
+import seedu.address.model.reservation.Table;
+import seedu.address.model.reservation.exceptions.DuplicateReservationException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes the compact binary snapshot of a GastroBook.
+ *
+ * The file starts with a header of a magic number, the format version, the size and modification time of the JSON
+ * file it was made from, and the number of reservations. Each reservation follows, with its date, time, duration
+ * and pax as fixed-width numbers, and its other fields as strings. The file ends with a CRC32 checksum of everything
+ * before it, so a torn or corrupted file is detected rather than read.
+ *
+ * Dates, times, durations and pax are rebuilt from their numbers without parsing or matching them again, and the
+ * identification is rebuilt from its parts, which makes reading much cheaper than reading the JSON file.
+ */
+class BinaryGastroBookFormat {
+
+    static final int MAGIC = 0x47427331;
+    static final short FORMAT_VERSION = 1;
+    // The tag count is stored in one unsigned byte
+    static final int MAX_TAG_COUNT = 255;
+
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + 2 * Long.BYTES + Integer.BYTES;
+    private static final int CHECKSUM_SIZE = Long.BYTES;
+    // The fewest bytes a reservation can take: the lengths of its strings, its fixed-width fields and its flag
+    private static final int MIN_RESERVATION_SIZE = 4 * Short.BYTES + Integer.BYTES + 3 * Short.BYTES + 2;
+
+    private BinaryGastroBookFormat() {}
+
+    /**
+     * Identifies the version of the JSON file a binary snapshot was made from, by its size and modification time.
+     */
+    static class SourceStamp {
+        private final long size;
+        private final long lastModifiedMillis;
+
+        SourceStamp(long size, long lastModifiedMillis) {
+            this.size = size;
+            this.lastModifiedMillis = lastModifiedMillis;
+        }
+
+        /**
+         * Returns the stamp of the file at {@code sourcePath} as it is now.
+         */
+        static SourceStamp of(Path sourcePath) throws IOException {
+            return new SourceStamp(Files.size(sourcePath), Files.getLastModifiedTime(sourcePath).toMillis());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof SourceStamp)) {
+                return false;
+            }
+
+            SourceStamp otherStamp = (SourceStamp) other;
+            return size == otherStamp.size && lastModifiedMillis == otherStamp.lastModifiedMillis;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(size) * 31 + Long.hashCode(lastModifiedMillis);
+        }
+    }
+
+    /**
+     * Writes {@code gastroBook} to {@code path} as a binary snapshot of the JSON file stamped {@code sourceStamp}.
+     */
+    static void write(ReadOnlyGastroBook gastroBook, SourceStamp sourceStamp, Path path) throws IOException {
+        List<Reservation> reservations = List.copyOf(gastroBook.getReservationList());
+        // The snapshot can always be rebuilt from the JSON file, so it is neither forced to the disk nor backed up
+        FileUtil.writeAtomically(path, fileOut -> {
+            CheckedOutputStream checkedOut = new CheckedOutputStream(fileOut, new CRC32());
+            DataOutputStream out = new DataOutputStream(checkedOut);
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+            out.writeLong(sourceStamp.size);
+            out.writeLong(sourceStamp.lastModifiedMillis);
+            out.writeInt(reservations.size());
+            for (Reservation reservation : reservations) {
+                writeReservation(out, reservation);
+            }
+            out.flush();
+
+            new DataOutputStream(fileOut).writeLong(checkedOut.getChecksum().getValue());
+        }, false, 0);
+    }
+
+    private static void writeReservation(DataOutputStream out, Reservation reservation) throws IOException {
+        out.writeUTF(reservation.getName().getFullName());
+        out.writeUTF(reservation.getPhone().value);
+        out.writeInt(Math.toIntExact(reservation.getDate().toEpochDay()));
+        out.writeShort(reservation.getTime().toMinuteOfDay());
+        out.writeShort(reservation.getDuration().toMinutes());
+        out.writeShort(reservation.getPax().toInt());
+        out.writeUTF(reservation.getTable().value);
+        out.writeUTF(reservation.getRemark().value);
+        if (reservation.getTags().size() > MAX_TAG_COUNT) {
+            throw new IOException("A reservation with more than " + MAX_TAG_COUNT
+                    + " tags cannot be kept in a binary snapshot");
+        }
+        out.writeByte(reservation.getTags().size());
+        for (Tag tag : reservation.getTags()) {
+            out.writeUTF(tag.tagName);
+        }
+        out.writeBoolean(reservation.getIsPaid());
+    }
+
+    /**
+     * Reads the binary snapshot at {@code path}.
+     * Returns {@code Optional.empty()} if it was written in another format version, or made from a version of the
+     * JSON file other than the one stamped {@code sourceStamp}.
+     *
+     * @throws IOException if the snapshot is corrupted or holds values that are not valid.
+     */
+    static Optional<GastroBook> read(Path path, SourceStamp sourceStamp) throws IOException {
+        long fileSize = Files.size(path);
+        if (fileSize < HEADER_SIZE + CHECKSUM_SIZE) {
+            throw new IOException("Binary snapshot " + path + " is truncated");
+        }
+
+        // The checksum is worked out while the file is read, and checked once the whole file has been read
+        try (InputStream fileIn = FileUtil.openForReading(path)) {
+            CheckedInputStream checkedIn = new CheckedInputStream(fileIn, new CRC32());
+            DataInputStream in = new DataInputStream(checkedIn);
+            if (in.readInt() != MAGIC) {
+                throw new IOException(path + " is not a binary snapshot");
+            }
+            if (in.readShort() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            if (!sourceStamp.equals(new SourceStamp(in.readLong(), in.readLong()))) {
+                return Optional.empty();
+            }
+
+            int reservationCount = in.readInt();
+            // A corrupted count must not be trusted to size the list
+            List<Reservation> reservations = new ArrayList<>(
+                    (int) Math.min(Math.max(reservationCount, 0), fileSize / MIN_RESERVATION_SIZE));
+            try {
+                for (int i = 0; i < reservationCount; i++) {
+                    reservations.add(readReservation(in));
+                }
+            } catch (RuntimeException e) {
+                // Thrown by the model for values that are not valid
+                throw new IOException("Binary snapshot " + path + " holds a reservation that is not valid", e);
+            }
+
+            long checksum = checkedIn.getChecksum().getValue();
+            if (in.readLong() != checksum || in.read() != -1) {
+                throw new IOException("Binary snapshot " + path + " does not match its checksum");
+            }
+
+            GastroBook gastroBook = new GastroBook();
+            try {
+                gastroBook.setReservations(reservations);
+            } catch (DuplicateReservationException e) {
+                throw new IOException("Binary snapshot " + path + " holds duplicate reservations", e);
+            }
+            return Optional.of(gastroBook);
+        }
+    }
+
+    private static Reservation readReservation(DataInputStream in) throws IOException {
+        Name name = new Name(in.readUTF());
+        Phone phone = new Phone(in.readUTF());
+        StartDate date = StartDate.ofEpochDay(in.readInt());
+        StartTime time = StartTime.ofMinuteOfDay(in.readShort());
+        Duration duration = Duration.ofMinutes(in.readShort());
+        Pax pax = Pax.of(in.readShort());
+        Table table = new Table(in.readUTF());
+        Remark remark = new Remark(in.readUTF());
+        int tagCount = in.readUnsignedByte();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(in.readUTF()));
+        }
+        boolean isPaid = in.readBoolean();
+        return new Reservation(name, phone, date, time, duration, pax, table, remark, tags,
+                new Identification(date, phone, time), isPaid);
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.GastroBook;
+import seedu.address.model.ReadOnlyGastroBook;
+import seedu.address.storage.BinaryGastroBookFormat.SourceStamp;
+
+/**
+ * A {@code GastroBookStorage} that keeps a compact binary snapshot next to a JSON file, so that the data can be
+ * read back much faster than by parsing and validating the JSON file.
+ *
+ * The JSON file stays the interchange format and the one the data is taken from: every save writes it as before,
+ * and then writes the binary snapshot too. The binary snapshot records which version of the JSON file it was made
+ * from, and is only read instead of the JSON file while that file is unchanged, e.g. if it was not edited by hand.
+ * Otherwise, or if the binary snapshot cannot be read, the JSON file is read and the binary snapshot rewritten.
+ */
+public class BinarySnapshotGastroBookStorage implements GastroBookStorage {
+
+    public static final String BINARY_SUFFIX = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinarySnapshotGastroBookStorage.class);
+
+    private final JsonGastroBookStorage jsonStorage;
+
+    /**
+     * Creates a storage that keeps a binary snapshot next to each file saved by {@code jsonStorage}.
+     */
+    public BinarySnapshotGastroBookStorage(JsonGastroBookStorage jsonStorage) {
+        requireNonNull(jsonStorage);
+        this.jsonStorage = jsonStorage;
+    }
+
+    /**
+     * Returns the path of the binary snapshot kept next to the JSON file at {@code filePath}.
+     */
+    public static Path getBinaryPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + BINARY_SUFFIX);
+    }
+
+    @Override
+    public Path getGastroBookFilePath() {
+        return jsonStorage.getGastroBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyGastroBook> readGastroBook() throws DataLoadingException {
+        return readGastroBook(getGastroBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyGastroBook> readGastroBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            // The JSON storage falls back to the earlier versions of the file, which the snapshot does not match
+            return jsonStorage.readGastroBook(filePath);
+        }
+
+        Optional<GastroBook> fromBinary = readBinarySnapshot(filePath);
+        if (fromBinary.isPresent()) {
+            return Optional.of(fromBinary.get());
+        }
+
+        Optional<ReadOnlyGastroBook> gastroBook = jsonStorage.readGastroBook(filePath);
+        if (gastroBook.isPresent()) {
+            writeBinarySnapshot(gastroBook.get(), filePath);
+        }
+        return gastroBook;
+    }
+
+    @Override
+    public void saveGastroBook(ReadOnlyGastroBook gastroBook) throws IOException {
+        saveGastroBook(gastroBook, getGastroBookFilePath());
+    }
+
+    @Override
+    public void saveGastroBook(ReadOnlyGastroBook gastroBook, Path filePath) throws IOException {
+        requireNonNull(gastroBook);
+        requireNonNull(filePath);
+
+        jsonStorage.saveGastroBook(gastroBook, filePath);
+        writeBinarySnapshot(gastroBook, filePath);
+    }
+
+    @Override
+    public void flushGastroBook() throws IOException {
+        jsonStorage.flushGastroBook();
+    }
+
+    /**
+     * Reads the binary snapshot of the JSON file at {@code filePath}, if there is one made from that file as it
+     * is now.
+     */
+    private Optional<GastroBook> readBinarySnapshot(Path filePath) {
+        Path binaryPath = getBinaryPath(filePath);
+        if (!Files.exists(binaryPath)) {
+            return Optional.empty();
+        }
+
+        try {
+            Optional<GastroBook> gastroBook = BinaryGastroBookFormat.read(binaryPath, SourceStamp.of(filePath));
+            if (gastroBook.isEmpty()) {
+                logger.info("Binary snapshot " + binaryPath + " is out of date, reading " + filePath + " instead");
+            }
+            return gastroBook;
+        } catch (IOException ioe) {
+            logger.warning("Could not read binary snapshot " + binaryPath + ", reading " + filePath + " instead: "
+                    + StringUtil.getDetails(ioe));
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes a binary snapshot of {@code gastroBook}, which was just read from or saved to the JSON file at
+     * {@code filePath}.
+     * As the JSON file already holds the data, failing to write the binary snapshot is not an error.
+     */
+    private void writeBinarySnapshot(ReadOnlyGastroBook gastroBook, Path filePath) {
+        Path binaryPath = getBinaryPath(filePath);
+        try {
+            BinaryGastroBookFormat.write(gastroBook, SourceStamp.of(filePath), binaryPath);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Could not write binary snapshot " + binaryPath + ": " + e);
+            try {
+                Files.deleteIfExists(binaryPath);
+            } catch (IOException ioe) {
+                logger.warning("Could not remove binary snapshot " + binaryPath + ": " + ioe);
+            }
+        }
+    }
+}
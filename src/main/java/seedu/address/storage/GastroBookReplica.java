@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyGastroBook;
+import seedu.address.model.ReservationChange;
+import seedu.address.model.ReservationChangeLog;
+import seedu.address.model.reservation.Reservation;
+
+/**
+ * A copy of the reservations of a book, kept up to date by applying the changes made to the book rather than by
+ * copying it again, so that keeping it costs as much as the changes.
+ *
+ * As in the book, an added reservation goes to the end of the list, and an edited one takes the place of the one it
+ * replaces. The changes applied are logged in turn, so that the replica can itself be saved like a book, and
+ * whoever saves it can ask what changed since. The reservation list is only built when asked for.
+ *
+ * This class is not thread-safe.
+ */
+class GastroBookReplica implements ReadOnlyGastroBook {
+
+    private final TreeMap<Long, Reservation> reservationsByPosition = new TreeMap<>();
+    // Reservations are immutable, so a reservation is found by identity, as the very object the book removed
+    private final Map<Reservation, Long> positions = new IdentityHashMap<>();
+    private final ReservationChangeLog changeLog = new ReservationChangeLog();
+    private long nextPosition;
+
+    // The reservation list as of the current version, or null if it has not been built since
+    private ObservableList<Reservation> reservationList;
+
+    /**
+     * Creates a replica holding {@code reservations}, in order.
+     */
+    GastroBookReplica(List<Reservation> reservations) {
+        reservations.forEach(this::append);
+    }
+
+    /**
+     * Applies {@code changes} in order, logging each as a change of this replica.
+     *
+     * @throws IllegalArgumentException if a change removes a reservation this replica does not hold, in which case
+     *     the replica is left part way and should no longer be used.
+     */
+    void apply(List<ReservationChange> changes) {
+        for (ReservationChange change : changes) {
+            Reservation removed = change.getRemoved().orElse(null);
+            Reservation added = change.getAdded().orElse(null);
+            Long position = removed == null ? null : positions.remove(removed);
+            if (removed != null && position == null) {
+                throw new IllegalArgumentException("Reservation removed is not in the replica: " + removed);
+            }
+
+            if (added == null) {
+                reservationsByPosition.remove(position);
+            } else if (position == null) {
+                append(added);
+            } else {
+                positions.put(added, position);
+                reservationsByPosition.put(position, added);
+            }
+            changeLog.record(removed, added);
+            reservationList = null;
+        }
+    }
+
+    /**
+     * Returns the number of reservations held, without building the reservation list.
+     */
+    int size() {
+        return positions.size();
+    }
+
+    private void append(Reservation reservation) {
+        long position = nextPosition++;
+        positions.put(reservation, position);
+        reservationsByPosition.put(position, reservation);
+    }
+
+    @Override
+    public ObservableList<Reservation> getReservationList() {
+        if (reservationList == null) {
+            reservationList = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(reservationsByPosition.values()));
+        }
+        return reservationList;
+    }
+
+    @Override
+    public long getVersion() {
+        return changeLog.getVersion();
+    }
+
+    @Override
+    public Optional<List<ReservationChange>> getChangesSince(long version) {
+        return changeLog.getChangesSince(version);
+    }
+}
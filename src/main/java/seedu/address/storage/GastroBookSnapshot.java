@@ -0,0 +1,36 @@
+package seedu.address.storage;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyGastroBook;
+import seedu.address.model.reservation.Reservation;
+
+/**
+ * An immutable copy of a {@code ReadOnlyGastroBook}, which can be written out while the book it was taken from
+ * goes on changing.
+ * As reservations are immutable, copying the reservation list is enough to fix the state of the whole book.
+ */
+class GastroBookSnapshot implements ReadOnlyGastroBook {
+
+    private final ObservableList<Reservation> reservations;
+    private final long version;
+
+    /**
+     * Takes a snapshot of the current state of {@code source}.
+     */
+    GastroBookSnapshot(ReadOnlyGastroBook source) {
+        this.reservations = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getReservationList()));
+        this.version = source.getVersion();
+    }
+
+    @Override
+    public ObservableList<Reservation> getReservationList() {
+        return reservations;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+}
@@ -43,4 +43,10 @@ public interface GastroBookStorage {
      */
     void saveGastroBook(ReadOnlyGastroBook gastroBook, Path filePath) throws IOException;
 
+    /**
+     * Finishes writing out any saved data this storage has not yet written to the disk.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushGastroBook() throws IOException;
+
 }
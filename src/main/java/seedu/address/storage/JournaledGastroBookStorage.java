@@ -0,0 +1,528 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.GastroBook;
+import seedu.address.model.ReadOnlyGastroBook;
+import seedu.address.model.ReservationChange;
+import seedu.address.model.reservation.Reservation;
+
+/**
+ * A class to access GastroBook data stored on the hard disk as a json snapshot, followed by a journal of the
+ * changes made since the snapshot was written.
+ *
+ * The snapshot is the same file {@link JsonGastroBookStorage} reads and writes. Each save asks the book for the
+ * changes it made since the version last saved, and appends each of them to the journal as one line, so the amount
+ * written depends on the size of the change rather than of the book. The reservations last read or saved are also
+ * kept, up to date with those changes, for a book whose changes are not known, such as one just read. That book is
+ * compared against them instead. As reservations are immutable, a reservation that did not change is the same
+ * object in both, so the comparison is by identity and needs no serialization. If most of the book changed, or
+ * nothing is remembered yet, a full snapshot is written instead. The journal is only forced to the disk every few
+ * records, and once it grows long enough, it is folded into a new snapshot in the background.
+ *
+ * While it is being folded, the journal is moved aside to a second file and a fresh journal is started. A book is
+ * read by replaying the moved journal, then the current one, on top of the snapshot. As journal records are
+ * idempotent, a journal that is already reflected in the snapshot does no harm when replayed.
+ *
+ * This class is not thread-safe; reads and saves must not overlap.
+ */
+public class JournaledGastroBookStorage implements GastroBookStorage {
+
+    public static final String JOURNAL_SUFFIX = ".journal";
+    public static final String COMPACTING_JOURNAL_SUFFIX = ".journal.compacting";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledGastroBookStorage.class);
+
+    private static final int DEFAULT_FSYNC_BATCH_SIZE = 16;
+    private static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private final Path filePath;
+    private final GastroBookStorage snapshotStorage;
+    private final int fsyncBatchSize;
+    private final int compactionThreshold;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "gastrobook-journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The reservations as last read from or written to the disk, or null if a full snapshot must be written next
+    private GastroBookReplica savedReservations;
+    // The version of the book last read or saved, whose later changes the next save appends
+    private long savedVersion;
+
+    private FileChannel journal;
+    private int journalRecordCount;
+    private int unsyncedRecordCount;
+    private Future<?> compaction;
+
+    public JournaledGastroBookStorage(Path filePath) {
+        this(new JsonGastroBookStorage(filePath));
+    }
+
+    /**
+     * Creates a storage that reads and writes its snapshots through {@code snapshotStorage}.
+     */
+    public JournaledGastroBookStorage(GastroBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_FSYNC_BATCH_SIZE, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage that forces its journal to the disk every {@code fsyncBatchSize} records, and folds the
+     * journal into the snapshot once it holds {@code compactionThreshold} records.
+     */
+    JournaledGastroBookStorage(Path filePath, int fsyncBatchSize, int compactionThreshold) {
+        this(new JsonGastroBookStorage(filePath), fsyncBatchSize, compactionThreshold);
+    }
+
+    private JournaledGastroBookStorage(GastroBookStorage snapshotStorage, int fsyncBatchSize,
+                                       int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        this.filePath = snapshotStorage.getGastroBookFilePath();
+        this.snapshotStorage = snapshotStorage;
+        this.fsyncBatchSize = fsyncBatchSize;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getGastroBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    private static Path getCompactingJournalPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + COMPACTING_JOURNAL_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyGastroBook> readGastroBook() throws DataLoadingException {
+        return readGastroBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readGastroBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyGastroBook> readGastroBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyGastroBook> snapshot = snapshotStorage.readGastroBook(filePath);
+        Path compactingJournalPath = getCompactingJournalPath(filePath);
+        Path journalPath = getJournalPath(filePath);
+        if (!Files.exists(compactingJournalPath) && !Files.exists(journalPath)) {
+            if (snapshot.isPresent() && filePath.equals(this.filePath)) {
+                resumeFrom(snapshot.get(), 0);
+            }
+            return snapshot;
+        }
+
+        JournalReplay replay = new JournalReplay(snapshot.isPresent()
+                ? snapshot.get().getReservationList()
+                : List.of());
+        replay.applyJournal(compactingJournalPath);
+        int journalRecordCount = replay.applyJournal(journalPath);
+
+        GastroBook gastroBook = new GastroBook();
+        try {
+            gastroBook.setReservations(replay.getReservations());
+        } catch (RuntimeException e) {
+            logger.info("Journal of " + filePath + " could not be applied: " + e);
+            throw new DataLoadingException(e);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            resumeFrom(gastroBook, journalRecordCount);
+        }
+        return Optional.of(gastroBook);
+    }
+
+    /**
+     * Lets later saves go on appending to the journal of {@code gastroBook}, which was just read and whose journal
+     * holds {@code journalRecordCount} records.
+     */
+    private void resumeFrom(ReadOnlyGastroBook gastroBook, int journalRecordCount) throws DataLoadingException {
+        try {
+            closeJournal();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        savedReservations = new GastroBookReplica(gastroBook.getReservationList());
+        savedVersion = gastroBook.getVersion();
+        this.journalRecordCount = journalRecordCount;
+    }
+
+    @Override
+    public void saveGastroBook(ReadOnlyGastroBook gastroBook) throws IOException {
+        saveGastroBook(gastroBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveGastroBook(ReadOnlyGastroBook)}.
+     * Only saves to this storage's own file are journaled; a save to any other file writes a full snapshot there.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveGastroBook(ReadOnlyGastroBook gastroBook, Path filePath) throws IOException {
+        requireNonNull(gastroBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveGastroBook(gastroBook, filePath);
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = savedReservations == null ? null : findChanges(gastroBook);
+        if (records == null) {
+            writeSnapshot(gastroBook);
+            return;
+        }
+
+        appendRecords(records);
+        savedVersion = gastroBook.getVersion();
+        if (journalRecordCount >= compactionThreshold) {
+            startCompaction(gastroBook);
+        }
+    }
+
+    /**
+     * Forces the journal to the disk, and waits for any snapshot being written in the background.
+     */
+    @Override
+    public void flushGastroBook() throws IOException {
+        if (journal != null) {
+            journal.force(false);
+            unsyncedRecordCount = 0;
+        }
+        waitForCompaction();
+    }
+
+    /**
+     * Returns the journal records that turn the reservations last saved into those of {@code gastroBook}, and
+     * brings the saved reservations up to date with them, or returns null if a full snapshot would describe
+     * {@code gastroBook} more cheaply.
+     */
+    private List<JsonAdaptedJournalRecord> findChanges(ReadOnlyGastroBook gastroBook) {
+        Optional<List<ReservationChange>> changes = gastroBook.getChangesSince(savedVersion);
+        if (changes.isEmpty()) {
+            List<Reservation> reservations = List.copyOf(gastroBook.getReservationList());
+            List<JsonAdaptedJournalRecord> records = findChanges(savedReservations.getReservationList(),
+                    reservations);
+            savedReservations = new GastroBookReplica(reservations);
+            return records;
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        for (ReservationChange change : changes.get()) {
+            Optional<Reservation> removed = change.getRemoved();
+            Optional<Reservation> added = change.getAdded();
+            if (removed.isPresent() && added.isPresent()) {
+                records.add(JsonAdaptedJournalRecord.replace(removed.get(), added.get()));
+            } else if (removed.isPresent()) {
+                records.add(JsonAdaptedJournalRecord.delete(removed.get()));
+            } else {
+                records.add(JsonAdaptedJournalRecord.put(added.get()));
+            }
+        }
+        try {
+            savedReservations.apply(changes.get());
+        } catch (IllegalArgumentException e) {
+            logger.warning("Changes to " + filePath + " do not follow the reservations saved: " + e.getMessage());
+            return null;
+        }
+        return records.size() > savedReservations.size() / 2 ? null : records;
+    }
+
+    /**
+     * Returns the journal records that turn {@code oldReservations} into {@code newReservations}, or null if a
+     * full snapshot would describe {@code newReservations} more cheaply.
+     *
+     * Both lists are walked together, skipping the reservations they share. Since reservations keep their order in
+     * the list, a reservation found only in the old list was removed, one found only in the new list was added, and
+     * one of each at the same point is an edit.
+     */
+    private static List<JsonAdaptedJournalRecord> findChanges(List<Reservation> oldReservations,
+                                                              List<Reservation> newReservations) {
+        Set<Reservation> oldSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        oldSet.addAll(oldReservations);
+        Set<Reservation> newSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        newSet.addAll(newReservations);
+
+        int maxRecordCount = newReservations.size() / 2;
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        int oldIndex = 0;
+        int newIndex = 0;
+        while (oldIndex < oldReservations.size() || newIndex < newReservations.size()) {
+            Reservation oldReservation = oldIndex < oldReservations.size() ? oldReservations.get(oldIndex) : null;
+            Reservation newReservation = newIndex < newReservations.size() ? newReservations.get(newIndex) : null;
+            boolean isRemoved = oldReservation != null && !newSet.contains(oldReservation);
+            boolean isAdded = newReservation != null && !oldSet.contains(newReservation);
+
+            if (isRemoved && isAdded) {
+                records.add(JsonAdaptedJournalRecord.replace(oldReservation, newReservation));
+                oldIndex++;
+                newIndex++;
+            } else if (isRemoved) {
+                records.add(JsonAdaptedJournalRecord.delete(oldReservation));
+                oldIndex++;
+            } else if (isAdded) {
+                records.add(JsonAdaptedJournalRecord.put(newReservation));
+                newIndex++;
+            } else if (oldReservation == newReservation) {
+                oldIndex++;
+                newIndex++;
+            } else {
+                // The reservations were reordered
+                return null;
+            }
+
+            if (records.size() > maxRecordCount) {
+                return null;
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Appends {@code records} to the journal.
+     * If they cannot be appended, the next save writes a full snapshot instead.
+     */
+    private void appendRecords(List<JsonAdaptedJournalRecord> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toJsonLine(record)).append('\n');
+        }
+        int recordCount = records.size();
+
+        try {
+            if (journal == null) {
+                Path journalPath = getJournalPath(filePath);
+                FileUtil.createParentDirsOfFile(journalPath);
+                journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+
+            journalRecordCount += recordCount;
+            unsyncedRecordCount += recordCount;
+            if (unsyncedRecordCount >= fsyncBatchSize) {
+                journal.force(false);
+                unsyncedRecordCount = 0;
+            }
+        } catch (IOException ioe) {
+            savedReservations = null;
+            throw ioe;
+        }
+    }
+
+    /**
+     * Writes a full snapshot of {@code gastroBook}, and discards the journal.
+     */
+    private void writeSnapshot(ReadOnlyGastroBook gastroBook) throws IOException {
+        waitForCompaction();
+        savedReservations = null;
+
+        snapshotStorage.saveGastroBook(gastroBook, filePath);
+        closeJournal();
+        Files.deleteIfExists(getCompactingJournalPath(filePath));
+        Files.deleteIfExists(getJournalPath(filePath));
+        journalRecordCount = 0;
+        savedReservations = new GastroBookReplica(gastroBook.getReservationList());
+        savedVersion = gastroBook.getVersion();
+    }
+
+    /**
+     * Moves the journal aside and starts folding it into a new snapshot of {@code gastroBook} in the background.
+     */
+    private void startCompaction(ReadOnlyGastroBook gastroBook) throws IOException {
+        if (compaction != null && !compaction.isDone()) {
+            return;
+        }
+
+        Path compactingJournalPath = getCompactingJournalPath(filePath);
+        if (Files.exists(compactingJournalPath)) {
+            // An earlier compaction did not finish, so two journals would need folding in
+            writeSnapshot(gastroBook);
+            return;
+        }
+
+        closeJournal();
+        Files.move(getJournalPath(filePath), compactingJournalPath, StandardCopyOption.ATOMIC_MOVE);
+        journalRecordCount = 0;
+
+        // The book may change while the snapshot is written, so it is written from a copy, which is only taken
+        // once every so many records
+        GastroBookSnapshot snapshot = new GastroBookSnapshot(gastroBook);
+        compaction = compactor.submit(() -> {
+            try {
+                snapshotStorage.saveGastroBook(snapshot, filePath);
+                Files.delete(compactingJournalPath);
+                logger.fine("Folded journal of " + filePath + " into a new snapshot");
+            } catch (IOException ioe) {
+                // The moved journal is kept, and folded in by the next full snapshot
+                logger.warning("Could not fold journal of " + filePath + " into a new snapshot: " + ioe);
+            }
+        });
+    }
+
+    private void waitForCompaction() throws IOException {
+        if (compaction == null) {
+            return;
+        }
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing snapshot", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        } finally {
+            compaction = null;
+        }
+    }
+
+    private void closeJournal() throws IOException {
+        if (journal == null) {
+            return;
+        }
+        journal.force(false);
+        journal.close();
+        journal = null;
+        unsyncedRecordCount = 0;
+    }
+
+    /**
+     * Replays journals on top of a list of reservations, keeping each reservation at the position it was first
+     * added at.
+     */
+    private static class JournalReplay {
+        private final TreeMap<Long, Reservation> reservationsByPosition = new TreeMap<>();
+        private final Map<String, Long> positionsByKey = new HashMap<>();
+        private long nextPosition;
+
+        JournalReplay(List<Reservation> snapshot) {
+            snapshot.forEach(this::append);
+        }
+
+        List<Reservation> getReservations() {
+            return new ArrayList<>(reservationsByPosition.values());
+        }
+
+        /**
+         * Applies every record in {@code journalPath}, if it exists, and returns the number of records applied.
+         * A last line that cannot be read is taken to be a record cut short while being written, and skipped.
+         */
+        int applyJournal(Path journalPath) throws DataLoadingException {
+            if (!Files.exists(journalPath)) {
+                return 0;
+            }
+
+            int recordCount = 0;
+            try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+                String line = reader.readLine();
+                while (line != null) {
+                    String nextLine = reader.readLine();
+                    try {
+                        apply(JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class));
+                        recordCount++;
+                    } catch (IOException | IllegalValueException e) {
+                        if (nextLine != null) {
+                            logger.info("Invalid record found in " + journalPath + ": " + e.getMessage());
+                            throw new DataLoadingException(e);
+                        }
+                        logger.warning("Skipping incomplete last record of " + journalPath);
+                    }
+                    line = nextLine;
+                }
+            } catch (IOException e) {
+                logger.warning("Error reading from journal " + journalPath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+            return recordCount;
+        }
+
+        private void apply(JsonAdaptedJournalRecord record) throws IllegalValueException {
+            String op = record.getOp();
+            if (JsonAdaptedJournalRecord.DELETE.equals(op)) {
+                Long position = positionsByKey.remove(record.getKey());
+                if (position != null) {
+                    reservationsByPosition.remove(position);
+                }
+                return;
+            }
+            if (!JsonAdaptedJournalRecord.PUT.equals(op) && !JsonAdaptedJournalRecord.REPLACE.equals(op)) {
+                throw new IllegalValueException(JsonAdaptedJournalRecord.MESSAGE_INVALID_RECORD);
+            }
+
+            Reservation reservation = record.toModelType();
+            String key = JsonAdaptedJournalRecord.keyOf(reservation);
+            Long position = positionsByKey.get(key);
+            if (JsonAdaptedJournalRecord.REPLACE.equals(op) && positionsByKey.containsKey(record.getKey())) {
+                // The edited reservation takes the place of the one it replaces
+                position = positionsByKey.remove(record.getKey());
+                Long clashingPosition = positionsByKey.remove(key);
+                if (clashingPosition != null && !clashingPosition.equals(position)) {
+                    reservationsByPosition.remove(clashingPosition);
+                }
+            }
+
+            if (position == null) {
+                append(reservation);
+                return;
+            }
+            positionsByKey.put(key, position);
+            reservationsByPosition.put(position, reservation);
+        }
+
+        private void append(Reservation reservation) {
+            long position = nextPosition++;
+            positionsByKey.put(JsonAdaptedJournalRecord.keyOf(reservation), position);
+            reservationsByPosition.put(position, reservation);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.reservation.Name;
+import seedu.address.model.reservation.Person;
+import seedu.address.model.reservation.Phone;
+
+/**
+ * Jackson-friendly version of a customer with the number of bookings they made, held in a {@link Person}.
+ */
+class JsonAdaptedBookingCount {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Booking count's %s field is missing!";
+    public static final String MESSAGE_INVALID_COUNT = "Booking count must be positive";
+
+    private final String name;
+    private final String phone;
+    private final int count;
+
+    /**
+     * Constructs a {@code JsonAdaptedBookingCount} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedBookingCount(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
+                                   @JsonProperty("count") int count) {
+        this.name = name;
+        this.phone = phone;
+        this.count = count;
+    }
+
+    /**
+     * Converts a given customer, whose counter holds their number of bookings, into this class for Jackson use.
+     */
+    public JsonAdaptedBookingCount(Person source) {
+        name = source.getName().getFullName();
+        phone = source.getPhone().value;
+        count = source.getCounter();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted object into a {@code Person} whose counter holds the number of
+     * bookings.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public Person toModelType() throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        if (phone == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
+        }
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        if (count <= 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_COUNT);
+        }
+
+        Person person = new Person(new Name(name), new Phone(phone));
+        person.setCounter(count);
+        return person;
+    }
+}
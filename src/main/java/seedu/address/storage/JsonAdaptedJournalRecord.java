@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.reservation.Identification;
+import seedu.address.model.reservation.Reservation;
+
+/**
+ * Jackson-friendly version of a single change to the reservations in a GastroBook, as kept in its journal.
+ *
+ * Records are idempotent, so that applying a record to a book that already contains the change leaves the book
+ * as it is. This lets a journal be replayed safely on top of a snapshot that may already include some of it.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String PUT = "put";
+    public static final String REPLACE = "replace";
+    public static final String DELETE = "delete";
+    public static final String MESSAGE_INVALID_RECORD = "Journal contains an invalid record!";
+
+    private final String op;
+    private final String key;
+    private final JsonAdaptedReservation reservation;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op, @JsonProperty("key") String key,
+                                    @JsonProperty("reservation") JsonAdaptedReservation reservation) {
+        this.op = op;
+        this.key = key;
+        this.reservation = reservation;
+    }
+
+    /**
+     * Returns a record that adds {@code reservation}, or replaces the reservation with the same key in place.
+     */
+    public static JsonAdaptedJournalRecord put(Reservation reservation) {
+        return new JsonAdaptedJournalRecord(PUT, keyOf(reservation), new JsonAdaptedReservation(reservation));
+    }
+
+    /**
+     * Returns a record that replaces {@code target} with {@code editedReservation} in place.
+     */
+    public static JsonAdaptedJournalRecord replace(Reservation target, Reservation editedReservation) {
+        return new JsonAdaptedJournalRecord(REPLACE, keyOf(target), new JsonAdaptedReservation(editedReservation));
+    }
+
+    /**
+     * Returns a record that removes {@code reservation}.
+     */
+    public static JsonAdaptedJournalRecord delete(Reservation reservation) {
+        return new JsonAdaptedJournalRecord(DELETE, keyOf(reservation), null);
+    }
+
+    /**
+     * Returns the key identifying {@code reservation} in a journal, derived from its identity fields.
+     */
+    public static String keyOf(Reservation reservation) {
+        return new Identification(reservation.getDate(), reservation.getPhone(), reservation.getTime()).value;
+    }
+
+    public String getOp() {
+        return op;
+    }
+
+    /**
+     * Returns the key of the reservation this record puts, replaces or deletes.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Converts the reservation carried by this record into the model's {@code Reservation} object.
+     *
+     * @throws IllegalValueException if this record carries no reservation, or the reservation violates any data
+     *     constraints.
+     */
+    public Reservation toModelType() throws IllegalValueException {
+        if (reservation == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+        return reservation.toModelType();
+    }
+}
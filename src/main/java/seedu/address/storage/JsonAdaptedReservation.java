@@ -120,15 +120,8 @@ class JsonAdaptedReservation {
             throw new IllegalValueException(StartDate.MESSAGE_CONSTRAINTS);
         }
 
-        // Enable bypass for date range validation to inject sample past data
-        StartDate.enableBypassForSampleData();
-        final StartDate modelDate;
-        try {
-            modelDate = new StartDate(date);
-        } finally {
-            // disable bypass after injecting the sample
-            StartDate.disableBypassForSampleData();
-        }
+        // Stored reservations may be on any day, not only today or tomorrow
+        final StartDate modelDate = StartDate.ofStoredDate(date);
 
         if (time == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -13,6 +16,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyGastroBook;
+import seedu.address.model.reservation.Reservation;
 
 /**
  * A class to access GastroBook data stored as a json file on the hard disk.
@@ -21,10 +25,26 @@ public class JsonGastroBookStorage implements GastroBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonGastroBookStorage.class);
 
+    // Number of reservations read from the file before they are converted together
+    private static final int CONVERSION_BATCH_SIZE = 8192;
+
     private Path filePath;
+    private final boolean isParallelLoad;
+    private final boolean isCompact;
 
     public JsonGastroBookStorage(Path filePath) {
+        this(filePath, false, false);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}, which converts the reservations it reads on several
+     * threads if {@code isParallelLoad} is true, and writes the file without indentation if {@code isCompact}
+     * is true.
+     */
+    public JsonGastroBookStorage(Path filePath, boolean isParallelLoad, boolean isCompact) {
         this.filePath = filePath;
+        this.isParallelLoad = isParallelLoad;
+        this.isCompact = isCompact;
     }
 
     public Path getGastroBookFilePath() {
@@ -38,6 +58,8 @@ public class JsonGastroBookStorage implements GastroBookStorage {
 
     /**
      * Similar to {@link #readGastroBook()}.
+     * If the file is missing or is not valid JSON, the earlier versions of it kept by each save are read instead,
+     * most recent first.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,14 +67,43 @@ public class JsonGastroBookStorage implements GastroBookStorage {
     public Optional<ReadOnlyGastroBook> readGastroBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableGastroBook> jsonGastroBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableGastroBook.class);
-        if (!jsonGastroBook.isPresent()) {
-            return Optional.empty();
+        DataLoadingException firstError = null;
+        for (Path generation : FileUtil.getGenerations(filePath)) {
+            try {
+                return readGenerationOf(generation);
+            } catch (DataLoadingException e) {
+                if (e.getCause() instanceof IllegalValueException) {
+                    // The file was read in full, so its values are as they were saved
+                    throw e;
+                }
+                logger.warning("Could not read " + generation + ", trying an earlier version: " + e);
+                firstError = firstError == null ? e : firstError;
+            }
         }
+        if (firstError != null) {
+            throw firstError;
+        }
+        return Optional.empty();
+    }
 
+    private Optional<ReadOnlyGastroBook> readGenerationOf(Path filePath) throws DataLoadingException {
+        // Reservations are converted in batches as they are read, rather than reading the whole file in first
+        List<JsonAdaptedReservation> batch = new ArrayList<>();
+        List<Reservation> reservations = new ArrayList<>();
         try {
-            return Optional.of(jsonGastroBook.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayFile(filePath, JsonSerializableGastroBook.RESERVATIONS_FIELD,
+                    JsonAdaptedReservation.class, jsonAdaptedReservation -> {
+                        batch.add(jsonAdaptedReservation);
+                        if (batch.size() == CONVERSION_BATCH_SIZE) {
+                            reservations.addAll(JsonSerializableGastroBook.convertAll(batch, isParallelLoad));
+                            batch.clear();
+                        }
+                    });
+            if (!isFound) {
+                return Optional.empty();
+            }
+            reservations.addAll(JsonSerializableGastroBook.convertAll(batch, isParallelLoad));
+            return Optional.of(JsonSerializableGastroBook.toGastroBook(reservations));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +124,17 @@ public class JsonGastroBookStorage implements GastroBookStorage {
         requireNonNull(gastroBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableGastroBook(gastroBook), filePath);
+        // Each reservation is converted as it is written, rather than building the whole document first
+        Iterator<JsonAdaptedReservation> jsonAdaptedReservations = gastroBook.getReservationList().stream()
+                .map(JsonAdaptedReservation::new)
+                .iterator();
+        JsonUtil.saveJsonArrayFile(filePath, JsonSerializableGastroBook.RESERVATIONS_FIELD, jsonAdaptedReservations,
+                isCompact);
+    }
+
+    @Override
+    public void flushGastroBook() {
+        // Every save is written out in full before it returns
     }
 
 }
@@ -1,8 +1,10 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -12,6 +14,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.GastroBook;
 import seedu.address.model.ReadOnlyGastroBook;
 import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.exceptions.DuplicateReservationException;
 
 /**
  * An Immutable GastroBook that is serializable to JSON format.
@@ -21,6 +24,9 @@ class JsonSerializableGastroBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Reservation list contains duplicate reservation(s).";
 
+    /** Name of the field holding the reservations in the JSON file. */
+    static final String RESERVATIONS_FIELD = "persons";
+
     private final List<JsonAdaptedReservation> persons = new ArrayList<>();
 
     /**
@@ -47,13 +53,65 @@ class JsonSerializableGastroBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public GastroBook toModelType() throws IllegalValueException {
-        GastroBook gastroBook = new GastroBook();
-        for (JsonAdaptedReservation jsonAdaptedReservation : persons) {
-            Reservation reservation = jsonAdaptedReservation.toModelType();
-            if (gastroBook.hasReservation(reservation)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        return toModelType(false);
+    }
+
+    /**
+     * Converts this gastro book into the model's {@code GastroBook} object, converting the reservations on
+     * several threads if {@code isParallel} is true.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public GastroBook toModelType(boolean isParallel) throws IllegalValueException {
+        return toGastroBook(convertAll(persons, isParallel));
+    }
+
+    /**
+     * Converts {@code jsonAdaptedReservations} into the model's {@code Reservation}s, in the same order.
+     * If {@code isParallel} is true, they are converted on several threads. Either way, if more than one of them
+     * is not valid, the error of the first of those is thrown.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static List<Reservation> convertAll(List<JsonAdaptedReservation> jsonAdaptedReservations, boolean isParallel)
+            throws IllegalValueException {
+        if (!isParallel) {
+            List<Reservation> reservations = new ArrayList<>(jsonAdaptedReservations.size());
+            for (JsonAdaptedReservation jsonAdaptedReservation : jsonAdaptedReservations) {
+                reservations.add(jsonAdaptedReservation.toModelType());
+            }
+            return reservations;
+        }
+
+        // Each reservation is converted independently, and its result or error kept at its own position
+        Reservation[] reservations = new Reservation[jsonAdaptedReservations.size()];
+        IllegalValueException[] errors = new IllegalValueException[reservations.length];
+        IntStream.range(0, reservations.length).parallel().forEach(i -> {
+            try {
+                reservations[i] = jsonAdaptedReservations.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                errors[i] = ive;
+            }
+        });
+        for (IllegalValueException error : errors) {
+            if (error != null) {
+                throw error;
             }
-            gastroBook.addReservation(reservation);
+        }
+        return Arrays.asList(reservations);
+    }
+
+    /**
+     * Returns a {@code GastroBook} holding {@code reservations}, which are added all at once.
+     *
+     * @throws IllegalValueException if {@code reservations} contains duplicate reservations.
+     */
+    static GastroBook toGastroBook(List<Reservation> reservations) throws IllegalValueException {
+        GastroBook gastroBook = new GastroBook();
+        try {
+            gastroBook.setReservations(reservations);
+        } catch (DuplicateReservationException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return gastroBook;
     }
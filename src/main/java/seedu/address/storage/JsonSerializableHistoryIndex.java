@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.reservation.Person;
+
+/**
+ * The number of bookings each customer made in each month of a partitioned GastroBook, in a form serializable to
+ * JSON format.
+ */
+class JsonSerializableHistoryIndex {
+
+    public static final String MESSAGE_INVALID_MONTH = "Month in history index must be of the form yyyy-MM";
+
+    private final Map<String, List<JsonAdaptedBookingCount>> months = new TreeMap<>();
+
+    /**
+     * Constructs a {@code JsonSerializableHistoryIndex} with the given booking counts of each month.
+     */
+    @JsonCreator
+    public JsonSerializableHistoryIndex(@JsonProperty("months") Map<String, List<JsonAdaptedBookingCount>> months) {
+        if (months != null) {
+            this.months.putAll(months);
+        }
+    }
+
+    /**
+     * Converts the booking counts of each month, held in the counters of each customer, into this class for
+     * Jackson use.
+     */
+    public static JsonSerializableHistoryIndex of(Map<YearMonth, List<Person>> bookingCounts) {
+        Map<String, List<JsonAdaptedBookingCount>> months = new TreeMap<>();
+        bookingCounts.forEach((month, customers) -> {
+            List<JsonAdaptedBookingCount> counts = new ArrayList<>();
+            customers.forEach(customer -> counts.add(new JsonAdaptedBookingCount(customer)));
+            months.put(month.toString(), counts);
+        });
+        return new JsonSerializableHistoryIndex(months);
+    }
+
+    /**
+     * Converts this index into the booking counts of each month, held in the counters of each customer.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public Map<YearMonth, List<Person>> toModelType() throws IllegalValueException {
+        Map<YearMonth, List<Person>> bookingCounts = new TreeMap<>();
+        for (Map.Entry<String, List<JsonAdaptedBookingCount>> entry : months.entrySet()) {
+            YearMonth month;
+            try {
+                month = YearMonth.parse(entry.getKey());
+            } catch (DateTimeParseException e) {
+                throw new IllegalValueException(MESSAGE_INVALID_MONTH);
+            }
+            List<Person> customers = new ArrayList<>();
+            for (JsonAdaptedBookingCount count : entry.getValue()) {
+                customers.add(count.toModelType());
+            }
+            bookingCounts.put(month, customers);
+        }
+        return bookingCounts;
+    }
+}
@@ -0,0 +1,515 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.GastroBook;
+import seedu.address.model.ReadOnlyGastroBook;
+import seedu.address.model.ReservationChange;
+import seedu.address.model.ReservationHistory;
+import seedu.address.model.reservation.Person;
+import seedu.address.model.reservation.Reservation;
+
+/**
+ * A {@code GastroBookStorage} that keeps the reservations of each month in a file of their own, in a folder named
+ * after the data file, so that the cost of reading and saving follows the months in use rather than the whole
+ * history of the book.
+ *
+ * Only the reservations from the current month on are read by {@link #readGastroBook()}. Those of earlier months
+ * are the {@link ReservationHistory} of the book, and are only read once it is loaded. Until then, only the number
+ * of bookings each customer made in those months is read, from an index kept next to the partitions. Each save
+ * rewrites only the months whose reservations changed since they were last read or saved; until the history is
+ * loaded, the months of it that the saved book has no reservations in are left as they are. The changed months
+ * are found from the changes the book made since its previous save, when it still knows them, and only if it does
+ * not is the whole book grouped by month and compared with what was saved.
+ *
+ * A data file written before the book was partitioned is read in full, and split into partitions by the next save,
+ * after which it is renamed, as it is no longer read.
+ */
+public class PartitionedGastroBookStorage implements GastroBookStorage, ReservationHistory {
+
+    public static final String INDEX_FILE_NAME = "history.json";
+    public static final String MIGRATED_SUFFIX = ".migrated";
+
+    private static final Logger logger = LogsCenter.getLogger(PartitionedGastroBookStorage.class);
+
+    private static final long NOT_SAVED = -1;
+
+    private static final Pattern PARTITION_FILE_NAME_PATTERN = Pattern.compile("(\\d{4}-\\d{2})\\.json");
+
+    private final Path filePath;
+    private final Function<Path, GastroBookStorage> partitionStorageFactory;
+    private final Map<YearMonth, GastroBookStorage> partitionStorages = new HashMap<>();
+
+    // The reservations of each month as last read or saved. Months missing here have not been read.
+    private final Map<YearMonth, GastroBookReplica> savedReservations = new HashMap<>();
+    // The months whose reservations changed, but could not be written yet
+    private final SortedSet<YearMonth> unsavedMonths = new TreeSet<>();
+    // The version of the book last saved, whose later changes the next save looks at
+    private long savedVersion = NOT_SAVED;
+    // The customers of each month of the history not yet loaded, with their number of bookings in that month
+    private final Map<YearMonth, List<Person>> unloadedBookingCounts = new TreeMap<>();
+    private YearMonth loadedFrom = YearMonth.of(0, 1);
+
+    /**
+     * Creates a storage for the book at {@code filePath}, which keeps each month in a JSON file.
+     */
+    public PartitionedGastroBookStorage(Path filePath) {
+        this(filePath, JsonGastroBookStorage::new);
+    }
+
+    /**
+     * Creates a storage for the book at {@code filePath}, which reads and writes the file of each month, and
+     * a data file written before the book was partitioned, through the storage {@code partitionStorageFactory}
+     * gives for its path.
+     */
+    public PartitionedGastroBookStorage(Path filePath, Function<Path, GastroBookStorage> partitionStorageFactory) {
+        requireNonNull(filePath);
+        requireNonNull(partitionStorageFactory);
+        this.filePath = filePath;
+        this.partitionStorageFactory = partitionStorageFactory;
+    }
+
+    @Override
+    public Path getGastroBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the folder that holds the partitions of the book at {@code filePath}, which is named after the file.
+     */
+    public static Path getPartitionFolder(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        return filePath.resolveSibling(extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName + ".d");
+    }
+
+    /**
+     * Returns the file that holds the reservations of {@code month} of the book at {@code filePath}.
+     */
+    public static Path getPartitionPath(Path filePath, YearMonth month) {
+        return getPartitionFolder(filePath).resolve(month + ".json");
+    }
+
+    @Override
+    public Optional<ReadOnlyGastroBook> readGastroBook() throws DataLoadingException {
+        return readGastroBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readGastroBook()}, but reads every month of the book at {@code filePath} if it is not this
+     * storage's own book.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyGastroBook> readGastroBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            return readActiveMonths();
+        }
+
+        PartitionedGastroBookStorage otherStorage =
+                new PartitionedGastroBookStorage(filePath, partitionStorageFactory);
+        Optional<ReadOnlyGastroBook> activeMonths = otherStorage.readActiveMonths();
+        if (activeMonths.isEmpty()) {
+            return activeMonths;
+        }
+        List<Reservation> reservations = new ArrayList<>(otherStorage.load());
+        reservations.addAll(activeMonths.get().getReservationList());
+        return Optional.of(toGastroBook(reservations));
+    }
+
+    /**
+     * Reads the reservations from the current month on, and counts the bookings in earlier months.
+     */
+    private synchronized Optional<ReadOnlyGastroBook> readActiveMonths() throws DataLoadingException {
+        savedReservations.clear();
+        unsavedMonths.clear();
+        savedVersion = NOT_SAVED;
+        unloadedBookingCounts.clear();
+        loadedFrom = YearMonth.of(0, 1);
+
+        SortedSet<YearMonth> months = listPartitions();
+        if (months.isEmpty()) {
+            if (Files.exists(filePath)) {
+                logger.info("Reading " + filePath + " in full, to be split into partitions by the next save");
+            }
+            return getPartitionStorage(null).readGastroBook();
+        }
+
+        if (Files.exists(filePath)) {
+            logger.warning(filePath + " is no longer used, as the reservations are kept in "
+                    + getPartitionFolder(filePath) + "; edits made to it are ignored");
+        }
+
+        YearMonth currentMonth = YearMonth.now();
+        Map<YearMonth, List<Person>> index = readIndex();
+        boolean isIndexStale = false;
+        List<Reservation> reservations = new ArrayList<>();
+        for (YearMonth month : months) {
+            if (!month.isBefore(currentMonth)) {
+                reservations.addAll(readPartition(month));
+                continue;
+            }
+            List<Person> bookingCounts = index.get(month);
+            if (bookingCounts == null) {
+                // Counted from the partition itself, which is then dropped again
+                bookingCounts = countBookings(readPartition(month));
+                savedReservations.remove(month);
+                isIndexStale = true;
+            }
+            unloadedBookingCounts.put(month, bookingCounts);
+        }
+        loadedFrom = currentMonth;
+        if (isIndexStale) {
+            writeIndex();
+        }
+        return Optional.of(toGastroBook(reservations));
+    }
+
+    @Override
+    public synchronized LocalDate getLoadedFrom() {
+        return unloadedBookingCounts.isEmpty() ? LocalDate.MIN : loadedFrom.atDay(1);
+    }
+
+    @Override
+    public synchronized List<Person> getBookingCounts() {
+        Map<String, Person> customers = new LinkedHashMap<>();
+        unloadedBookingCounts.values().forEach(monthCounts -> monthCounts.forEach(monthCount -> {
+            Person customer = customers.get(monthCount.getPhone().value);
+            int count = (customer == null ? 0 : customer.getCounter()) + monthCount.getCounter();
+            // The name given in the latest month is kept
+            Person updatedCustomer = new Person(monthCount.getName(), monthCount.getPhone());
+            updatedCustomer.setCounter(count);
+            customers.put(monthCount.getPhone().value, updatedCustomer);
+        }));
+        return new ArrayList<>(customers.values());
+    }
+
+    /**
+     * Reads the months of the history not yet loaded, which later saves then keep up to date like the others.
+     */
+    @Override
+    public synchronized List<Reservation> load() throws DataLoadingException {
+        List<Reservation> reservations = new ArrayList<>();
+        for (YearMonth month : unloadedBookingCounts.keySet()) {
+            reservations.addAll(readPartition(month));
+        }
+        unloadedBookingCounts.clear();
+        return reservations;
+    }
+
+    @Override
+    public void saveGastroBook(ReadOnlyGastroBook gastroBook) throws IOException {
+        saveGastroBook(gastroBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveGastroBook(ReadOnlyGastroBook)}.
+     * A save to any other book writes every month of {@code gastroBook} there.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveGastroBook(ReadOnlyGastroBook gastroBook, Path filePath) throws IOException {
+        requireNonNull(gastroBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveChangedMonths(gastroBook);
+            return;
+        }
+        new PartitionedGastroBookStorage(filePath, partitionStorageFactory).saveChangedMonths(gastroBook);
+    }
+
+    private synchronized void saveChangedMonths(ReadOnlyGastroBook gastroBook) throws IOException {
+        Optional<List<ReservationChange>> changes = gastroBook.getChangesSince(savedVersion);
+        try {
+            if (changes.isPresent()) {
+                applyChanges(changes.get());
+            } else {
+                compareMonths(gastroBook);
+            }
+        } catch (IllegalArgumentException e) {
+            // The months no longer follow the book, so each is compared with it in full
+            logger.warning("Could not apply the changes to " + filePath + " by month: " + e.getMessage());
+            compareMonths(gastroBook);
+        }
+        savedVersion = gastroBook.getVersion();
+
+        YearMonth currentMonth = YearMonth.now();
+        boolean isHistoryChanged = false;
+        while (!unsavedMonths.isEmpty()) {
+            YearMonth month = unsavedMonths.first();
+            getPartitionStorage(month).saveGastroBook(savedReservations.get(month));
+            unsavedMonths.remove(month);
+            unloadedBookingCounts.remove(month);
+            isHistoryChanged |= month.isBefore(currentMonth);
+        }
+
+        if (isHistoryChanged) {
+            writeIndex();
+        }
+        retireUnpartitionedFile();
+    }
+
+    /**
+     * Renames the data file written before the book was partitioned, along with the journal, binary snapshot and
+     * backups kept next to it, once the months have been written out, so that no one edits or backs up a file that
+     * is no longer read. Each is given the suffix {@value #MIGRATED_SUFFIX}.
+     */
+    private void retireUnpartitionedFile() {
+        if (!Files.exists(filePath) || !Files.isDirectory(getPartitionFolder(filePath))) {
+            return;
+        }
+
+        List<Path> oldFiles = new ArrayList<>();
+        for (Path snapshotPath : List.of(filePath, BinarySnapshotGastroBookStorage.getBinaryPath(filePath))) {
+            oldFiles.add(snapshotPath);
+            for (int generation = 1; generation <= FileUtil.BACKUP_GENERATIONS; generation++) {
+                oldFiles.add(FileUtil.getBackupPath(snapshotPath, generation));
+            }
+        }
+        oldFiles.add(JournaledGastroBookStorage.getJournalPath(filePath));
+        oldFiles.add(filePath.resolveSibling(filePath.getFileName()
+                + JournaledGastroBookStorage.COMPACTING_JOURNAL_SUFFIX));
+
+        try {
+            for (Path oldFile : oldFiles) {
+                if (Files.exists(oldFile)) {
+                    Files.move(oldFile, oldFile.resolveSibling(oldFile.getFileName() + MIGRATED_SUFFIX),
+                            StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            logger.info("Reservations of " + filePath + " are now kept in " + getPartitionFolder(filePath)
+                    + "; the old file was renamed with the suffix " + MIGRATED_SUFFIX);
+        } catch (IOException e) {
+            logger.warning("Could not rename " + filePath + ", which is no longer used: " + e);
+        }
+    }
+
+    /**
+     * Applies {@code changes} to the reservations of the months they were made in, which are then due to be written.
+     * An edit that moves a reservation to another month removes it from the one and adds it to the other.
+     */
+    private void applyChanges(List<ReservationChange> changes) {
+        Map<YearMonth, List<ReservationChange>> changesByMonth = new TreeMap<>();
+        for (ReservationChange change : changes) {
+            YearMonth removedMonth = change.getRemoved().map(PartitionedGastroBookStorage::monthOf).orElse(null);
+            YearMonth addedMonth = change.getAdded().map(PartitionedGastroBookStorage::monthOf).orElse(null);
+            if (removedMonth == null || addedMonth == null || removedMonth.equals(addedMonth)) {
+                YearMonth month = removedMonth == null ? addedMonth : removedMonth;
+                changesByMonth.computeIfAbsent(month, key -> new ArrayList<>()).add(change);
+                continue;
+            }
+            changesByMonth.computeIfAbsent(removedMonth, key -> new ArrayList<>())
+                    .add(new ReservationChange(change.getVersion(), change.getRemoved().get(), null));
+            changesByMonth.computeIfAbsent(addedMonth, key -> new ArrayList<>())
+                    .add(new ReservationChange(change.getVersion(), null, change.getAdded().get()));
+        }
+
+        changesByMonth.forEach((month, monthChanges) -> {
+            // A month not read yet had none of the book's reservations before these changes
+            savedReservations.computeIfAbsent(month, key -> new GastroBookReplica(List.of())).apply(monthChanges);
+            unsavedMonths.add(month);
+        });
+    }
+
+    /**
+     * Groups the reservations of {@code gastroBook} by month, and marks the months whose reservations are not the
+     * ones last read or saved as due to be written.
+     */
+    private void compareMonths(ReadOnlyGastroBook gastroBook) {
+        Map<YearMonth, List<Reservation>> reservationsByMonth = new TreeMap<>();
+        for (Reservation reservation : gastroBook.getReservationList()) {
+            reservationsByMonth.computeIfAbsent(monthOf(reservation), month -> new ArrayList<>()).add(reservation);
+        }
+
+        SortedSet<YearMonth> months = new TreeSet<>(reservationsByMonth.keySet());
+        months.addAll(savedReservations.keySet());
+        for (YearMonth month : months) {
+            List<Reservation> reservations = reservationsByMonth.getOrDefault(month, List.of());
+            GastroBookReplica saved = savedReservations.get(month);
+            if (saved == null ? reservations.isEmpty() : isSameReservations(saved.getReservationList(), reservations)) {
+                continue;
+            }
+            savedReservations.put(month, new GastroBookReplica(reservations));
+            unsavedMonths.add(month);
+        }
+    }
+
+    private static YearMonth monthOf(Reservation reservation) {
+        return YearMonth.from(reservation.getDate().toLocalDate());
+    }
+
+    /**
+     * Finishes writing out every month this storage has not yet written to the disk.
+     */
+    @Override
+    public synchronized void flushGastroBook() throws IOException {
+        for (GastroBookStorage partitionStorage : partitionStorages.values()) {
+            partitionStorage.flushGastroBook();
+        }
+    }
+
+    /**
+     * Returns true if {@code first} and {@code second} hold the very same reservations in the same order.
+     * Reservations are immutable, so a reservation that was edited is always a different object.
+     */
+    private static boolean isSameReservations(List<Reservation> first, List<Reservation> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (first.get(i) != second.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the months that have a partition on the disk, in order.
+     */
+    private SortedSet<YearMonth> listPartitions() throws DataLoadingException {
+        SortedSet<YearMonth> months = new TreeSet<>();
+        Path partitionFolder = getPartitionFolder(filePath);
+        if (!Files.isDirectory(partitionFolder)) {
+            return months;
+        }
+
+        try (Stream<Path> files = Files.list(partitionFolder)) {
+            files.forEach(file -> {
+                Matcher matcher = PARTITION_FILE_NAME_PATTERN.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    months.add(YearMonth.parse(matcher.group(1)));
+                }
+            });
+        } catch (IOException e) {
+            logger.warning("Error listing partitions in " + partitionFolder + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return months;
+    }
+
+    /**
+     * Reads the reservations of {@code month}, which later saves compare their reservations with.
+     */
+    private List<Reservation> readPartition(YearMonth month) throws DataLoadingException {
+        Optional<ReadOnlyGastroBook> partition = getPartitionStorage(month).readGastroBook();
+        List<Reservation> reservations = partition.isPresent()
+                ? List.copyOf(partition.get().getReservationList())
+                : List.of();
+        savedReservations.put(month, new GastroBookReplica(reservations));
+        return reservations;
+    }
+
+    /**
+     * Returns the storage of the partition of {@code month}, or of the data file if {@code month} is null.
+     */
+    private GastroBookStorage getPartitionStorage(YearMonth month) {
+        if (month == null) {
+            return partitionStorageFactory.apply(filePath);
+        }
+        return partitionStorages.computeIfAbsent(month,
+                key -> partitionStorageFactory.apply(getPartitionPath(filePath, key)));
+    }
+
+    private static GastroBook toGastroBook(List<Reservation> reservations) throws DataLoadingException {
+        GastroBook gastroBook = new GastroBook();
+        try {
+            gastroBook.setReservations(reservations);
+        } catch (RuntimeException e) {
+            throw new DataLoadingException(e);
+        }
+        return gastroBook;
+    }
+
+    /**
+     * Returns the customers who made {@code reservations}, each with the number they made as their counter.
+     */
+    private static List<Person> countBookings(List<Reservation> reservations) {
+        Map<String, Person> customers = new LinkedHashMap<>();
+        for (Reservation reservation : reservations) {
+            Person customer = customers.get(reservation.getPhone().value);
+            Person updatedCustomer = new Person(reservation.getName(), reservation.getPhone());
+            updatedCustomer.setCounter(customer == null ? 1 : customer.getCounter() + 1);
+            customers.put(reservation.getPhone().value, updatedCustomer);
+        }
+        return new ArrayList<>(customers.values());
+    }
+
+    /**
+     * Returns the booking counts of each month in the index, or none if the index cannot be read, in which case
+     * every month is counted from its partition instead.
+     */
+    private Map<YearMonth, List<Person>> readIndex() {
+        Path indexPath = getPartitionFolder(filePath).resolve(INDEX_FILE_NAME);
+        try {
+            Optional<JsonSerializableHistoryIndex> index =
+                    JsonUtil.readJsonFile(indexPath, JsonSerializableHistoryIndex.class);
+            return index.isPresent() ? index.get().toModelType() : Map.of();
+        } catch (DataLoadingException | IllegalValueException e) {
+            logger.warning("Could not read history index " + indexPath + ", recounting it: " + e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * Writes the booking counts of each month before the current one to the index.
+     * If it cannot be written, it is deleted, so that the counts are taken from the partitions next time instead.
+     */
+    private void writeIndex() {
+        YearMonth currentMonth = YearMonth.now();
+        Map<YearMonth, List<Person>> bookingCounts = new TreeMap<>(unloadedBookingCounts);
+        savedReservations.forEach((month, reservations) -> {
+            if (month.isBefore(currentMonth)) {
+                bookingCounts.put(month, countBookings(reservations.getReservationList()));
+            }
+        });
+
+        Path indexPath = getPartitionFolder(filePath).resolve(INDEX_FILE_NAME);
+        try {
+            byte[] content = JsonUtil.toJsonLine(JsonSerializableHistoryIndex.of(bookingCounts))
+                    .getBytes(StandardCharsets.UTF_8);
+            // A stale index is worse than none, so no earlier versions are kept
+            FileUtil.writeAtomically(indexPath, out -> out.write(content), false, 0);
+        } catch (IOException e) {
+            logger.warning("Could not write history index " + indexPath + ": " + e);
+            try {
+                Files.deleteIfExists(indexPath);
+            } catch (IOException deleteException) {
+                logger.warning("Could not delete history index " + indexPath + ": " + deleteException);
+            }
+        }
+    }
+}
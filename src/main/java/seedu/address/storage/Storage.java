@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyGastroBook;
@@ -29,4 +30,10 @@ public interface Storage extends GastroBookStorage, UserPrefsStorage {
     @Override
     void saveGastroBook(ReadOnlyGastroBook gastroBook) throws IOException;
 
+    /**
+     * Sets the handler told about saves that fail after the call that made them has returned.
+     * Storages that finish each save before returning never call it, as their saves throw instead.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
 }
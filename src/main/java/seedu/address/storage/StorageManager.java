@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -75,4 +76,15 @@ public class StorageManager implements Storage {
         gastroBookStorage.saveGastroBook(gastroBook, filePath);
     }
 
+    @Override
+    public void flushGastroBook() throws IOException {
+        logger.fine("Attempting to finish writing to data file: " + gastroBookStorage.getGastroBookFilePath());
+        gastroBookStorage.flushGastroBook();
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        // Every save is finished before it returns, and throws if it fails
+    }
+
 }
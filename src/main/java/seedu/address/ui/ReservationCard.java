@@ -8,8 +8,6 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
-import seedu.address.model.PersonsList;
-import seedu.address.model.reservation.Person;
 import seedu.address.model.reservation.Reservation;
 
 
@@ -60,8 +58,9 @@ public class ReservationCard extends UiPart<Region> {
 
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * {@code isRegular} tells whether the reservation was made by a regular customer.
      */
-    public ReservationCard(Reservation reservation, int displayedIndex) {
+    public ReservationCard(Reservation reservation, int displayedIndex, boolean isRegular) {
         super(FXML);
         this.reservation = reservation;
         id.setText(displayedIndex + ". ");
@@ -78,27 +77,17 @@ public class ReservationCard extends UiPart<Region> {
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
         reservationId.setText(reservation.getId().value);
         isPaid.setText(reservation.getIsPaid() ? "Paid" : "Not Paid");
-        updateCardStyle();
+        updateCardStyle(isRegular);
     }
 
     /**
-     * Updates the background color of the reservation card based on payment status.
+     * Updates the background color of the reservation card based on whether the customer is a regular.
      */
-    private void updateCardStyle() {
+    private void updateCardStyle(boolean isRegular) {
         Platform.runLater(() -> {
-            System.out.println("Updating card style...");
             cardPane.getStyleClass().removeAll("normal", "regular");
 
-            Person p = PersonsList.getPerson(reservation.getPhone());
-
-            if (p == null) {
-                System.out.println("❌ Person not found for phone: " + reservation.getPhone());
-                return;
-            }
-
-            System.out.println("✅ Applying style for: " + p.getName());
-
-            if (p.isRegularAmountHitted()) {
+            if (isRegular) {
                 cardPane.getStyleClass().add("regular");
             } else {
                 cardPane.getStyleClass().add("normal");
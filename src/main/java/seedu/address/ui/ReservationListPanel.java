@@ -1,6 +1,7 @@
 package seedu.address.ui;
 
 import java.util.Comparator;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ListChangeListener;
@@ -11,6 +12,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.reservation.Phone;
 import seedu.address.model.reservation.Reservation;
 
 /**
@@ -23,14 +25,18 @@ public class ReservationListPanel extends UiPart<Region> {
     @FXML
     private ListView<Reservation> reservationListView;
 
+    private final Predicate<Phone> isRegularCustomer;
+
     /**
      * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * {@code isRegularCustomer} tells which customers' cards are styled as regulars.
      */
-    public ReservationListPanel(ObservableList<Reservation> reservationList) {
+    public ReservationListPanel(ObservableList<Reservation> reservationList, Predicate<Phone> isRegularCustomer) {
         super(FXML);
+        this.isRegularCustomer = isRegularCustomer;
         SortedList<Reservation> sortedList = new SortedList<>(reservationList);
         //comparator to sort by time
-        sortedList.setComparator(Comparator.comparing(r -> r.getTime().value));
+        sortedList.setComparator(Comparator.comparingInt(r -> r.getTime().toMinuteOfDay()));
         reservationListView.setItems(sortedList);
         reservationListView.setCellFactory(listView -> new ReservationListViewCell());
 
@@ -57,7 +63,8 @@ public class ReservationListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ReservationCard(reservation, getIndex() + 1).getRoot());
+                setGraphic(new ReservationCard(reservation, getIndex() + 1,
+                        isRegularCustomer.test(reservation.getPhone())).getRoot());
             }
         }
     }
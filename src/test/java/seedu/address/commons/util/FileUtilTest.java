@@ -1,13 +1,26 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +33,81 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void openForReading_mappedOrBuffered_sameBytesAsFile() throws Exception {
+        byte[] bytes = new byte[100_000];
+        new Random(42).nextBytes(bytes);
+        Path file = testFolder.resolve("data.bin");
+        Files.write(file, bytes);
+
+        // Mapped, since the file is above the size given
+        try (InputStream in = FileUtil.openForReading(file, 0)) {
+            assertEquals(bytes[0] & 0xFF, in.read());
+            assertEquals(10, in.skip(10));
+            byte[] rest = in.readAllBytes();
+            assertEquals(bytes.length - 11, rest.length);
+            assertEquals(bytes[11], rest[0]);
+            assertEquals(-1, in.read());
+        }
+
+        // Read through a buffer, since the file is below the size given
+        try (InputStream in = FileUtil.openForReading(file, bytes.length + 1)) {
+            assertArrayEquals(bytes, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void openForReading_emptyFileMapped_noBytes() throws Exception {
+        Path file = testFolder.resolve("empty.bin");
+        Files.createFile(file);
+
+        try (InputStream in = FileUtil.openForReading(file, 0)) {
+            assertEquals(-1, in.read());
+            assertEquals(-1, in.read(new byte[4], 0, 4));
+        }
+    }
+
+    @Test
+    public void writeAtomically_rewrites_keepsEarlierVersions() throws Exception {
+        Path file = testFolder.resolve("nested").resolve("data.json");
+
+        FileUtil.writeToFile(file, "first");
+        assertEquals(List.of(file), FileUtil.getGenerations(file));
+
+        FileUtil.writeToFile(file, "second");
+        FileUtil.writeToFile(file, "third");
+        FileUtil.writeToFile(file, "fourth");
+
+        assertEquals("fourth", FileUtil.readFromFile(file));
+        assertEquals("third", FileUtil.readFromFile(FileUtil.getBackupPath(file, 1)));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupPath(file, 2)));
+        assertEquals(List.of(file, FileUtil.getBackupPath(file, 1), FileUtil.getBackupPath(file, 2)),
+                FileUtil.getGenerations(file));
+        assertFalse(Files.exists(file.resolveSibling("data.json" + FileUtil.TEMP_SUFFIX)));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "saved");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partly written".getBytes());
+            throw new IOException("disk full");
+        }, true, FileUtil.BACKUP_GENERATIONS));
+
+        assertEquals("saved", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), FileUtil.getGenerations(file));
+        assertFalse(Files.exists(file.resolveSibling("data.json" + FileUtil.TEMP_SUFFIX)));
+    }
+
+    @Test
+    public void writeAtomically_noBackups_onlyFileKept() throws Exception {
+        Path file = testFolder.resolve("data.bin");
+        FileUtil.writeAtomically(file, out -> out.write(1), false, 0);
+        FileUtil.writeAtomically(file, out -> out.write(2), false, 0);
+
+        assertArrayEquals(new byte[] {2}, Files.readAllBytes(file));
+        assertEquals(List.of(file), FileUtil.getGenerations(file));
+    }
 }
@@ -129,6 +129,35 @@ public class StringUtilTest {
      * Equivalence Partitions: null, valid throwable object
      */
 
+    //---------------- Tests for isWithinEditDistance --------------------------------------
+
+    @Test
+    public void isWithinEditDistance_negativeMaxEdits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.isWithinEditDistance("a", "a", -1));
+    }
+
+    @Test
+    public void isWithinEditDistance_validInputs_correctResult() {
+        // identical, including empty
+        assertTrue(StringUtil.isWithinEditDistance("", "", 0));
+        assertTrue(StringUtil.isWithinEditDistance("alice", "alice", 0));
+
+        // one substitution, insertion or deletion
+        assertTrue(StringUtil.isWithinEditDistance("alice", "alise", 1));
+        assertTrue(StringUtil.isWithinEditDistance("alice", "allice", 1));
+        assertTrue(StringUtil.isWithinEditDistance("alice", "alce", 1));
+        assertFalse(StringUtil.isWithinEditDistance("alice", "alise", 0));
+
+        // a swap takes two edits
+        assertFalse(StringUtil.isWithinEditDistance("alice", "alcie", 1));
+        assertTrue(StringUtil.isWithinEditDistance("alice", "alcie", 2));
+
+        // lengths too far apart, or different all through
+        assertFalse(StringUtil.isWithinEditDistance("al", "alice", 2));
+        assertFalse(StringUtil.isWithinEditDistance("alice", "bruce", 2));
+        assertTrue(StringUtil.isWithinEditDistance("", "ab", 2));
+    }
+
     @Test
     public void getDetails_exceptionGiven() {
         assertTrue(StringUtil.getDetails(new FileNotFoundException("file not found"))
@@ -1,28 +1,35 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_RESERVATION_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyGastroBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.storage.JsonGastroBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.testutil.ReservationBuilder;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
@@ -61,6 +68,53 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommands_savedOnlyOnce() throws Exception {
+        Path gastroBookPath = temporaryFolder.resolve("gastroBook.json");
+        LogicManager logicManager = (LogicManager) logic;
+
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertTrue(Files.exists(gastroBookPath));
+        assertEquals(0, logicManager.getSkippedSaveCount());
+
+        Files.delete(gastroBookPath);
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.execute(HelpCommand.COMMAND_WORD);
+        assertFalse(Files.exists(gastroBookPath));
+        assertEquals(2, logicManager.getSkippedSaveCount());
+
+        model.addReservation(new ReservationBuilder().build());
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertTrue(Files.exists(gastroBookPath));
+        assertEquals(2, logicManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_saveFailsBeforeReturning_savedAgainByNextCommand() throws Exception {
+        // A storage whose writer reports the failure of a save before the save is even handed back
+        Path gastroBookPath = temporaryFolder.resolve("gastroBook.json");
+        StorageManager storage = new StorageManager(new JsonGastroBookStorage(gastroBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))) {
+            private Consumer<IOException> saveFailureHandler;
+
+            @Override
+            public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+                this.saveFailureHandler = saveFailureHandler;
+            }
+
+            @Override
+            public void saveGastroBook(ReadOnlyGastroBook gastroBook) {
+                saveFailureHandler.accept(DUMMY_IO_EXCEPTION);
+            }
+        };
+        LogicManager logicManager = new LogicManager(model, storage);
+        logicManager.setSaveFailureHandler(message -> {});
+
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, logicManager.getSkippedSaveCount());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
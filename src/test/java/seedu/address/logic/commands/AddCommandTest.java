@@ -47,6 +47,31 @@ public class AddCommandTest {
                 AddCommand.MESSAGE_DUPLICATE_RESERVATION);
     }
 
+    @Test
+    public void execute_tableOccupied_throwsCommandException() {
+        Reservation validReservation = new ReservationBuilder().build();
+        model.addReservation(validReservation);
+        Reservation clashingReservation = new ReservationBuilder().withPhone("91234567").withTime("1900").build();
+
+        assertCommandFailure(new AddCommand(clashingReservation), model,
+                Messages.getErrorMessageForTableConflict(validReservation));
+    }
+
+    @Test
+    public void execute_tableFreeAfterPreviousBooking_addSuccessful() {
+        Reservation validReservation = new ReservationBuilder().build();
+        model.addReservation(validReservation);
+        Reservation laterReservation = new ReservationBuilder().withPhone("91234567").withTime("2000").build();
+
+        Model expectedModel = new ModelManager();
+        expectedModel.addReservation(validReservation);
+        expectedModel.addReservation(laterReservation);
+
+        assertCommandSuccess(new AddCommand(laterReservation), model,
+                String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(laterReservation)),
+                expectedModel);
+    }
+
     @Test
     public void execute_addingPersonToPersonsList() {
         Reservation validReservation = new ReservationBuilder().build();
@@ -49,7 +49,6 @@ public class DeleteCommandTest {
 
         // Delete from expected model
         expectedModel.deleteReservation(testReservation);
-        expectedModel.updatePersonsListAfterDelete(testReservation);
 
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
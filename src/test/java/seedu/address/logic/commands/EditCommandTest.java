@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DURATION_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalReservations.ALICE;
 import static seedu.address.testutil.TypicalReservations.getTypicalGastroBook;
@@ -14,6 +15,7 @@ import seedu.address.model.GastroBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.reservation.Identification;
 import seedu.address.model.reservation.Reservation;
 import seedu.address.testutil.EditReservationDescriptorBuilder;
 import seedu.address.testutil.ReservationBuilder;
@@ -98,4 +100,18 @@ public class EditCommandTest {
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
+
+    @Test
+    public void execute_tableOccupied_failure() {
+        Model freshModel = new ModelManager();
+        Reservation dinner = new ReservationBuilder().build();
+        Reservation lunch = new ReservationBuilder().withPhone("91234567").withTime("1200").build();
+        freshModel.addReservation(dinner);
+        freshModel.addReservation(lunch);
+        Identification lunchId = new Identification(lunch.getDate(), lunch.getPhone(), lunch.getTime());
+        EditCommand editCommand = new EditCommand(lunchId,
+                new EditReservationDescriptorBuilder().withTime("1700").build());
+
+        assertCommandFailure(editCommand, freshModel, Messages.getErrorMessageForTableConflict(dinner));
+    }
 }
@@ -0,0 +1,102 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_NO_RESERVATIONS_LISTED;
+import static seedu.address.logic.Messages.MESSAGE_RESERVATIONS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalReservations.ALICE;
+import static seedu.address.testutil.TypicalReservations.CARL;
+import static seedu.address.testutil.TypicalReservations.getTypicalGastroBook;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.TagsMatchPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ReservationBuilder;
+
+public class FindByTagCommandTest {
+
+    private static final Reservation VIP_ALICE = new ReservationBuilder(ALICE).withTags("vip").build();
+    private static final Reservation VIP_NUTS_CARL = new ReservationBuilder(CARL).withTags("vip", "nuts").build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalGastroBook(), new UserPrefs());
+        model.setReservation(ALICE, VIP_ALICE);
+        model.setReservation(CARL, VIP_NUTS_CARL);
+    }
+
+    @Test
+    public void execute_singleTag_matchesEveryReservationCarryingIt() {
+        FindByTagCommand command = new FindByTagCommand(makePredicate(List.of(Set.of("vip"))));
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(List.of(VIP_ALICE, VIP_NUTS_CARL), model.getFilteredReservationList());
+        assertEquals(String.format(MESSAGE_RESERVATIONS_LISTED_OVERVIEW, 2), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_severalTags_matchesOnlyReservationsCarryingAll() {
+        FindByTagCommand command = new FindByTagCommand(makePredicate(List.of(Set.of("vip", "nuts"))));
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(List.of(VIP_NUTS_CARL), model.getFilteredReservationList());
+        assertEquals(String.format(MESSAGE_RESERVATIONS_LISTED_OVERVIEW, 1), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_alternatives_matchesReservationsCarryingAnyGroup() {
+        FindByTagCommand command = new FindByTagCommand(makePredicate(List.of(Set.of("nuts"), Set.of("shellfish"))));
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(List.of(VIP_NUTS_CARL), model.getFilteredReservationList());
+        assertEquals(String.format(MESSAGE_RESERVATIONS_LISTED_OVERVIEW, 1), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noMatchingTags_returnsEmptyList() {
+        FindByTagCommand command = new FindByTagCommand(makePredicate(List.of(Set.of("shellfish"))));
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(0, model.getFilteredReservationList().size());
+        assertEquals(MESSAGE_NO_RESERVATIONS_LISTED, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        TagsMatchPredicate predicate1 = makePredicate(List.of(Set.of("vip")));
+        TagsMatchPredicate predicate2 = makePredicate(List.of(Set.of("nuts")));
+
+        FindByTagCommand command1 = new FindByTagCommand(predicate1);
+        FindByTagCommand command2 = new FindByTagCommand(makePredicate(List.of(Set.of("vip"))));
+        FindByTagCommand command3 = new FindByTagCommand(predicate2);
+
+        assertTrue(command1.equals(command1)); // same object
+        assertTrue(command1.equals(command2)); // same tags
+        assertFalse(command1.equals(null));
+        assertFalse(command1.equals("not a command"));
+        assertFalse(command1.equals(command3)); // different tags
+    }
+
+    private static TagsMatchPredicate makePredicate(List<Set<String>> alternatives) {
+        return new TagsMatchPredicate(alternatives.stream()
+                .map(tagNames -> tagNames.stream().map(Tag::new).collect(Collectors.toSet()))
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_NO_RESERVATIONS_LISTED;
+import static seedu.address.logic.Messages.MESSAGE_RESERVATIONS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalReservations.ALICE;
+import static seedu.address.testutil.TypicalReservations.getTypicalGastroBook;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.reservation.NameContainsKeywordsPredicate;
+import seedu.address.model.reservation.ReservationQuery;
+
+public class QueryCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalGastroBook(), new UserPrefs());
+        expectedModel = new ModelManager(getTypicalGastroBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_dateRange_matchesReservationsOnThoseDates() {
+        LocalDate today = LocalDate.now();
+        ReservationQuery query = new ReservationQuery.Builder().withDates(today, today.plusDays(1)).build();
+        QueryCommand command = new QueryCommand(query);
+
+        expectedModel.updateFilteredReservationList(query);
+
+        CommandResult result = command.execute(model);
+
+        assertFalse(model.getFilteredReservationList().isEmpty());
+        assertEquals(expectedModel.getFilteredReservationList(), model.getFilteredReservationList());
+        assertEquals(String.format(MESSAGE_RESERVATIONS_LISTED_OVERVIEW,
+                model.getFilteredReservationList().size()), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_severalCriteria_matchesReservationsMeetingAll() {
+        LocalDate today = LocalDate.now();
+        ReservationQuery query = new ReservationQuery.Builder()
+                .withNames(new NameContainsKeywordsPredicate(Collections.singletonList("Alice")))
+                .withDates(today, today.plusDays(1))
+                .build();
+        QueryCommand command = new QueryCommand(query);
+
+        expectedModel.updateFilteredReservationList(query);
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(List.of(ALICE), model.getFilteredReservationList());
+        assertEquals(expectedModel.getFilteredReservationList(), model.getFilteredReservationList());
+        assertEquals(String.format(MESSAGE_RESERVATIONS_LISTED_OVERVIEW, 1), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noMatchingReservations_returnsEmptyList() {
+        ReservationQuery query = new ReservationQuery.Builder()
+                .withNames(new NameContainsKeywordsPredicate(Collections.singletonList("Zelda")))
+                .build();
+        QueryCommand command = new QueryCommand(query);
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(0, model.getFilteredReservationList().size());
+        assertEquals(MESSAGE_NO_RESERVATIONS_LISTED, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        ReservationQuery query1 = new ReservationQuery.Builder().withPaid(true).build();
+        ReservationQuery query2 = new ReservationQuery.Builder().withPaid(false).build();
+
+        QueryCommand command1 = new QueryCommand(query1);
+        QueryCommand command2 = new QueryCommand(new ReservationQuery.Builder().withPaid(true).build());
+        QueryCommand command3 = new QueryCommand(query2);
+
+        assertTrue(command1.equals(command1)); // same object
+        assertTrue(command1.equals(command2)); // same criteria
+        assertFalse(command1.equals(null));
+        assertFalse(command1.equals("not a command"));
+        assertFalse(command1.equals(command3)); // different criteria
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.reservation.StartDate;
+import seedu.address.testutil.ReservationBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for TablesCommand.
+ */
+public class TablesCommandTest {
+
+    private final Model model = new ModelManager();
+    private final String today = LocalDate.now().format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+    private final String tomorrow = LocalDate.now().plusDays(1).format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+
+    @Test
+    public void execute_noBookings_allTablesFree() {
+        CommandResult result = new TablesCommand(null).execute(model);
+        assertEquals(String.format(TablesCommand.MESSAGE_NO_TABLES_BOOKED, today), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_bookings_showsFreeSlotsPerTable() {
+        model.addReservation(new ReservationBuilder().withPhone("91110001").withTime("1200").withDuration("1")
+                .build());
+        model.addReservation(new ReservationBuilder().withPhone("91110002").withTime("1800").withDuration("2")
+                .build());
+        model.addReservation(new ReservationBuilder().withPhone("91110003").withTable("B2").withTime("0000")
+                .withDuration("12").build());
+        model.addReservation(new ReservationBuilder().withPhone("91110004").withTable("B2").withTime("1200")
+                .withDuration("12").build());
+        model.addReservation(new ReservationBuilder().withPhone("91110005").withTable("C3").withDate(tomorrow)
+                .build());
+
+        String expectedMessage = String.format(TablesCommand.MESSAGE_FREE_SLOTS, today)
+                + "\nA1: 0000-1200, 1300-1800, 2000-2400"
+                + "\nB2: " + TablesCommand.MESSAGE_TABLE_FULLY_BOOKED;
+        assertEquals(expectedMessage, new TablesCommand(null).execute(model).getFeedbackToUser());
+
+        String expectedTomorrowMessage = String.format(TablesCommand.MESSAGE_FREE_SLOTS, tomorrow)
+                + "\nC3: 0000-1800, 2000-2400";
+        assertEquals(expectedTomorrowMessage,
+                new TablesCommand(new StartDate(tomorrow)).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        TablesCommand todayCommand = new TablesCommand(null);
+        TablesCommand tomorrowCommand = new TablesCommand(new StartDate(tomorrow));
+
+        assertTrue(todayCommand.equals(todayCommand));
+        assertTrue(todayCommand.equals(new TablesCommand(null)));
+        assertTrue(tomorrowCommand.equals(new TablesCommand(new StartDate(tomorrow))));
+        assertFalse(todayCommand.equals(tomorrowCommand));
+        assertFalse(todayCommand.equals(null));
+    }
+}
@@ -53,4 +53,17 @@ public class FindByNameCommandParserTest {
         assertEquals(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindByNameCommand.MESSAGE_USAGE),
                 thrown.getMessage());
     }
+
+    @Test
+    public void parse_fuzzyKeywords_success() throws Exception {
+        NameContainsKeywordsPredicate expectedPredicate =
+                new NameContainsKeywordsPredicate(Arrays.asList("~Alise", "Bob"));
+        assertEquals(new FindByNameCommand(expectedPredicate), parser.parse("~Alise Bob"));
+    }
+
+    @Test
+    public void parse_fuzzyMarkerAlone_throwsParseException() {
+        ParseException thrown = assertThrows(ParseException.class, () -> parser.parse("Alice ~"));
+        assertEquals(NameContainsKeywordsPredicate.MESSAGE_FUZZY_CONSTRAINTS, thrown.getMessage());
+    }
 }
@@ -9,6 +9,7 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindByPhoneCommand;
+import seedu.address.model.reservation.Phone;
 import seedu.address.model.reservation.PhoneContainsKeywordsPredicate;
 
 public class FindByPhoneCommandParserTest {
@@ -31,4 +32,19 @@ public class FindByPhoneCommandParserTest {
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n 98765432 \n \t 1234  \t", expectedFindByPhoneCommand);
     }
+
+    @Test
+    public void parse_partialNumbers_returnsFindByPhoneCommand() {
+        FindByPhoneCommand expectedFindByPhoneCommand =
+                new FindByPhoneCommand(new PhoneContainsKeywordsPredicate(Arrays.asList("9876*", "*4321")));
+        assertParseSuccess(parser, "9876* *4321", expectedFindByPhoneCommand);
+    }
+
+    @Test
+    public void parse_invalidPartialNumber_throwsParseException() {
+        assertParseFailure(parser, "*", PhoneContainsKeywordsPredicate.MESSAGE_PARTIAL_CONSTRAINTS);
+        assertParseFailure(parser, "*12*", PhoneContainsKeywordsPredicate.MESSAGE_PARTIAL_CONSTRAINTS);
+        assertParseFailure(parser, "12a*", PhoneContainsKeywordsPredicate.MESSAGE_PARTIAL_CONSTRAINTS);
+        assertParseFailure(parser, "123", Phone.MESSAGE_CONSTRAINTS);
+    }
 }
@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindByTagCommand;
+import seedu.address.model.reservation.TagsMatchPredicate;
+import seedu.address.model.tag.Tag;
+
+public class FindByTagCommandParserTest {
+
+    private final FindByTagCommandParser parser = new FindByTagCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindByTagCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_emptyAlternative_throwsParseException() {
+        assertParseFailure(parser, "vip |",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindByTagCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "vip || nuts",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindByTagCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, "vip nut-free", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindByTagCommand() {
+        FindByTagCommand expectedCommand = new FindByTagCommand(new TagsMatchPredicate(List.of(
+                Set.of(new Tag("vip"), new Tag("nuts")), Set.of(new Tag("shellfish")))));
+        assertParseSuccess(parser, "vip nuts | shellfish", expectedCommand);
+
+        // multiple whitespaces around tags and separators
+        assertParseSuccess(parser, " \n vip \t nuts|  shellfish  \t", expectedCommand);
+    }
+}
@@ -38,6 +38,29 @@ public class FindByTimeCommandParserTest {
         assertEquals(expectedCommand, result);
     }
 
+    @Test
+    public void parse_validRange_returnsFindByTimeCommand() throws Exception {
+        FindByTimeCommand expectedCommand = new FindByTimeCommand(
+                new TimeMatchesPredicate(LocalTime.of(19, 0), LocalTime.of(21, 0)));
+
+        assertEquals(expectedCommand, parser.parse(" 1900   2100 "));
+    }
+
+    @Test
+    public void parse_rangeEndNotAfterStart_throwsParseException() {
+        ParseException thrown = assertThrows(ParseException.class, () -> parser.parse("2100 1900"));
+        assertEquals(FindByTimeCommand.MESSAGE_INVALID_RANGE, thrown.getMessage());
+
+        assertThrows(ParseException.class, () -> parser.parse("1900 1900"));
+    }
+
+    @Test
+    public void parse_tooManyTimes_throwsParseException() {
+        ParseException thrown = assertThrows(ParseException.class, () -> parser.parse("1900 2000 2100"));
+        assertEquals(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindByTimeCommand.MESSAGE_USAGE),
+                thrown.getMessage());
+    }
+
     @Test
     public void parse_emptyInput_throwsParseException() {
         String input = "   ";
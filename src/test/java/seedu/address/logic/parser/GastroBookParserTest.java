@@ -13,6 +13,7 @@ import seedu.address.logic.commands.ListPCommand;
 import seedu.address.logic.commands.ListRCommand;
 import seedu.address.logic.commands.ListRnCommand;
 import seedu.address.logic.commands.ListRtCommand;
+import seedu.address.logic.commands.TablesCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 public class GastroBookParserTest {
@@ -75,6 +76,13 @@ public class GastroBookParserTest {
                 parser.parseCommand(ListRnCommand.COMMAND_WORD + " 3"));
     }
 
+    @Test
+    public void parseCommand_tables() throws Exception {
+        assertTrue(parser.parseCommand(TablesCommand.COMMAND_WORD) instanceof TablesCommand);
+        assertThrows(ParseException.class, () ->
+                parser.parseCommand(TablesCommand.COMMAND_WORD + " 3"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, () -> parser.parseCommand(""));
@@ -0,0 +1,79 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.model.reservation.NameContainsKeywordsPredicate;
+import seedu.address.model.reservation.PhoneContainsKeywordsPredicate;
+import seedu.address.model.reservation.ReservationQuery;
+import seedu.address.model.reservation.StartDate;
+import seedu.address.model.reservation.Table;
+import seedu.address.model.reservation.TimeMatchesPredicate;
+import seedu.address.model.tag.Tag;
+
+public class QueryCommandParserTest {
+
+    private final QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_noCriteria_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "alex", String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_everyCriterion_returnsQueryCommand() {
+        ReservationQuery expectedQuery = new ReservationQuery.Builder()
+                .withNames(new NameContainsKeywordsPredicate(List.of("Alex", "~Brnice")))
+                .withPhones(new PhoneContainsKeywordsPredicate(List.of("9123*", "*4567")))
+                .withDates(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 31))
+                .withTimes(new TimeMatchesPredicate(LocalTime.of(18, 0), LocalTime.of(20, 0)))
+                .withTable(new Table("A1"))
+                .withTags(Set.of(new Tag("vip"), new Tag("birthday")))
+                .withPaid(false)
+                .withPax(2, 4)
+                .build();
+
+        assertParseSuccess(parser, " n/Alex  ~Brnice p/9123* *4567 date/01/01/2020 date/31/01/2020 time/1800-2000"
+                + " table/A1 t/vip t/birthday paid/NO pax/2-4", new QueryCommand(expectedQuery));
+    }
+
+    @Test
+    public void parse_singleValues_returnsQueryCommand() {
+        LocalDate today = LocalDate.now();
+        ReservationQuery expectedQuery = new ReservationQuery.Builder()
+                .withDates(today, today)
+                .withTimes(new TimeMatchesPredicate(LocalTime.of(19, 30)))
+                .withPax(6, 6)
+                .build();
+
+        assertParseSuccess(parser, " date/" + today.format(StartDate.DATE_FORMATTER) + " time/1930 pax/6",
+                new QueryCommand(expectedQuery));
+    }
+
+    @Test
+    public void parse_invalidRanges_throwsParseException() {
+        assertParseFailure(parser, " date/02/01/2020 date/01/01/2020", QueryCommandParser.MESSAGE_INVALID_DATE_RANGE);
+        assertParseFailure(parser, " date/01/01/2020 date/02/01/2020 date/03/01/2020",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " time/2000-1800", QueryCommandParser.MESSAGE_INVALID_TIME_RANGE);
+        assertParseFailure(parser, " pax/5-2", QueryCommandParser.MESSAGE_INVALID_PAX_RANGE);
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " paid/maybe", QueryCommandParser.MESSAGE_INVALID_PAID);
+        assertParseFailure(parser, " p/*1234*", PhoneContainsKeywordsPredicate.MESSAGE_PARTIAL_CONSTRAINTS);
+        assertParseFailure(parser, " n/alex ~", NameContainsKeywordsPredicate.MESSAGE_FUZZY_CONSTRAINTS);
+        assertParseFailure(parser, " date/31/02/2020", StartDate.MESSAGE_CONSTRAINTS);
+    }
+}
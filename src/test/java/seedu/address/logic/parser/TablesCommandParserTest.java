@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.TablesCommand;
+import seedu.address.model.reservation.StartDate;
+
+public class TablesCommandParserTest {
+
+    private final TablesCommandParser parser = new TablesCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsTablesCommandForToday() {
+        assertParseSuccess(parser, "   ", new TablesCommand(null));
+    }
+
+    @Test
+    public void parse_validDate_returnsTablesCommand() {
+        String tomorrow = LocalDate.now().plusDays(1).format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+        assertParseSuccess(parser, " " + tomorrow + " ", new TablesCommand(new StartDate(tomorrow)));
+    }
+
+    @Test
+    public void parse_invalidDate_throwsParseException() {
+        assertParseFailure(parser, "tomorrow", StartDate.MESSAGE_CONSTRAINTS);
+        String lastWeek = LocalDate.now().minusDays(7).format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+        assertParseFailure(parser, lastWeek, StartDate.MESSAGE_CONSTRAINTS);
+    }
+}
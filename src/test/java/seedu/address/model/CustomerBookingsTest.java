@@ -0,0 +1,85 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.reservation.Phone;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.UniqueReservationList;
+import seedu.address.testutil.ReservationBuilder;
+
+public class CustomerBookingsTest {
+
+    private static final Phone PHONE = new Phone("81112222");
+
+    private UniqueReservationList reservations;
+    private CustomerBookings customerBookings;
+
+    @BeforeEach
+    public void setUp() {
+        reservations = new UniqueReservationList();
+        reservations.add(bookingAt("1200"));
+        customerBookings = new CustomerBookings(reservations.asUnmodifiableObservableList());
+    }
+
+    private Reservation bookingAt(String time) {
+        return new ReservationBuilder().withName("Amy").withPhone(PHONE.value).withTime(time).build();
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CustomerBookings(null));
+    }
+
+    @Test
+    public void constructor_existingReservations_counted() {
+        assertEquals(1, customerBookings.getPerson(PHONE).getCounter());
+        assertFalse(customerBookings.isRegular(PHONE));
+    }
+
+    @Test
+    public void add_thresholdReached_becomesRegular() {
+        reservations.add(bookingAt("1300"));
+        reservations.add(bookingAt("1400"));
+
+        assertTrue(customerBookings.isRegular(PHONE));
+        assertEquals(1, customerBookings.getRegularCustomers().size());
+        assertEquals(PersonsList.REGULAR_CUSTOMER_THRESHOLD,
+                customerBookings.getRegularCustomers().get(0).getCounter());
+    }
+
+    @Test
+    public void remove_belowThreshold_noLongerRegular() {
+        reservations.add(bookingAt("1300"));
+        reservations.add(bookingAt("1400"));
+        reservations.remove(bookingAt("1400"));
+
+        assertFalse(customerBookings.isRegular(PHONE));
+        assertEquals(2, customerBookings.getPerson(PHONE).getCounter());
+    }
+
+    @Test
+    public void setReservation_nameChanged_keepsCounterAndUpdatesName() {
+        Reservation booking = bookingAt("1200");
+        reservations.setReservation(booking, new ReservationBuilder(booking).withName("Amy Bee").build());
+
+        assertEquals(1, customerBookings.getPerson(PHONE).getCounter());
+        assertEquals("Amy Bee", customerBookings.getPerson(PHONE).getName().getFullName());
+    }
+
+    @Test
+    public void setReservations_emptyList_clearsCounts() {
+        reservations.add(bookingAt("1300"));
+        reservations.add(bookingAt("1400"));
+        reservations.setReservations(new UniqueReservationList());
+
+        assertNull(customerBookings.getPerson(PHONE));
+        assertTrue(customerBookings.getRegularPhones().isEmpty());
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalReservations.ALICE;
@@ -45,6 +46,86 @@ public class GastroBookTest {
         assertThrows(DuplicateReservationException.class, () -> gastroBook.resetData(newData));
     }
 
+    @Test
+    public void getVersion_changesOnEveryMutation() {
+        long version = gastroBook.getVersion();
+        gastroBook.addReservation(ALICE);
+        assertTrue(gastroBook.getVersion() != version);
+
+        version = gastroBook.getVersion();
+        gastroBook.setReservation(ALICE, new ReservationBuilder(ALICE).withPax("5").build());
+        assertTrue(gastroBook.getVersion() != version);
+
+        version = gastroBook.getVersion();
+        gastroBook.removeReservation(ALICE);
+        assertTrue(gastroBook.getVersion() != version);
+
+        version = gastroBook.getVersion();
+        gastroBook.resetData(new GastroBook());
+        assertTrue(gastroBook.getVersion() != version);
+
+        version = gastroBook.getVersion();
+        gastroBook.hasReservation(ALICE);
+        gastroBook.getReservationList();
+        assertEquals(version, gastroBook.getVersion());
+    }
+
+    @Test
+    public void getChangesSince_changesMade_returnsThemOldestFirst() {
+        gastroBook.addReservation(ALICE);
+        long version = gastroBook.getVersion();
+        Reservation editedAlice = new ReservationBuilder(ALICE).withPax("5").build();
+        gastroBook.setReservation(ALICE, editedAlice);
+        gastroBook.addReservation(BENSON);
+        gastroBook.removeReservation(editedAlice);
+
+        List<ReservationChange> changes = gastroBook.getChangesSince(version).get();
+        assertEquals(3, changes.size());
+        assertSame(ALICE, changes.get(0).getRemoved().get());
+        assertSame(editedAlice, changes.get(0).getAdded().get());
+        assertTrue(changes.get(1).getRemoved().isEmpty());
+        assertSame(BENSON, changes.get(1).getAdded().get());
+        assertSame(editedAlice, changes.get(2).getRemoved().get());
+        assertTrue(changes.get(2).getAdded().isEmpty());
+        assertEquals(gastroBook.getVersion(), changes.get(2).getVersion());
+
+        assertEquals(List.of(), gastroBook.getChangesSince(gastroBook.getVersion()).get());
+    }
+
+    @Test
+    public void getChangesSince_bookReset_unknown() {
+        long version = gastroBook.getVersion();
+        gastroBook.addReservation(ALICE);
+        gastroBook.resetData(new GastroBook());
+
+        assertTrue(gastroBook.getChangesSince(version).isEmpty());
+    }
+
+    @Test
+    public void getChangesSince_versionOfAnotherBook_unknown() {
+        gastroBook.addReservation(ALICE);
+        GastroBook otherBook = new GastroBook();
+        gastroBook.addReservation(BENSON);
+
+        // The other book's version lies between two versions of this book, but was never one of them
+        assertTrue(gastroBook.getChangesSince(otherBook.getVersion()).isEmpty());
+    }
+
+    @Test
+    public void getChangesSince_changesNoLongerKept_unknown() {
+        long version = gastroBook.getVersion();
+        gastroBook.addReservation(ALICE);
+        long versionAfterAdd = gastroBook.getVersion();
+        for (int i = 0; i < ReservationChangeLog.CAPACITY; i++) {
+            gastroBook.setReservation(gastroBook.getReservationList().get(0),
+                    new ReservationBuilder(ALICE).withPax(String.valueOf(i % 10 + 1)).build());
+        }
+
+        assertTrue(gastroBook.getChangesSince(version).isEmpty());
+        assertEquals(ReservationChangeLog.CAPACITY,
+                gastroBook.getChangesSince(versionAfterAdd).map(List::size).orElse(0));
+    }
+
     @Test
     public void hasReservation_nullReservation_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> gastroBook.hasReservation(null));
@@ -173,5 +254,10 @@ public class GastroBookTest {
         public ObservableList<Reservation> getReservationList() {
             return reservations;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 }
@@ -3,24 +3,49 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_RESERVATIONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalReservations.ALICE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.reservation.Duration;
+import seedu.address.model.reservation.Identification;
 import seedu.address.model.reservation.Name;
+import seedu.address.model.reservation.NameContainsKeywordsPredicate;
+import seedu.address.model.reservation.Pax;
 import seedu.address.model.reservation.Person;
 import seedu.address.model.reservation.Phone;
+import seedu.address.model.reservation.PhoneContainsKeywordsPredicate;
+import seedu.address.model.reservation.Remark;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.ReservationQuery;
+import seedu.address.model.reservation.StartDate;
+import seedu.address.model.reservation.StartTime;
+import seedu.address.model.reservation.Table;
+import seedu.address.model.reservation.TagsMatchPredicate;
+import seedu.address.model.reservation.exceptions.TableConflictException;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ReservationBuilder;
 
 /**
  * Unit tests for {@link ModelManager}.
  */
 public class ModelManagerTest {
 
+    private static final Phone PAST_PHONE = new Phone("87654321");
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -79,12 +104,202 @@ public class ModelManagerTest {
         assertFalse(modelManager.hasReservation(ALICE));
     }
 
+    @Test
+    public void addReservation_tableOccupied_throwsTableConflictException() {
+        Reservation dinner = new ReservationBuilder().build();
+        modelManager.addReservation(dinner);
+        Reservation clashing = new ReservationBuilder().withPhone("91234567").withTime("1900").build();
+
+        assertThrows(TableConflictException.class, () -> modelManager.addReservation(clashing));
+        assertFalse(modelManager.hasReservation(clashing));
+    }
+
+    @Test
+    public void setReservation_movedOntoOccupiedTable_throwsTableConflictException() {
+        Reservation dinner = new ReservationBuilder().build();
+        Reservation lunch = new ReservationBuilder().withPhone("91234567").withTime("1200").build();
+        modelManager.addReservation(dinner);
+        modelManager.addReservation(lunch);
+
+        Reservation movedLunch = new ReservationBuilder(lunch).withTime("1700").build();
+        assertThrows(TableConflictException.class, () -> modelManager.setReservation(lunch, movedLunch));
+        assertTrue(modelManager.hasReservation(lunch));
+
+        // Changes that leave the table and times as they are never clash
+        modelManager.setReservation(lunch, lunch.toPaid());
+        assertTrue(modelManager.hasReservation(lunch.toPaid()));
+    }
+
     @Test
     public void hasReservation_reservationInGastroBook_returnsTrue() {
         modelManager.addReservation(ALICE);
         assertTrue(modelManager.hasReservation(ALICE));
     }
 
+    @Test
+    public void findById_reservationInGastroBook_returnsReservationWithoutChangingFilter() {
+        modelManager.addReservation(ALICE);
+        modelManager.updateFilteredReservationList(r -> false);
+        Identification aliceId = new Identification(ALICE.getDate(), ALICE.getPhone(), ALICE.getTime());
+        assertEquals(Optional.of(ALICE), modelManager.findById(aliceId));
+        assertEquals(0, modelManager.getFilteredReservationList().size());
+    }
+
+    @Test
+    public void findById_reservationNotInGastroBook_returnsEmpty() {
+        Identification aliceId = new Identification(ALICE.getDate(), ALICE.getPhone(), ALICE.getTime());
+        assertEquals(Optional.empty(), modelManager.findById(aliceId));
+    }
+
+    @Test
+    public void filterReservationsForToday_reservationsEditedAndDeleted_listKeptUpToDate() {
+        String tomorrow = LocalDate.now().plusDays(1).format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+        Reservation todayReservation = new ReservationBuilder().withPhone("81112222").build();
+        Reservation otherTodayReservation = new ReservationBuilder().withPhone("82223333").withTime("1200").build();
+        Reservation tomorrowReservation = new ReservationBuilder().withPhone("83334444").withDate(tomorrow)
+                .withTable("B1").build();
+        modelManager.addReservation(todayReservation);
+        modelManager.addReservation(tomorrowReservation);
+        modelManager.addReservation(otherTodayReservation);
+
+        modelManager.filterReservationsForToday(PREDICATE_SHOW_ALL_RESERVATIONS);
+        assertEquals(Arrays.asList(todayReservation, otherTodayReservation),
+                modelManager.getFilteredReservationList());
+
+        // moving a reservation to another day takes it out of the list without refiltering
+        Reservation movedReservation = new ReservationBuilder(todayReservation).withDate(tomorrow).build();
+        modelManager.setReservation(todayReservation, movedReservation);
+        assertEquals(Arrays.asList(otherTodayReservation), modelManager.getFilteredReservationList());
+
+        modelManager.deleteReservation(otherTodayReservation);
+        assertTrue(modelManager.getFilteredReservationList().isEmpty());
+    }
+
+    @Test
+    public void filterReservationsByName_reservationsRenamed_listKeptUpToDate() {
+        Reservation alice = new ReservationBuilder().withName("Alice Tan").withPhone("81112222").build();
+        Reservation bob = new ReservationBuilder().withName("Bob").withPhone("82223333").withTime("1200").build();
+        modelManager.addReservation(alice);
+        modelManager.addReservation(bob);
+
+        modelManager.filterReservationsByName(new NameContainsKeywordsPredicate(List.of("tan")));
+        assertEquals(Arrays.asList(alice), modelManager.getFilteredReservationList());
+
+        Reservation renamedBob = new ReservationBuilder(bob).withName("Bob Tan").build();
+        modelManager.setReservation(bob, renamedBob);
+        assertEquals(Arrays.asList(alice, renamedBob), modelManager.getFilteredReservationList());
+
+        modelManager.setReservation(alice, new ReservationBuilder(alice).withName("Alice").build());
+        assertEquals(Arrays.asList(renamedBob), modelManager.getFilteredReservationList());
+    }
+
+    @Test
+    public void filterReservationsByName_matchesOnOtherDates_leftOut() {
+        StartDate laterDate = StartDate.ofEpochDay(LocalDate.now().plusDays(3).toEpochDay());
+        Reservation today = new ReservationBuilder().withName("Alice Tan").withPhone("81112222").build();
+        Reservation later = onDate(new ReservationBuilder().withName("Bob Tan").withPhone("82223333")
+                .withTable("B1").build(), laterDate);
+        modelManager.addReservation(today);
+        modelManager.addReservation(later);
+
+        modelManager.filterReservationsByName(new NameContainsKeywordsPredicate(List.of("tan")));
+        assertEquals(Arrays.asList(today), modelManager.getFilteredReservationList());
+
+        modelManager.setReservation(today, onDate(today, laterDate));
+        assertTrue(modelManager.getFilteredReservationList().isEmpty());
+    }
+
+    @Test
+    public void filterReservationsByPhone_partialMatchesOnOtherDates_leftOut() {
+        StartDate laterDate = StartDate.ofEpochDay(LocalDate.now().plusDays(3).toEpochDay());
+        Reservation today = new ReservationBuilder().withPhone("91112222").build();
+        Reservation later = onDate(new ReservationBuilder().withPhone("92223333").withTable("B1").build(),
+                laterDate);
+        modelManager.addReservation(today);
+        modelManager.addReservation(later);
+
+        modelManager.filterReservationsByPhone(new PhoneContainsKeywordsPredicate(List.of("9*")));
+        assertEquals(Arrays.asList(today), modelManager.getFilteredReservationList());
+
+        modelManager.setReservation(later, onDate(later, StartDate.ofEpochDay(LocalDate.now().toEpochDay())));
+        assertEquals(2, modelManager.getFilteredReservationList().size());
+    }
+
+    @Test
+    public void filterReservationsByName_withHistory_historyNotLoaded() {
+        StubHistory history = new StubHistory();
+        ModelManager model = new ModelManager(new GastroBook(), new PersonsList(), new UserPrefs(), history);
+
+        model.filterReservationsByName(new NameContainsKeywordsPredicate(List.of("Past")));
+        assertTrue(model.getFilteredReservationList().isEmpty());
+        assertEquals(0, history.loadCount);
+    }
+
+    @Test
+    public void filterReservationsByTag_reservationsRetagged_listKeptUpToDate() {
+        Reservation tagged = new ReservationBuilder().withPhone("91110001").withTags("vip").build();
+        Reservation untagged = new ReservationBuilder().withPhone("91110002").withTable("B1").build();
+        modelManager.addReservation(tagged);
+        modelManager.addReservation(untagged);
+
+        modelManager.filterReservationsByTag(new TagsMatchPredicate(List.of(Set.of(new Tag("vip")))));
+        assertEquals(List.of(tagged), modelManager.getFilteredReservationList());
+
+        Reservation retagged = new ReservationBuilder(untagged).withTags("vip").build();
+        modelManager.setReservation(untagged, retagged);
+        assertEquals(List.of(tagged, retagged), modelManager.getFilteredReservationList());
+
+        modelManager.setReservation(tagged, tagged.toPaid());
+        assertEquals(List.of(tagged.toPaid(), retagged), modelManager.getFilteredReservationList());
+    }
+
+    @Test
+    public void filterReservationsByTag_matchesOnOtherDates_leftOut() {
+        StartDate laterDate = StartDate.ofEpochDay(LocalDate.now().plusDays(3).toEpochDay());
+        Reservation today = new ReservationBuilder().withPhone("91110001").withTags("vip").build();
+        Reservation later = onDate(new ReservationBuilder().withPhone("91110002").withTags("vip").withTable("B1")
+                .build(), laterDate);
+        modelManager.addReservation(today);
+        modelManager.addReservation(later);
+
+        modelManager.filterReservationsByTag(new TagsMatchPredicate(List.of(Set.of(new Tag("vip")))));
+        assertEquals(List.of(today), modelManager.getFilteredReservationList());
+    }
+
+    @Test
+    public void filterReservations_datesBeforeLoadedHistory_historyLoadedAndListKeptUpToDate() {
+        StubHistory history = new StubHistory();
+        ModelManager model = new ModelManager(new GastroBook(), new PersonsList(), new UserPrefs(), history);
+
+        ReservationQuery recentQuery = new ReservationQuery.Builder()
+                .withDates(LocalDate.now(), LocalDate.now().plusDays(1))
+                .build();
+        model.filterReservations(recentQuery);
+        assertEquals(0, history.loadCount);
+
+        ReservationQuery query = new ReservationQuery.Builder()
+                .withPhones(new PhoneContainsKeywordsPredicate(List.of(PAST_PHONE.value)))
+                .withDates(LocalDate.now().minusYears(1), LocalDate.now().minusYears(1).plusDays(1))
+                .build();
+        model.filterReservations(query);
+        assertEquals(1, history.loadCount);
+        assertEquals(history.reservations.subList(0, 2), model.getFilteredReservationList());
+
+        model.deleteReservation(history.reservations.get(0));
+        assertEquals(history.reservations.subList(1, 2), model.getFilteredReservationList());
+    }
+
+    @Test
+    public void updateFilteredReservationList_otherPredicate_filtersWholeBook() {
+        modelManager.addReservation(ALICE);
+        modelManager.updateFilteredReservationList(reservation -> true);
+        modelManager.deleteReservation(ALICE);
+        assertTrue(modelManager.getFilteredReservationList().isEmpty());
+        modelManager.addReservation(ALICE);
+        modelManager.updateFilteredReservationList(reservation -> true);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredReservationList());
+    }
+
     @Test
     public void getFilteredReservationList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () ->
@@ -131,4 +346,83 @@ public class ModelManagerTest {
                 new Person(ALICE.getName(), ALICE.getPhone())));
     }
 
+    @Test
+    public void constructor_withHistory_customersCountedWithoutLoadingHistory() {
+        StubHistory history = new StubHistory();
+        ModelManager model = new ModelManager(new GastroBook(), new PersonsList(), new UserPrefs(), history);
+
+        assertTrue(model.isRegularCustomer(PAST_PHONE));
+        assertTrue(model.hasPerson(new Person(new Name("Past Guest"), PAST_PHONE)));
+        model.updateFilteredReservationList(PREDICATE_SHOW_ALL_RESERVATIONS);
+        model.addReservation(ALICE);
+        assertEquals(0, history.loadCount);
+    }
+
+    @Test
+    public void filterPreviousReservations_withHistory_historyLoadedOnce() {
+        StubHistory history = new StubHistory();
+        ModelManager model = new ModelManager(new GastroBook(), new PersonsList(), new UserPrefs(), history);
+
+        model.filterPreviousReservations(PREDICATE_SHOW_ALL_RESERVATIONS);
+        assertEquals(history.reservations, model.getFilteredReservationList());
+        model.updateFilteredReservationList(reservation -> true);
+        assertEquals(1, history.loadCount);
+
+        // Counted from the reservations now, rather than on top of them
+        assertEquals(1, model.getRegularCustomers().size());
+        assertEquals(PersonsList.REGULAR_CUSTOMER_THRESHOLD, model.getRegularCustomers().get(0).getCounter());
+    }
+
+    @Test
+    public void findById_reservationInHistory_historyLoaded() {
+        StubHistory history = new StubHistory();
+        ModelManager model = new ModelManager(new GastroBook(), new PersonsList(), new UserPrefs(), history);
+
+        Reservation past = history.reservations.get(0);
+        assertEquals(Optional.of(past), model.findById(past.getId()));
+        assertEquals(1, history.loadCount);
+    }
+
+    /**
+     * A history of reservations made by one regular customer last year.
+     */
+    private static Reservation onDate(Reservation reservation, StartDate date) {
+        return new Reservation(reservation.getName(), reservation.getPhone(), date, reservation.getTime(),
+                reservation.getDuration(), reservation.getPax(), reservation.getTable(), reservation.getRemark(),
+                reservation.getTags(), new Identification(date, reservation.getPhone(), reservation.getTime()),
+                reservation.getIsPaid());
+    }
+
+    private static class StubHistory implements ReservationHistory {
+        private final List<Reservation> reservations = new ArrayList<>();
+        private int loadCount;
+
+        StubHistory() {
+            for (int i = 0; i < PersonsList.REGULAR_CUSTOMER_THRESHOLD; i++) {
+                StartDate date = StartDate.ofEpochDay(LocalDate.now().minusYears(1).plusDays(i).toEpochDay());
+                StartTime time = new StartTime("1800");
+                reservations.add(new Reservation(new Name("Past Guest"), PAST_PHONE, date, time, new Duration("2"),
+                        new Pax("2"), new Table("A1"), new Remark(""), Set.of(),
+                        new Identification(date, PAST_PHONE, time), false));
+            }
+        }
+
+        @Override
+        public LocalDate getLoadedFrom() {
+            return LocalDate.now().withDayOfMonth(1);
+        }
+
+        @Override
+        public List<Person> getBookingCounts() {
+            Person customer = new Person(new Name("Past Guest"), PAST_PHONE);
+            customer.setCounter(reservations.size());
+            return List.of(customer);
+        }
+
+        @Override
+        public List<Reservation> load() {
+            loadCount++;
+            return reservations;
+        }
+    }
 }
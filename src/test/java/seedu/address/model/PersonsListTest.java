@@ -6,10 +6,13 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.model.reservation.Name;
 import seedu.address.model.reservation.Person;
@@ -17,11 +20,16 @@ import seedu.address.model.reservation.Phone;
 
 public class PersonsListTest {
 
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
     private PersonsList personsList;
 
     @BeforeEach
     public void setUp() {
-        personsList = new PersonsList();
+        filePath = testFolder.resolve("personslist.json");
+        personsList = new PersonsList(filePath);
     }
 
 
@@ -45,7 +53,7 @@ public class PersonsListTest {
 
     @Test
     public void getPerson_nullPhone_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> PersonsList.getPerson(null));
+        assertThrows(NullPointerException.class, () -> personsList.getPerson(null));
     }
 
 
@@ -54,7 +62,7 @@ public class PersonsListTest {
         Person testPerson = new Person(new Name("Alice"), new Phone("91234567"));
         personsList.addPerson(testPerson);
 
-        Person retrievedPerson = PersonsList.getPerson(new Phone("91234567"));
+        Person retrievedPerson = personsList.getPerson(new Phone("91234567"));
         assertNotNull(retrievedPerson);
         assertEquals("Alice", retrievedPerson.getName().getFullName());
     }
@@ -91,6 +99,29 @@ public class PersonsListTest {
         assertEquals("Frank", regulars.get(0).getName().getFullName());
     }
 
+    @Test
+    public void recordBooking_notFlushed_keptInMemory() {
+        Phone phone = new Phone("65432109");
+        personsList.recordBooking(new Name("Hana"), phone);
+        personsList.recordBooking(new Name("Hana"), phone);
+
+        assertEquals(2, personsList.getPerson(phone).getCounter());
+        assertEquals(1, personsList.getPersonsList().size());
+    }
+
+    @Test
+    public void flush_pendingChanges_writtenToFile() throws Exception {
+        personsList.recordBooking(new Name("Hana"), new Phone("65432109"));
+        personsList.flush();
+
+        String fileContent = Files.readString(filePath);
+        assertTrue(fileContent.contains("65432109"));
+
+        // Reloading from file gives back the flushed state
+        PersonsList reloadedList = new PersonsList(filePath);
+        assertEquals(1, reloadedList.getPerson(new Phone("65432109")).getCounter());
+    }
+
     @Test
     public void equals_sameObject_returnsTrue() {
         assertTrue(personsList.equals(personsList));
@@ -108,7 +139,7 @@ public class PersonsListTest {
 
     @Test
     public void equals_samePeople_returnsTrue() {
-        PersonsList otherList = new PersonsList();
+        PersonsList otherList = new PersonsList(testFolder.resolve("other.json"));
 
         Person person = new Person(new Name("Ivan"), new Phone("21098765"));
         personsList.addPerson(person);
@@ -10,6 +10,8 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.ReservationBuilder;
+
 public class NameContainsKeywordsPredicateTest {
 
     @Test
@@ -75,6 +77,15 @@ public class NameContainsKeywordsPredicateTest {
 
      */
 
+    @Test
+    public void test_fuzzyKeyword_matchesNearbyWords() {
+        Reservation reservation = new ReservationBuilder().withName("Alice Pauline").build();
+        assertTrue(new NameContainsKeywordsPredicate(List.of("~alise")).test(reservation));
+        assertTrue(new NameContainsKeywordsPredicate(List.of("~PAULNIE")).test(reservation));
+        assertFalse(new NameContainsKeywordsPredicate(List.of("~al")).test(reservation));
+        assertFalse(new NameContainsKeywordsPredicate(List.of("alise")).test(reservation));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
@@ -1,4 +1,37 @@
 package seedu.address.model.reservation;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ReservationBuilder;
+
 public class PhoneContainsKeywordsPredicateTest {
+
+    private final Reservation reservation = new ReservationBuilder().withPhone("91234567").build();
+
+    @Test
+    public void test_wholeNumber_matchesExactly() {
+        assertTrue(new PhoneContainsKeywordsPredicate(List.of("81112222", "91234567")).test(reservation));
+        assertFalse(new PhoneContainsKeywordsPredicate(List.of("9123")).test(reservation));
+    }
+
+    @Test
+    public void test_partialNumber_matchesStartOrEnd() {
+        assertTrue(new PhoneContainsKeywordsPredicate(List.of("9123*")).test(reservation));
+        assertTrue(new PhoneContainsKeywordsPredicate(List.of("*4567")).test(reservation));
+        assertFalse(new PhoneContainsKeywordsPredicate(List.of("4567*", "*9123")).test(reservation));
+    }
+
+    @Test
+    public void isValidPartialKeyword() {
+        assertTrue(PhoneContainsKeywordsPredicate.isValidPartialKeyword("*4567"));
+        assertTrue(PhoneContainsKeywordsPredicate.isValidPartialKeyword("9*"));
+        assertFalse(PhoneContainsKeywordsPredicate.isValidPartialKeyword("*"));
+        assertFalse(PhoneContainsKeywordsPredicate.isValidPartialKeyword("*45*"));
+        assertFalse(PhoneContainsKeywordsPredicate.isValidPartialKeyword("45 *"));
+    }
 }
@@ -0,0 +1,58 @@
+package seedu.address.model.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ReservationBuilder;
+
+public class PhoneDigitIndexTest {
+
+    private PhoneDigitIndex phoneIndex;
+    private Reservation longNumber;
+    private Reservation shortNumber;
+    private Reservation other;
+
+    @BeforeEach
+    public void setUp() {
+        phoneIndex = new PhoneDigitIndex();
+        longNumber = new ReservationBuilder().withPhone("91234567").build();
+        shortNumber = new ReservationBuilder().withPhone("9123").build();
+        other = new ReservationBuilder().withPhone("81114567").build();
+        phoneIndex.add(other, 2);
+        phoneIndex.add(longNumber, 0);
+        phoneIndex.add(shortNumber, 1);
+    }
+
+    @Test
+    public void findMatching_wholeNumber_exactMatchesOnly() {
+        assertEquals(List.of(shortNumber), phoneIndex.findMatching(List.of("9123")));
+        assertTrue(phoneIndex.findMatching(List.of("912")).isEmpty());
+    }
+
+    @Test
+    public void findMatching_partialNumbers_unionInListOrder() {
+        assertEquals(List.of(longNumber, shortNumber), phoneIndex.findMatching(List.of("912*")));
+        assertEquals(List.of(longNumber, other), phoneIndex.findMatching(List.of("*4567")));
+        assertEquals(List.of(longNumber, shortNumber, other), phoneIndex.findMatching(List.of("*123", "8*", "9*")));
+        assertTrue(phoneIndex.findMatching(List.of("*999", "7*")).isEmpty());
+    }
+
+    @Test
+    public void remove_reservation_noLongerFound() {
+        phoneIndex.remove(longNumber, 0);
+        assertEquals(List.of(shortNumber), phoneIndex.findMatching(List.of("9*")));
+        assertEquals(List.of(other), phoneIndex.findMatching(List.of("*4567")));
+
+        phoneIndex.remove(shortNumber, 1);
+        phoneIndex.remove(other, 2);
+        assertTrue(phoneIndex.findMatching(List.of("9*", "8*", "*7")).isEmpty());
+
+        phoneIndex.add(longNumber, 3);
+        assertEquals(List.of(longNumber), phoneIndex.findMatching(List.of("91234567")));
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ReservationBuilder;
+
+public class ReservationIntervalIndexTest {
+
+    private static Reservation reservationAt(String phone, String time, String duration) {
+        return new ReservationBuilder().withPhone(phone).withTime(time).withDuration(duration).build();
+    }
+
+    @Test
+    public void findOverlapping_emptyIndex_returnsEmptyList() {
+        assertTrue(new ReservationIntervalIndex(new TreeMap<>()).findOverlapping(0, 24 * 60).isEmpty());
+    }
+
+    @Test
+    public void findOverlapping_returnsReservationsInSequenceOrder() {
+        Map<Long, Reservation> reservations = new TreeMap<>();
+        Reservation dinner = reservationAt("91110001", "1900", "2");
+        Reservation lunch = reservationAt("91110002", "1200", "1");
+        Reservation lateDinner = reservationAt("91110003", "2030", "1");
+        reservations.put(0L, dinner);
+        reservations.put(1L, lunch);
+        reservations.put(2L, lateDinner);
+        ReservationIntervalIndex index = new ReservationIntervalIndex(reservations);
+
+        assertEquals(List.of(dinner, lateDinner), index.findOverlapping(20 * 60 + 30, 21 * 60));
+        assertEquals(List.of(lunch), index.findOverlapping(12 * 60, 12 * 60 + 1));
+        // End times are exclusive
+        assertTrue(index.findOverlapping(13 * 60, 19 * 60).isEmpty());
+        assertEquals(List.of(dinner, lunch, lateDinner), index.findOverlapping(0, 24 * 60));
+    }
+
+    @Test
+    public void findOverlapping_matchesTimeMatchesPredicate() {
+        Map<Long, Reservation> reservations = new TreeMap<>();
+        for (int i = 0; i < 60; i++) {
+            String time = String.format("%02d%02d", (i * 7) % 24, (i * 13) % 60);
+            reservations.put((long) i, reservationAt(String.format("9%07d", i), time, String.valueOf(i % 5 + 1)));
+        }
+        ReservationIntervalIndex index = new ReservationIntervalIndex(reservations);
+
+        for (int hour = 0; hour < 22; hour++) {
+            LocalTime from = LocalTime.of(hour, 15);
+            TimeMatchesPredicate predicate = new TimeMatchesPredicate(from, from.plusMinutes(90));
+            List<Reservation> expected = new ArrayList<>(reservations.values()).stream()
+                    .filter(predicate)
+                    .collect(Collectors.toList());
+            assertEquals(expected, index.findOverlapping(predicate.getSearchStartMinute(),
+                    predicate.getSearchEndMinute()));
+        }
+    }
+}
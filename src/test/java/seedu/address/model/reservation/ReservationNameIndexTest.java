@@ -0,0 +1,92 @@
+package seedu.address.model.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ReservationBuilder;
+
+public class ReservationNameIndexTest {
+
+    private ReservationNameIndex nameIndex;
+    private Reservation alice;
+    private Reservation bob;
+
+    @BeforeEach
+    public void setUp() {
+        nameIndex = new ReservationNameIndex();
+        alice = new ReservationBuilder().withName("Alice  Pauline").withPhone("91110001").build();
+        bob = new ReservationBuilder().withName("Bob Alice").withPhone("91110002").build();
+        nameIndex.add(bob, 1);
+        nameIndex.add(alice, 0);
+    }
+
+    @Test
+    public void findMatching_anyKeyword_unionInListOrder() {
+        assertEquals(List.of(alice, bob), nameIndex.findMatching(List.of("aLiCe")));
+        assertEquals(List.of(alice, bob), nameIndex.findMatching(List.of("bob", "pauline", "carl")));
+        assertEquals(List.of(bob), nameIndex.findMatching(List.of(" BOB ")));
+    }
+
+    @Test
+    public void findMatching_partialWord_noMatch() {
+        assertTrue(nameIndex.findMatching(List.of("Ali", "Pauline Alice")).isEmpty());
+    }
+
+    @Test
+    public void remove_lastReservationUnderWord_wordDropped() {
+        nameIndex.remove(alice, 0);
+        assertEquals(List.of(bob), nameIndex.findMatching(List.of("alice", "pauline")));
+        nameIndex.clear();
+        assertTrue(nameIndex.findMatching(List.of("bob")).isEmpty());
+    }
+
+    @Test
+    public void findMatching_fuzzyKeyword_wordsWithinEditsMatched() {
+        assertEquals(List.of(alice, bob), nameIndex.findMatching(List.of("~ALISE")));
+        assertEquals(List.of(alice), nameIndex.findMatching(List.of("~Paulnie")));
+        assertEquals(List.of(bob), nameIndex.findMatching(List.of("~bo")));
+        assertTrue(nameIndex.findMatching(List.of("~Pln", "~b", "Alise")).isEmpty());
+    }
+
+    @Test
+    public void findMatching_fuzzyKeyword_sameAsPredicate() {
+        String[] words = {"Tan", "Tang", "Tam", "Lim", "Liam", "Ng", "Ong", "Wong", "Alice", "Alicia", "Alex",
+            "Bernice", "Berenice", "Bob", "Rob", "Kumar", "Kumari"};
+        ReservationNameIndex index = new ReservationNameIndex();
+        List<Reservation> reservations = new ArrayList<>();
+        Random random = new Random(23);
+        for (int i = 0; i < 200; i++) {
+            String name = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+            Reservation reservation = new ReservationBuilder().withName(name).withPhone(String.valueOf(90000000 + i))
+                    .build();
+            reservations.add(reservation);
+            index.add(reservation, i);
+        }
+
+        for (String keyword : List.of("~tan", "~T", "~tnag", "~lam", "~alix", "~bernise", "~kumra", "~x", "~ngo")) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of(keyword));
+            assertEquals(reservations.stream().filter(predicate).collect(Collectors.toList()),
+                    index.findMatching(List.of(keyword)), keyword);
+        }
+    }
+
+    @Test
+    public void foldCase_sameAsEqualsIgnoreCase() {
+        String[] words = {"ALICE", "alice", "İstanbul", "istanbul", "STRASSE", "straße", "Σοφία",
+            "σοφία"};
+        for (String first : words) {
+            for (String second : words) {
+                assertEquals(first.equalsIgnoreCase(second),
+                        ReservationNameIndex.foldCase(first).equals(ReservationNameIndex.foldCase(second)));
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.model.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+
+public class ReservationQueryTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final String[] NAMES = {"Alice Tan", "Bob Lim", "Carl Tan", "Dana Goh"};
+    private static final String[] TABLES = {"A1", "A2", "B1"};
+    private static final String[] TAGS = {"birthday", "vip"};
+
+    private static Reservation makeReservation(int i, Random random) {
+        StartDate date = StartDate.ofEpochDay(TODAY.plusDays(random.nextInt(40) - 20).toEpochDay());
+        StartTime time = new StartTime(String.format("%02d%02d", 10 + random.nextInt(12), random.nextInt(2) * 30));
+        Phone phone = new Phone(String.valueOf(90000000 + i));
+        Set<Tag> tags = random.nextBoolean() ? Set.of(new Tag(TAGS[random.nextInt(TAGS.length)])) : Set.of();
+        return new Reservation(new Name(NAMES[random.nextInt(NAMES.length)]), phone, date, time,
+                new Duration(String.valueOf(1 + random.nextInt(3))), Pax.of(1 + random.nextInt(8)),
+                new Table(TABLES[random.nextInt(TABLES.length)]), new Remark(""), tags,
+                new Identification(date, phone, time), random.nextBoolean());
+    }
+
+    @Test
+    public void isAnyCriterionSet() {
+        assertFalse(new ReservationQuery.Builder().build().isAnyCriterionSet());
+        assertTrue(new ReservationQuery.Builder().withPaid(false).build().isAnyCriterionSet());
+    }
+
+    @Test
+    public void test_oneCriterionNotMet_returnsFalse() {
+        Random random = new Random(3);
+        Reservation reservation = makeReservation(0, random);
+        ReservationQuery.Builder queryBuilder = new ReservationQuery.Builder()
+                .withNames(new NameContainsKeywordsPredicate(List.of(reservation.getName().getFullName().split(" "))))
+                .withDates(reservation.getDate().toLocalDate(), reservation.getDate().toLocalDate())
+                .withTable(reservation.getTable());
+        assertTrue(queryBuilder.build().test(reservation));
+
+        assertFalse(queryBuilder.withPaid(!reservation.getIsPaid()).build().test(reservation));
+    }
+
+    @Test
+    public void findIn_randomQueries_sameAsTestingEveryReservation() {
+        Random random = new Random(24);
+        UniqueReservationList reservations = new UniqueReservationList();
+        for (int i = 0; i < 300; i++) {
+            reservations.add(makeReservation(i, random));
+        }
+
+        for (int i = 0; i < 300; i++) {
+            ReservationQuery.Builder queryBuilder = new ReservationQuery.Builder();
+            if (random.nextInt(3) == 0) {
+                queryBuilder.withNames(new NameContainsKeywordsPredicate(List.of(
+                        NAMES[random.nextInt(NAMES.length)].split(" ")[random.nextInt(2)])));
+            }
+            if (random.nextInt(3) == 0) {
+                queryBuilder.withPhones(new PhoneContainsKeywordsPredicate(List.of(
+                        random.nextBoolean() ? "9000000" + PhoneContainsKeywordsPredicate.WILDCARD
+                                : PhoneContainsKeywordsPredicate.WILDCARD + random.nextInt(10))));
+            }
+            if (random.nextInt(2) == 0) {
+                LocalDate fromDate = TODAY.plusDays(random.nextInt(40) - 20);
+                queryBuilder.withDates(fromDate, fromDate.plusDays(random.nextInt(3) == 0 ? 0 : random.nextInt(10)));
+            }
+            if (random.nextInt(3) == 0) {
+                LocalTime time = LocalTime.of(10 + random.nextInt(12), 0);
+                queryBuilder.withTimes(random.nextBoolean()
+                        ? new TimeMatchesPredicate(time)
+                        : new TimeMatchesPredicate(time, time.plusMinutes(90)));
+            }
+            if (random.nextInt(4) == 0) {
+                queryBuilder.withTable(new Table(TABLES[random.nextInt(TABLES.length)]));
+            }
+            if (random.nextInt(4) == 0) {
+                queryBuilder.withTags(Set.of(new Tag(TAGS[random.nextInt(TAGS.length)])));
+            }
+            if (random.nextInt(4) == 0) {
+                queryBuilder.withPaid(random.nextBoolean());
+            }
+            if (random.nextInt(4) == 0) {
+                int minPax = 1 + random.nextInt(8);
+                queryBuilder.withPax(minPax, minPax + random.nextInt(3));
+            }
+
+            ReservationQuery query = queryBuilder.build();
+            List<Reservation> expected = reservations.asUnmodifiableObservableList().stream()
+                    .filter(query).collect(Collectors.toList());
+            assertEquals(expected, query.findIn(reservations), query.toString());
+        }
+    }
+
+    @Test
+    public void equals() {
+        ReservationQuery query = new ReservationQuery.Builder()
+                .withNames(new NameContainsKeywordsPredicate(List.of("Alex")))
+                .withDates(TODAY, TODAY.plusDays(1))
+                .withTags(new HashSet<>(List.of(new Tag("vip"))))
+                .build();
+
+        ReservationQuery.Builder sameQueryBuilder = new ReservationQuery.Builder()
+                .withNames(new NameContainsKeywordsPredicate(List.of("Alex")))
+                .withDates(TODAY, TODAY.plusDays(1))
+                .withTags(Set.of(new Tag("vip")));
+        assertTrue(query.equals(sameQueryBuilder.build()));
+        assertEquals(query.hashCode(), sameQueryBuilder.build().hashCode());
+        assertTrue(query.equals(query));
+        assertFalse(query.equals(null));
+
+        assertFalse(query.equals(sameQueryBuilder.withPaid(true).build()));
+    }
+}
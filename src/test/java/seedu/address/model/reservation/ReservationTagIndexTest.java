@@ -0,0 +1,108 @@
+package seedu.address.model.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ReservationBuilder;
+
+public class ReservationTagIndexTest {
+
+    private static final Tag VIP = new Tag("vip");
+    private static final Tag NUTS = new Tag("nuts");
+    private static final Tag SHELLFISH = new Tag("shellfish");
+
+    private ReservationTagIndex tagIndex;
+    private Reservation alice;
+    private Reservation bob;
+    private Reservation carl;
+
+    @BeforeEach
+    public void setUp() {
+        tagIndex = new ReservationTagIndex();
+        alice = new ReservationBuilder().withPhone("91110001").withTags("vip", "nuts").build();
+        bob = new ReservationBuilder().withPhone("91110002").withTags("vip", "shellfish").build();
+        carl = new ReservationBuilder().withPhone("91110003").withTags("nuts").build();
+        tagIndex.add(carl, 2);
+        tagIndex.add(alice, 0);
+        tagIndex.add(bob, 1);
+    }
+
+    @Test
+    public void findMatching_allTagsOfGroup_intersectionInListOrder() {
+        assertEquals(List.of(alice, bob), tagIndex.findMatching(List.of(Set.of(VIP))));
+        assertEquals(List.of(alice), tagIndex.findMatching(List.of(Set.of(VIP, NUTS))));
+        assertTrue(tagIndex.findMatching(List.of(Set.of(NUTS, SHELLFISH))).isEmpty());
+        assertTrue(tagIndex.findMatching(List.of(Set.of(VIP, new Tag("birthday")))).isEmpty());
+    }
+
+    @Test
+    public void findMatching_alternatives_unionInListOrder() {
+        assertEquals(List.of(alice, bob, carl), tagIndex.findMatching(List.of(Set.of(NUTS), Set.of(SHELLFISH))));
+        assertEquals(List.of(alice, bob), tagIndex.findMatching(List.of(Set.of(VIP, NUTS), Set.of(VIP, SHELLFISH))));
+    }
+
+    @Test
+    public void countMatching_upperBoundOfMatches() {
+        assertEquals(1, tagIndex.countMatching(List.of(Set.of(VIP, SHELLFISH))));
+        assertEquals(3, tagIndex.countMatching(List.of(Set.of(VIP), Set.of(SHELLFISH))));
+        assertEquals(0, tagIndex.countMatching(List.of(Set.of(new Tag("birthday")))));
+    }
+
+    @Test
+    public void remove_lastReservationUnderTag_tagDropped() {
+        tagIndex.remove(bob, 1);
+        assertTrue(tagIndex.findMatching(List.of(Set.of(SHELLFISH))).isEmpty());
+        assertEquals(List.of(alice), tagIndex.findMatching(List.of(Set.of(VIP))));
+        tagIndex.clear();
+        assertTrue(tagIndex.findMatching(List.of(Set.of(NUTS))).isEmpty());
+    }
+
+    @Test
+    public void findMatching_randomTags_sameAsPredicate() {
+        Random random = new Random(25);
+        Tag[] tags = {VIP, NUTS, SHELLFISH, new Tag("birthday"), new Tag("gluten")};
+        ReservationTagIndex index = new ReservationTagIndex();
+        List<Reservation> reservations = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Reservation reservation = new ReservationBuilder().withPhone(String.valueOf(90000000 + i))
+                    .withTags(randomTags(random, tags).stream().map(tag -> tag.tagName).toArray(String[]::new))
+                    .build();
+            reservations.add(reservation);
+            index.add(reservation, i);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            List<Set<Tag>> alternatives = new ArrayList<>();
+            for (int j = random.nextInt(3); j >= 0; j--) {
+                Set<Tag> group = randomTags(random, tags);
+                if (!group.isEmpty()) {
+                    alternatives.add(group);
+                }
+            }
+            TagsMatchPredicate predicate = new TagsMatchPredicate(alternatives);
+            assertEquals(reservations.stream().filter(predicate).collect(Collectors.toList()),
+                    index.findMatching(alternatives), alternatives.toString());
+        }
+    }
+
+    private static Set<Tag> randomTags(Random random, Tag[] tags) {
+        Set<Tag> chosen = new HashSet<>();
+        for (Tag tag : tags) {
+            if (random.nextInt(3) == 0) {
+                chosen.add(tag);
+            }
+        }
+        return chosen;
+    }
+}
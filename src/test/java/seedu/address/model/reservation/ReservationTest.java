@@ -1,8 +1,22 @@
 package seedu.address.model.reservation;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.ReservationBuilder;
+
 public class ReservationTest {
+
+    @Test
+    public void toPaid_sameTags_tagSetShared() {
+        Reservation reservation = new ReservationBuilder().withTags("vip", "nuts").build();
+        assertSame(reservation.getTags(), reservation.toPaid().getTags());
+        assertSame(reservation.getTags(), reservation.toPaid().toUnpaid().getTags());
+        assertSame(reservation.getTags(), new ReservationBuilder().withPhone("91234000").withTags("nuts", "vip")
+                .build().getTags());
+    }
+
     /*
 
     @Test
@@ -1,5 +1,6 @@
 package seedu.address.model.reservation;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -57,4 +58,19 @@ public class StartDateTest {
 
     }
 
+    @Test
+    public void toEpochDay_validDate_matchesLocalDate() {
+        LocalDate today = LocalDate.now();
+        StartDate startDate = new StartDate(today.format(FORMATTER));
+        assertEquals(today.toEpochDay(), startDate.toEpochDay());
+        assertEquals(today, startDate.toLocalDate());
+    }
+
+    @Test
+    public void ofEpochDay_anyDay_sameAsParsedDate() {
+        LocalDate lastYear = LocalDate.now().minusYears(1);
+        StartDate startDate = StartDate.ofEpochDay(lastYear.toEpochDay());
+        assertEquals(lastYear.format(FORMATTER), startDate.value);
+        assertEquals(lastYear, startDate.toLocalDate());
+    }
 }
@@ -0,0 +1,74 @@
+package seedu.address.model.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ReservationBuilder;
+
+public class TableOccupancyTest {
+
+    private TableOccupancy tableOccupancy;
+    private Reservation dinner;
+
+    @BeforeEach
+    public void setUp() {
+        tableOccupancy = new TableOccupancy();
+        dinner = new ReservationBuilder().withPhone("91110001").withTime("1800").withDuration("2").build();
+        tableOccupancy.add(dinner);
+    }
+
+    @Test
+    public void findConflict_overlappingSameTable_returnsConflict() {
+        Reservation early = new ReservationBuilder().withPhone("91110002").withTime("1700").withDuration("1.5")
+                .build();
+        Reservation late = new ReservationBuilder().withPhone("91110002").withTime("1930").build();
+        Reservation longBefore = new ReservationBuilder().withPhone("91110002").withTime("0630").withDuration("12")
+                .build();
+
+        assertEquals(Optional.of(dinner), tableOccupancy.findConflict(early, null));
+        assertEquals(Optional.of(dinner), tableOccupancy.findConflict(late, null));
+        assertEquals(Optional.of(dinner), tableOccupancy.findConflict(longBefore, null));
+    }
+
+    @Test
+    public void findConflict_noOverlap_returnsEmpty() {
+        Reservation endingAtStart = new ReservationBuilder().withPhone("91110002").withTime("1600").build();
+        Reservation startingAtEnd = new ReservationBuilder().withPhone("91110002").withTime("2000").build();
+        Reservation otherTable = new ReservationBuilder().withPhone("91110002").withTable("B1").build();
+
+        assertTrue(tableOccupancy.findConflict(endingAtStart, null).isEmpty());
+        assertTrue(tableOccupancy.findConflict(startingAtEnd, null).isEmpty());
+        assertTrue(tableOccupancy.findConflict(otherTable, null).isEmpty());
+    }
+
+    @Test
+    public void findConflict_ignoredReservation_returnsEmpty() {
+        Reservation longerDinner = new ReservationBuilder(dinner).withDuration("3").build();
+        assertTrue(tableOccupancy.findConflict(longerDinner, dinner).isEmpty());
+    }
+
+    @Test
+    public void remove_lastReservation_tableFree() {
+        tableOccupancy.remove(dinner);
+        assertTrue(tableOccupancy.findConflict(dinner, null).isEmpty());
+        assertTrue(tableOccupancy.getBookingsByTable(LocalDate.now()).isEmpty());
+    }
+
+    @Test
+    public void getBookingsByTable_returnsBookingsSortedByTableAndTime() {
+        Reservation lunch = new ReservationBuilder().withPhone("91110002").withTime("1200").build();
+        Reservation otherTable = new ReservationBuilder().withPhone("91110003").withTable("A0").build();
+        tableOccupancy.add(lunch);
+        tableOccupancy.add(otherTable);
+
+        assertEquals(List.of("A0", "A1"), List.copyOf(tableOccupancy.getBookingsByTable(LocalDate.now()).keySet()));
+        assertEquals(List.of(lunch, dinner), tableOccupancy.getBookingsByTable(LocalDate.now()).get("A1"));
+    }
+}
@@ -71,6 +71,29 @@ public class TimeMatchesPredicateTest {
         assertFalse(predicate.test(reservation)); // end is exclusive
     }
 
+    @Test
+    public void test_reservationEndingAtMidnight_returnsTrueBeforeMidnight() {
+        TimeMatchesPredicate predicate = new TimeMatchesPredicate(LocalTime.of(23, 59));
+
+        Reservation reservation = new ReservationBuilder()
+                .withTime("2230")
+                .withDuration("2")
+                .build();
+
+        assertTrue(predicate.test(reservation)); // end is clipped to midnight
+        assertFalse(new TimeMatchesPredicate(LocalTime.of(0, 30)).test(reservation));
+    }
+
+    @Test
+    public void test_range_returnsTrueIfOngoingDuringRange() {
+        TimeMatchesPredicate predicate = new TimeMatchesPredicate(LocalTime.of(19, 0), LocalTime.of(21, 0));
+
+        assertTrue(predicate.test(new ReservationBuilder().withTime("1800").withDuration("2").build()));
+        assertTrue(predicate.test(new ReservationBuilder().withTime("2030").withDuration("1").build()));
+        assertFalse(predicate.test(new ReservationBuilder().withTime("1700").withDuration("2").build()));
+        assertFalse(predicate.test(new ReservationBuilder().withTime("2100").withDuration("1").build()));
+    }
+
     @Test
     public void equals() {
         TimeMatchesPredicate predicate1 = new TimeMatchesPredicate(LocalTime.of(12, 0));
@@ -80,6 +103,9 @@ public class TimeMatchesPredicateTest {
         assertTrue(predicate1.equals(predicate1)); // same object
         assertTrue(predicate1.equals(predicate2)); // same value
         assertFalse(predicate1.equals(predicate3)); // different value
+        assertFalse(predicate1.equals(new TimeMatchesPredicate(LocalTime.of(12, 0), LocalTime.of(13, 0))));
+        assertTrue(new TimeMatchesPredicate(LocalTime.of(12, 0), LocalTime.of(13, 0))
+                .equals(new TimeMatchesPredicate(LocalTime.of(12, 0), LocalTime.of(13, 0))));
         assertFalse(predicate1.equals(null)); // null
         assertFalse(predicate1.equals("not a predicate")); // different type
     }
@@ -5,9 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -52,6 +56,81 @@ public class UniqueReservationListTest {
         assertTrue(uniqueReservationList.contains(editedAlice));
     }
 
+    @Test
+    public void findById_nullId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueReservationList.findById(null));
+    }
+
+    @Test
+    public void findById_reservationInList_returnsReservation() {
+        uniqueReservationList.add(alice);
+        uniqueReservationList.add(bob);
+        Identification bobId = new Identification(bob.getDate(), bob.getPhone(), bob.getTime());
+        assertEquals(Optional.of(bob), uniqueReservationList.findById(bobId));
+    }
+
+    @Test
+    public void findById_reservationRemovedOrEdited_returnsEmpty() {
+        uniqueReservationList.add(alice);
+        Identification aliceId = new Identification(alice.getDate(), alice.getPhone(), alice.getTime());
+        uniqueReservationList.setReservation(alice, bob);
+        assertEquals(Optional.empty(), uniqueReservationList.findById(aliceId));
+
+        Identification bobId = new Identification(bob.getDate(), bob.getPhone(), bob.getTime());
+        uniqueReservationList.remove(bob);
+        assertEquals(Optional.empty(), uniqueReservationList.findById(bobId));
+    }
+
+    @Test
+    public void getReservationsOn_severalDates_returnsReservationsInListOrder() {
+        LocalDate today = LocalDate.now();
+        String tomorrow = today.plusDays(1).format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+        Reservation carl = new ReservationBuilder().withName("Carl").withPhone("11112222").withDate(tomorrow).build();
+        uniqueReservationList.add(alice);
+        uniqueReservationList.add(carl);
+        uniqueReservationList.add(bob);
+
+        assertEquals(Arrays.asList(alice, bob), uniqueReservationList.getReservationsOn(today));
+        assertEquals(Arrays.asList(alice, carl, bob),
+                uniqueReservationList.getReservationsOn(today.plusDays(1), today));
+        assertTrue(uniqueReservationList.getReservationsOn(today.minusDays(1)).isEmpty());
+    }
+
+    @Test
+    public void getReservationsOn_afterEditAndRemove_updated() {
+        LocalDate today = LocalDate.now();
+        String tomorrow = today.plusDays(1).format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+        uniqueReservationList.add(alice);
+        uniqueReservationList.add(bob);
+        Reservation movedAlice = new ReservationBuilder(alice).withDate(tomorrow).build();
+        uniqueReservationList.setReservation(alice, movedAlice);
+
+        assertEquals(Arrays.asList(bob), uniqueReservationList.getReservationsOn(today));
+        assertEquals(Arrays.asList(movedAlice, bob), uniqueReservationList.getReservationsOn(today, today.plusDays(1)));
+
+        uniqueReservationList.remove(bob);
+        assertTrue(uniqueReservationList.getReservationsOn(today).isEmpty());
+    }
+
+    @Test
+    public void getReservationsDuring_afterEdit_returnsOngoingReservationsInListOrder() {
+        LocalDate today = LocalDate.now();
+        Reservation lateAlice = new ReservationBuilder(alice).withTime("1900").withDuration("2").build();
+        Reservation earlyBob = new ReservationBuilder(bob).withTime("1800").withDuration("1").build();
+        uniqueReservationList.add(lateAlice);
+        uniqueReservationList.add(earlyBob);
+
+        assertEquals(Arrays.asList(lateAlice, earlyBob),
+                uniqueReservationList.getReservationsDuring(today, 18 * 60 + 30, 19 * 60 + 30));
+        assertEquals(Arrays.asList(earlyBob), uniqueReservationList.getReservationsDuring(today, 18 * 60, 18 * 60 + 1));
+
+        Reservation longerBob = new ReservationBuilder(earlyBob).withDuration("3").build();
+        uniqueReservationList.setReservation(earlyBob, longerBob);
+        assertEquals(Arrays.asList(lateAlice, longerBob),
+                uniqueReservationList.getReservationsDuring(today, 20 * 60, 20 * 60 + 1));
+        assertTrue(uniqueReservationList.getReservationsDuring(today.minusDays(1), 0, 24 * 60).isEmpty());
+    }
+
     @Test
     public void add_nullReservation_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueReservationList.add(null));
@@ -170,6 +249,33 @@ public class UniqueReservationListTest {
                 .setReservations(listWithDuplicates));
     }
 
+    @Test
+    public void setReservations_hundredThousandReservations_loadsAndDetectsDuplicates() {
+        List<Reservation> reservations = new ArrayList<>();
+        ReservationBuilder builder = new ReservationBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            // 10000 distinct last four digits x 10 distinct start times
+            reservations.add(builder.withPhone(String.format("9%07d", i))
+                    .withTime(String.format("%02d00", 8 + i / 10_000)).build());
+        }
+
+        uniqueReservationList.setReservations(reservations);
+        assertEquals(100_000, uniqueReservationList.asUnmodifiableObservableList().size());
+        assertTrue(uniqueReservationList.contains(reservations.get(99_999)));
+
+        Reservation sameIdentity = new ReservationBuilder(reservations.get(12_345)).withName("Someone Else").build();
+        assertThrows(DuplicateReservationException.class, () -> uniqueReservationList.add(sameIdentity));
+
+        uniqueReservationList.remove(reservations.get(12_345));
+        uniqueReservationList.add(sameIdentity);
+        assertTrue(uniqueReservationList.contains(reservations.get(12_345)));
+
+        List<Reservation> withDuplicate = new ArrayList<>(reservations);
+        withDuplicate.add(sameIdentity);
+        assertThrows(DuplicateReservationException.class, () -> uniqueReservationList
+                .setReservations(withDuplicate));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         uniqueReservationList.add(alice);
@@ -178,6 +284,25 @@ public class UniqueReservationListTest {
         });
     }
 
+    @Test
+    public void getReservationsNamed_afterChanges_matchesCurrentNames() {
+        Reservation aliceTan = new ReservationBuilder().withName("alice Tan").withPhone("11112222").build();
+        uniqueReservationList.add(alice);
+        uniqueReservationList.add(bob);
+        uniqueReservationList.add(aliceTan);
+        assertEquals(List.of(alice, aliceTan), uniqueReservationList.getReservationsNamed(List.of("ALICE")));
+        assertEquals(List.of(bob, aliceTan), uniqueReservationList.getReservationsNamed(List.of("tan", "Bob")));
+
+        Reservation renamedBob = new ReservationBuilder(bob).withName("Bob Tan").build();
+        uniqueReservationList.setReservation(bob, renamedBob);
+        uniqueReservationList.remove(aliceTan);
+        assertEquals(List.of(renamedBob), uniqueReservationList.getReservationsNamed(List.of("tan")));
+        assertEquals(List.of(alice), uniqueReservationList.getReservationsNamed(List.of("alice")));
+
+        uniqueReservationList.setReservations(List.of(aliceTan));
+        assertTrue(uniqueReservationList.getReservationsNamed(List.of("bob", "Ali")).isEmpty());
+    }
+
     @Test
     public void toStringMethod_returnsCorrectString() {
         uniqueReservationList.add(alice);
@@ -0,0 +1,39 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetPoolTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSetPool.intern(null));
+    }
+
+    @Test
+    public void intern_equalSets_sameSetReturned() {
+        Set<Tag> tags = new HashSet<>(List.of(new Tag("vip"), new Tag("nuts")));
+        Set<Tag> interned = TagSetPool.intern(tags);
+        assertEquals(tags, interned);
+        assertSame(interned, TagSetPool.intern(Set.of(new Tag("nuts"), new Tag("vip"))));
+        assertSame(interned, TagSetPool.intern(interned));
+
+        // later changes to the set passed in do not reach the interned set
+        tags.add(new Tag("birthday"));
+        assertEquals(2, interned.size());
+    }
+
+    @Test
+    public void intern_modifySet_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> TagSetPool.intern(Set.of(new Tag("vip")))
+                .add(new Tag("nuts")));
+        assertThrows(UnsupportedOperationException.class, () -> TagSetPool.intern(Set.of()).remove(0));
+    }
+}
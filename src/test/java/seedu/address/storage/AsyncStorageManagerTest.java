@@ -0,0 +1,157 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.testutil.TypicalReservations.ALICE;
+import static seedu.address.testutil.TypicalReservations.BENSON;
+import static seedu.address.testutil.TypicalReservations.getTypicalGastroBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.GastroBook;
+import seedu.address.model.ReadOnlyGastroBook;
+import seedu.address.testutil.ReservationBuilder;
+
+public class AsyncStorageManagerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private GastroBook gastroBook;
+    private CountDownLatch writeAllowed;
+    private final CountDownLatch writeStarted = new CountDownLatch(1);
+    private final List<ReadOnlyGastroBook> writtenBooks = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("gastroBook.json");
+        gastroBook = getTypicalGastroBook();
+        writeAllowed = new CountDownLatch(0);
+    }
+
+    /**
+     * Returns an {@code AsyncStorageManager} that counts down {@code writeStarted} and then waits for
+     * {@code writeAllowed} before each write, and records
+     * the books it writes.
+     */
+    private AsyncStorageManager createStorage() {
+        JsonGastroBookStorage gastroBookStorage = new JsonGastroBookStorage(filePath) {
+            @Override
+            public void saveGastroBook(ReadOnlyGastroBook gastroBook, Path filePath) throws IOException {
+                writeStarted.countDown();
+                try {
+                    writeAllowed.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                writtenBooks.add(new GastroBook(gastroBook));
+                super.saveGastroBook(gastroBook, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs.json"));
+        return new AsyncStorageManager(new StorageManager(gastroBookStorage, userPrefsStorage));
+    }
+
+    @Test
+    public void saveGastroBook_bookChangedBeforeWrite_writesBookAsSaved() throws Exception {
+        writeAllowed = new CountDownLatch(1);
+        AsyncStorageManager storage = createStorage();
+        storage.saveGastroBook(gastroBook);
+        GastroBook expectedBook = new GastroBook(gastroBook);
+        gastroBook.removeReservation(ALICE);
+        writeAllowed.countDown();
+        storage.flushGastroBook();
+
+        assertEquals(List.of(expectedBook), writtenBooks);
+        assertEquals(expectedBook, storage.readGastroBook().get());
+    }
+
+    @Test
+    public void saveGastroBook_savedWhileWriting_onlyLatestWritten() throws Exception {
+        writeAllowed = new CountDownLatch(1);
+        AsyncStorageManager storage = createStorage();
+        storage.saveGastroBook(gastroBook);
+        GastroBook firstBook = new GastroBook(gastroBook);
+        writeStarted.await();
+
+        // The first write is held up, so these saves are coalesced into a single write
+        gastroBook.removeReservation(ALICE);
+        storage.saveGastroBook(gastroBook);
+        gastroBook.resetData(new GastroBook());
+        storage.saveGastroBook(gastroBook);
+        writeAllowed.countDown();
+        storage.flushGastroBook();
+
+        assertEquals(List.of(firstBook, gastroBook), writtenBooks);
+        assertEquals(gastroBook, storage.readGastroBook().get());
+    }
+
+    @Test
+    public void saveGastroBook_changedWhileWriting_changesWrittenTogether() throws Exception {
+        writeAllowed = new CountDownLatch(1);
+        AsyncStorageManager storage = createStorage();
+        storage.saveGastroBook(gastroBook);
+        GastroBook firstBook = new GastroBook(gastroBook);
+        writeStarted.await();
+
+        gastroBook.removeReservation(ALICE);
+        storage.saveGastroBook(gastroBook);
+        gastroBook.setReservation(BENSON, new ReservationBuilder(BENSON).withPax("5").build());
+        gastroBook.addReservation(ALICE);
+        storage.saveGastroBook(gastroBook);
+        writeAllowed.countDown();
+        storage.flushGastroBook();
+
+        assertEquals(List.of(firstBook, gastroBook), writtenBooks);
+        assertEquals(gastroBook, storage.readGastroBook().get());
+    }
+
+    @Test
+    public void saveGastroBook_changedAfterWrite_replicaKeptInOrder() throws Exception {
+        AsyncStorageManager storage = createStorage();
+        storage.saveGastroBook(gastroBook);
+        storage.flushGastroBook();
+
+        gastroBook.removeReservation(ALICE);
+        gastroBook.addReservation(ALICE);
+        gastroBook.setReservation(BENSON, new ReservationBuilder(BENSON).withPax("5").build());
+        storage.saveGastroBook(gastroBook);
+        storage.flushGastroBook();
+
+        assertEquals(gastroBook.getReservationList(), writtenBooks.get(1).getReservationList());
+        assertEquals(gastroBook, storage.readGastroBook().get());
+    }
+
+    @Test
+    public void saveGastroBook_writeFails_handlerToldAndFlushThrows() throws Exception {
+        IOException failure = new IOException("disk full");
+        JsonGastroBookStorage gastroBookStorage = new JsonGastroBookStorage(filePath) {
+            @Override
+            public void saveGastroBook(ReadOnlyGastroBook gastroBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        AsyncStorageManager storage = new AsyncStorageManager(new StorageManager(gastroBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))));
+        AtomicReference<IOException> handledFailure = new AtomicReference<>();
+        storage.setSaveFailureHandler(handledFailure::set);
+
+        storage.saveGastroBook(gastroBook);
+
+        assertSame(failure, assertThrows(IOException.class, storage::flushGastroBook));
+        assertSame(failure, handledFailure.get());
+        // The failure is only thrown once
+        storage.flushGastroBook();
+    }
+}
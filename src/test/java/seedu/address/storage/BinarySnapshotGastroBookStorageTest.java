@@ -0,0 +1,143 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalReservations.ALICE;
+import static seedu.address.testutil.TypicalReservations.getTypicalGastroBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.GastroBook;
+import seedu.address.model.ReadOnlyGastroBook;
+import seedu.address.model.reservation.Duration;
+import seedu.address.model.reservation.Identification;
+import seedu.address.model.reservation.Name;
+import seedu.address.model.reservation.Pax;
+import seedu.address.model.reservation.Phone;
+import seedu.address.model.reservation.Remark;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.StartDate;
+import seedu.address.model.reservation.StartTime;
+import seedu.address.model.reservation.Table;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.BinaryGastroBookFormat.SourceStamp;
+import seedu.address.testutil.ReservationBuilder;
+
+public class BinarySnapshotGastroBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path binaryPath;
+    private BinarySnapshotGastroBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("gastroBook.json");
+        binaryPath = BinarySnapshotGastroBookStorage.getBinaryPath(filePath);
+        storage = new BinarySnapshotGastroBookStorage(new JsonGastroBookStorage(filePath));
+    }
+
+    @Test
+    public void saveGastroBook_thenRead_sameBook() throws Exception {
+        GastroBook gastroBook = getTypicalGastroBook();
+        // Covers half hours, the longest duration, the largest party and a past date
+        Phone phone = new Phone("8482131");
+        StartDate lastYear = StartDate.ofEpochDay(LocalDate.now().minusYears(1).toEpochDay());
+        StartTime time = new StartTime("0030");
+        gastroBook.addReservation(new Reservation(new Name("Ida Mueller"), phone, lastYear, time, new Duration("0.5"),
+                new Pax("9999"), new Table("B12"), new Remark("window seat"), Set.of(new Tag("vip")),
+                new Identification(lastYear, phone, time), true));
+        Reservation longLunch = new ReservationBuilder().withName("Jon Snow").withPhone("81234567")
+                .withTime("1130").withDuration("12").withPax("1").build();
+        gastroBook.addReservation(new ReservationBuilder(longLunch)
+                .withId(longLunch.getDate(), longLunch.getPhone(), longLunch.getTime()).build());
+
+        storage.saveGastroBook(gastroBook);
+
+        assertTrue(Files.exists(binaryPath));
+        ReadOnlyGastroBook readBook = storage.readGastroBook().get();
+        assertEquals(gastroBook, readBook);
+        // Reservations are only compared by identity, so compare every field too
+        assertEquals(gastroBook.getReservationList().toString(), readBook.getReservationList().toString());
+    }
+
+    @Test
+    public void readGastroBook_binarySnapshotFresh_readInsteadOfJson() throws Exception {
+        storage.saveGastroBook(getTypicalGastroBook());
+        GastroBook otherBook = new GastroBook();
+        otherBook.addReservation(ALICE);
+        BinaryGastroBookFormat.write(otherBook, SourceStamp.of(filePath), binaryPath);
+
+        assertEquals(otherBook, storage.readGastroBook().get());
+    }
+
+    @Test
+    public void readGastroBook_jsonChanged_jsonReadAndBinaryRewritten() throws Exception {
+        storage.saveGastroBook(getTypicalGastroBook());
+        GastroBook editedBook = getTypicalGastroBook();
+        editedBook.removeReservation(ALICE);
+        // As if the JSON file were edited by hand
+        new JsonGastroBookStorage(filePath).saveGastroBook(editedBook);
+
+        assertEquals(editedBook, storage.readGastroBook().get());
+        assertEquals(editedBook, BinaryGastroBookFormat.read(binaryPath, SourceStamp.of(filePath)).get());
+    }
+
+    @Test
+    public void readGastroBook_binarySnapshotCorrupted_jsonRead() throws Exception {
+        GastroBook gastroBook = getTypicalGastroBook();
+        storage.saveGastroBook(gastroBook);
+        byte[] bytes = Files.readAllBytes(binaryPath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(binaryPath, bytes);
+
+        assertEquals(gastroBook, storage.readGastroBook().get());
+    }
+
+    @Test
+    public void saveGastroBook_tooManyTags_onlyJsonWritten() throws Exception {
+        GastroBook gastroBook = getTypicalGastroBook();
+        String[] tagNames = new String[BinaryGastroBookFormat.MAX_TAG_COUNT + 1];
+        for (int i = 0; i < tagNames.length; i++) {
+            tagNames[i] = "tag" + i;
+        }
+        gastroBook.addReservation(new ReservationBuilder().withName("Ida Mueller").withPhone("8482131")
+                .withTags(tagNames).build());
+
+        storage.saveGastroBook(gastroBook);
+
+        assertFalse(Files.exists(binaryPath));
+        assertEquals(gastroBook, storage.readGastroBook().get());
+    }
+
+    @Test
+    public void readGastroBook_noJsonFile_emptyResult() throws Exception {
+        storage.saveGastroBook(getTypicalGastroBook());
+        Files.delete(filePath);
+
+        assertFalse(storage.readGastroBook().isPresent());
+    }
+
+    @Test
+    public void readGastroBook_throughJournal_sameBook() throws Exception {
+        JournaledGastroBookStorage journaledStorage = new JournaledGastroBookStorage(storage);
+        GastroBook gastroBook = getTypicalGastroBook();
+        journaledStorage.saveGastroBook(gastroBook);
+        Reservation lunch = new ReservationBuilder().withName("Ida Mueller").withPhone("8482131").build();
+        gastroBook.addReservation(lunch);
+        journaledStorage.saveGastroBook(gastroBook);
+        journaledStorage.flushGastroBook();
+
+        assertEquals(gastroBook, new JournaledGastroBookStorage(storage).readGastroBook().get());
+    }
+}
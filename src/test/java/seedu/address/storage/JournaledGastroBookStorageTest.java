@@ -0,0 +1,190 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalReservations.ALICE;
+import static seedu.address.testutil.TypicalReservations.BENSON;
+import static seedu.address.testutil.TypicalReservations.getTypicalGastroBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.GastroBook;
+import seedu.address.model.ReadOnlyGastroBook;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.testutil.ReservationBuilder;
+
+public class JournaledGastroBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+    private GastroBook gastroBook;
+    private final Reservation ida = new ReservationBuilder().withName("Ida Mueller").withPhone("8482131").build();
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("gastroBook.json");
+        journalPath = JournaledGastroBookStorage.getJournalPath(filePath);
+        gastroBook = getTypicalGastroBook();
+    }
+
+    private ReadOnlyGastroBook read(Path path) throws Exception {
+        return new JournaledGastroBookStorage(path).readGastroBook().get();
+    }
+
+    /**
+     * Adds, edits and removes a reservation in {@code gastroBook}, saving to {@code storage} after each change.
+     */
+    private void changeAndSave(JournaledGastroBookStorage storage) throws Exception {
+        gastroBook.addReservation(ida);
+        storage.saveGastroBook(gastroBook);
+        gastroBook.setReservation(ALICE, new ReservationBuilder(ALICE).withPax("5").build());
+        storage.saveGastroBook(gastroBook);
+        gastroBook.removeReservation(BENSON);
+        storage.saveGastroBook(gastroBook);
+    }
+
+    @Test
+    public void saveGastroBook_changesAfterFirstSave_onlyAppendedToJournal() throws Exception {
+        JournaledGastroBookStorage storage = new JournaledGastroBookStorage(filePath);
+        storage.saveGastroBook(gastroBook);
+        String snapshot = Files.readString(filePath);
+        assertFalse(Files.exists(journalPath));
+
+        changeAndSave(storage);
+        storage.flushGastroBook();
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertEquals(gastroBook, read(filePath));
+    }
+
+    @Test
+    public void saveGastroBook_severalChangesInOneSave_eachJournaledInOrder() throws Exception {
+        JournaledGastroBookStorage storage = new JournaledGastroBookStorage(filePath);
+        storage.saveGastroBook(gastroBook);
+
+        Reservation editedIda = new ReservationBuilder(ida).withPax("6").build();
+        gastroBook.addReservation(ida);
+        gastroBook.setReservation(ida, editedIda);
+        gastroBook.removeReservation(ALICE);
+        storage.saveGastroBook(gastroBook);
+        storage.flushGastroBook();
+
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertEquals(gastroBook, read(filePath));
+    }
+
+    @Test
+    public void saveGastroBook_nothingChanged_journalNotWritten() throws Exception {
+        JournaledGastroBookStorage storage = new JournaledGastroBookStorage(filePath);
+        storage.saveGastroBook(gastroBook);
+        storage.saveGastroBook(gastroBook);
+
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void readGastroBook_journalReplayedTwice_sameBook() throws Exception {
+        JournaledGastroBookStorage storage = new JournaledGastroBookStorage(filePath);
+        storage.saveGastroBook(gastroBook);
+        changeAndSave(storage);
+        storage.flushGastroBook();
+
+        // As if a compaction had written its snapshot but not yet removed the journal it folded in
+        Files.copy(journalPath, filePath.resolveSibling(filePath.getFileName()
+                + JournaledGastroBookStorage.COMPACTING_JOURNAL_SUFFIX));
+        new JsonGastroBookStorage(filePath).saveGastroBook(gastroBook);
+
+        assertEquals(gastroBook, read(filePath));
+    }
+
+    @Test
+    public void readGastroBook_incompleteLastRecord_skipped() throws Exception {
+        JournaledGastroBookStorage storage = new JournaledGastroBookStorage(filePath);
+        storage.saveGastroBook(gastroBook);
+        changeAndSave(storage);
+        storage.flushGastroBook();
+
+        Files.write(journalPath, "{\"op\":\"put\",\"key\":".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(gastroBook, read(filePath));
+    }
+
+    @Test
+    public void saveGastroBook_journalReachesThreshold_foldedIntoSnapshot() throws Exception {
+        JournaledGastroBookStorage storage = new JournaledGastroBookStorage(filePath, 1, 2);
+        storage.saveGastroBook(gastroBook);
+        changeAndSave(storage);
+        storage.flushGastroBook();
+
+        assertFalse(Files.exists(filePath.resolveSibling(filePath.getFileName()
+                + JournaledGastroBookStorage.COMPACTING_JOURNAL_SUFFIX)));
+        // The first two changes were folded in, and only the last one is left in the journal
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        GastroBook expectedSnapshot = getTypicalGastroBook();
+        expectedSnapshot.addReservation(ida);
+        expectedSnapshot.setReservation(ALICE, new ReservationBuilder(ALICE).withPax("5").build());
+        assertEquals(expectedSnapshot, new JsonGastroBookStorage(filePath).readGastroBook().get());
+        assertEquals(gastroBook, read(filePath));
+    }
+
+    @Test
+    public void saveGastroBook_bookReset_writesSnapshot() throws Exception {
+        JournaledGastroBookStorage storage = new JournaledGastroBookStorage(filePath);
+        storage.saveGastroBook(gastroBook);
+        changeAndSave(storage);
+
+        gastroBook.resetData(new GastroBook());
+        storage.saveGastroBook(gastroBook);
+
+        assertFalse(Files.exists(journalPath));
+        assertTrue(read(filePath).getReservationList().isEmpty());
+    }
+
+    @Test
+    public void saveGastroBook_differentBook_writesSnapshot() throws Exception {
+        JournaledGastroBookStorage storage = new JournaledGastroBookStorage(filePath);
+        storage.saveGastroBook(gastroBook);
+        changeAndSave(storage);
+
+        GastroBook otherBook = new GastroBook();
+        Reservation reservation = new ReservationBuilder().build();
+        otherBook.addReservation(reservation);
+        storage.saveGastroBook(otherBook);
+        // Changes to the book saved earlier are no longer recorded
+        gastroBook.removeReservation(ALICE);
+        storage.saveGastroBook(otherBook);
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(otherBook, read(filePath));
+    }
+
+    @Test
+    public void saveGastroBook_afterRead_appendsToJournal() throws Exception {
+        JournaledGastroBookStorage storage = new JournaledGastroBookStorage(filePath);
+        storage.saveGastroBook(gastroBook);
+        changeAndSave(storage);
+        storage.flushGastroBook();
+
+        JournaledGastroBookStorage reopenedStorage = new JournaledGastroBookStorage(filePath);
+        gastroBook = new GastroBook(reopenedStorage.readGastroBook().get());
+        gastroBook.removeReservation(gastroBook.getReservationList().get(0));
+        reopenedStorage.saveGastroBook(gastroBook);
+        reopenedStorage.flushGastroBook();
+
+        assertEquals(4, Files.readAllLines(journalPath).size());
+        assertEquals(gastroBook, read(filePath));
+    }
+}
@@ -1,5 +1,118 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalReservations.ALICE;
+import static seedu.address.testutil.TypicalReservations.getTypicalGastroBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.GastroBook;
+
 public class JsonGastroBookStorageTest {
 
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readGastroBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonGastroBookStorage(testFolder.resolve("missing.json")).readGastroBook().isPresent());
+    }
+
+    @Test
+    public void readGastroBook_notJsonFormat_exceptionThrown() {
+        JsonGastroBookStorage storage = new JsonGastroBookStorage(
+                TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json"));
+        assertThrows(DataLoadingException.class, storage::readGastroBook);
+    }
+
+    @Test
+    public void readGastroBook_invalidReservation_exceptionThrown() {
+        JsonGastroBookStorage storage = new JsonGastroBookStorage(
+                TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json"));
+        assertThrows(DataLoadingException.class, storage::readGastroBook);
+    }
+
+    @Test
+    public void readGastroBook_duplicateReservation_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("duplicate.json");
+        String reservation = JsonUtil.toJsonLine(new JsonAdaptedReservation(ALICE));
+        Files.writeString(filePath, "{\"persons\":[" + reservation + "," + reservation + "]}");
+
+        assertThrows(DataLoadingException.class, () -> new JsonGastroBookStorage(filePath).readGastroBook());
+    }
+
+    @Test
+    public void readGastroBook_otherFieldsAndNoReservations_emptyBook() throws Exception {
+        Path filePath = testFolder.resolve("empty.json");
+        Files.writeString(filePath, "{\"_comment\":{\"persons\":[1]},\"other\":[1,2]}");
+
+        assertEquals(new GastroBook(), new JsonGastroBookStorage(filePath).readGastroBook().get());
+    }
+
+    @Test
+    public void saveGastroBook_thenRead_sameBook() throws Exception {
+        Path filePath = testFolder.resolve("gastroBook.json");
+        JsonGastroBookStorage storage = new JsonGastroBookStorage(filePath);
+        GastroBook original = getTypicalGastroBook();
+
+        storage.saveGastroBook(original);
+        assertEquals(original, storage.readGastroBook().get());
+
+        original.removeReservation(ALICE);
+        storage.saveGastroBook(original);
+        assertEquals(original, storage.readGastroBook().get());
+    }
+
+    @Test
+    public void saveGastroBook_streamed_sameFileAsWholeDocument() throws Exception {
+        Path filePath = testFolder.resolve("gastroBook.json");
+        GastroBook gastroBook = getTypicalGastroBook();
+        new JsonGastroBookStorage(filePath).saveGastroBook(gastroBook);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableGastroBook(gastroBook)), Files.readString(filePath));
+    }
+
+    @Test
+    public void readGastroBook_unreadableFile_readsEarlierVersion() throws Exception {
+        Path filePath = testFolder.resolve("gastroBook.json");
+        JsonGastroBookStorage storage = new JsonGastroBookStorage(filePath);
+        GastroBook original = getTypicalGastroBook();
+        storage.saveGastroBook(original);
+        storage.saveGastroBook(new GastroBook());
+
+        Files.writeString(filePath, "{ \"persons\": [ {");
+        assertEquals(original, storage.readGastroBook().get());
+
+        Files.writeString(FileUtil.getBackupPath(filePath, 1), "not json");
+        Files.delete(filePath);
+        assertThrows(DataLoadingException.class, storage::readGastroBook);
+    }
+
+    @Test
+    public void saveGastroBook_compact_sameBookInSmallerFile() throws Exception {
+        Path prettyFilePath = testFolder.resolve("pretty.json");
+        Path compactFilePath = testFolder.resolve("compact.json");
+        GastroBook gastroBook = getTypicalGastroBook();
+        new JsonGastroBookStorage(prettyFilePath).saveGastroBook(gastroBook);
+        JsonGastroBookStorage compactStorage = new JsonGastroBookStorage(compactFilePath, false, true);
+        compactStorage.saveGastroBook(gastroBook);
+
+        assertEquals(JsonUtil.toJsonLine(new JsonSerializableGastroBook(gastroBook)),
+                Files.readString(compactFilePath));
+        assertTrue(Files.size(compactFilePath) < Files.size(prettyFilePath));
+        assertEquals(gastroBook, compactStorage.readGastroBook().get());
+    }
 }
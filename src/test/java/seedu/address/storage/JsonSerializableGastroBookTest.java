@@ -1,13 +1,21 @@
 package seedu.address.storage;
 
-//import static seedu.address.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
-//import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.GastroBook;
+import seedu.address.model.reservation.Phone;
+import seedu.address.model.reservation.StartDate;
+import seedu.address.model.reservation.StartTime;
 //import seedu.address.commons.util.JsonUtil;
 
 public class JsonSerializableGastroBookTest {
@@ -45,4 +53,53 @@ public class JsonSerializableGastroBookTest {
 
          */
     }
+
+    /**
+     * Returns {@code count} valid reservations with distinct ids, spread over past days.
+     */
+    private static List<JsonAdaptedReservation> createReservations(int count) {
+        long today = LocalDate.now().toEpochDay();
+        List<JsonAdaptedReservation> reservations = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String date = StartDate.ofEpochDay(today - i / 100).value;
+            String phone = String.valueOf(80000000 + i % 100);
+            String time = StartTime.ofMinuteOfDay(i % 100 * 10).value;
+            reservations.add(new JsonAdaptedReservation("Guest " + i, phone, date, time, "1", "2", "A1", "",
+                    List.of(), date.replace("/", "") + phone.substring(4) + time, false));
+        }
+        return reservations;
+    }
+
+    @Test
+    public void toModelType_parallel_sameAsSerial() throws Exception {
+        JsonSerializableGastroBook jsonGastroBook = new JsonSerializableGastroBook(createReservations(5000));
+        GastroBook serialBook = jsonGastroBook.toModelType(false);
+        GastroBook parallelBook = jsonGastroBook.toModelType(true);
+
+        assertEquals(5000, parallelBook.getReservationList().size());
+        assertEquals(serialBook, parallelBook);
+    }
+
+    @Test
+    public void convertAll_parallelWithInvalidReservations_firstErrorThrown() {
+        List<JsonAdaptedReservation> reservations = createReservations(5000);
+        reservations.set(1000, new JsonAdaptedReservation("Guest", "8", "01/01/2025", "1200", "1", "2",
+                "A1", "", List.of(), "", false));
+        reservations.set(4000, new JsonAdaptedReservation("Guest", "80000000", "01/01/2025", "1200", "5h", "2",
+                "A1", "", List.of(), "", false));
+
+        for (int i = 0; i < 5; i++) {
+            assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                    JsonSerializableGastroBook.convertAll(reservations, true));
+        }
+    }
+
+    @Test
+    public void toModelType_parallelWithDuplicates_throwsIllegalValueException() {
+        List<JsonAdaptedReservation> reservations = createReservations(3000);
+        reservations.add(reservations.get(1234));
+
+        assertThrows(IllegalValueException.class, JsonSerializableGastroBook.MESSAGE_DUPLICATE_PERSON, () ->
+                new JsonSerializableGastroBook(reservations).toModelType(true));
+    }
 }
@@ -0,0 +1,220 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalReservations.ALICE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.GastroBook;
+import seedu.address.model.ReadOnlyGastroBook;
+import seedu.address.model.reservation.Duration;
+import seedu.address.model.reservation.Identification;
+import seedu.address.model.reservation.Name;
+import seedu.address.model.reservation.Pax;
+import seedu.address.model.reservation.Person;
+import seedu.address.model.reservation.Phone;
+import seedu.address.model.reservation.Remark;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.StartDate;
+import seedu.address.model.reservation.StartTime;
+import seedu.address.model.reservation.Table;
+
+public class PartitionedGastroBookStorageTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final LocalDate TWO_MONTHS_AGO = TODAY.minusMonths(2);
+    private static final LocalDate LAST_YEAR = TODAY.minusYears(1);
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private List<Path> savedPaths;
+    private boolean isWriteFailing;
+    private PartitionedGastroBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("gastroBook.json");
+        savedPaths = new ArrayList<>();
+        storage = createStorage();
+    }
+
+    @Test
+    public void readGastroBook_noData_emptyResult() throws Exception {
+        assertFalse(storage.readGastroBook().isPresent());
+        assertEquals(LocalDate.MIN, storage.getLoadedFrom());
+    }
+
+    @Test
+    public void readGastroBook_pastMonths_onlyCountedUntilLoaded() throws Exception {
+        Reservation pastAlice = reservationOn(LAST_YEAR, "Alice Pauline", "94351253");
+        Reservation otherPastAlice = reservationOn(TWO_MONTHS_AGO, "Alice Tan", "94351253");
+        Reservation pastBenson = reservationOn(TWO_MONTHS_AGO, "Benson Meier", "98765432");
+        storage.saveGastroBook(bookOf(pastAlice, otherPastAlice, pastBenson, ALICE));
+        assertTrue(Files.exists(PartitionedGastroBookStorage.getPartitionPath(filePath, YearMonth.from(LAST_YEAR))));
+
+        PartitionedGastroBookStorage readStorage = createStorage();
+        assertEquals(bookOf(ALICE), readStorage.readGastroBook().get());
+        assertEquals(YearMonth.now().atDay(1), readStorage.getLoadedFrom());
+
+        List<Person> bookingCounts = readStorage.getBookingCounts();
+        assertEquals(2, bookingCounts.size());
+        assertEquals("Alice Tan", bookingCounts.get(0).getName().getFullName());
+        assertEquals(2, bookingCounts.get(0).getCounter());
+        assertEquals(1, bookingCounts.get(1).getCounter());
+
+        assertEquals(List.of(pastAlice, otherPastAlice, pastBenson), readStorage.load());
+        assertEquals(LocalDate.MIN, readStorage.getLoadedFrom());
+        assertTrue(readStorage.getBookingCounts().isEmpty());
+    }
+
+    @Test
+    public void readGastroBook_indexMissing_countedFromPartitions() throws Exception {
+        storage.saveGastroBook(bookOf(reservationOn(TWO_MONTHS_AGO, "Benson Meier", "98765432"), ALICE));
+        Files.delete(PartitionedGastroBookStorage.getPartitionFolder(filePath)
+                .resolve(PartitionedGastroBookStorage.INDEX_FILE_NAME));
+
+        PartitionedGastroBookStorage readStorage = createStorage();
+        readStorage.readGastroBook();
+        assertEquals(1, readStorage.getBookingCounts().size());
+        assertTrue(Files.exists(PartitionedGastroBookStorage.getPartitionFolder(filePath)
+                .resolve(PartitionedGastroBookStorage.INDEX_FILE_NAME)));
+    }
+
+    @Test
+    public void saveGastroBook_oneMonthChanged_onlyThatMonthWritten() throws Exception {
+        Reservation past = reservationOn(TWO_MONTHS_AGO, "Benson Meier", "98765432");
+        GastroBook gastroBook = bookOf(past, ALICE);
+        storage.saveGastroBook(gastroBook);
+        assertEquals(2, savedPaths.size());
+        savedPaths.clear();
+
+        storage.saveGastroBook(gastroBook);
+        assertTrue(savedPaths.isEmpty());
+
+        gastroBook.removeReservation(ALICE);
+        storage.saveGastroBook(gastroBook);
+        assertEquals(List.of(PartitionedGastroBookStorage.getPartitionPath(filePath, YearMonth.now())),
+                savedPaths);
+    }
+
+    @Test
+    public void saveGastroBook_reservationMovedToAnotherMonth_bothMonthsWritten() throws Exception {
+        Reservation past = reservationOn(TWO_MONTHS_AGO, "Benson Meier", "98765432");
+        GastroBook gastroBook = bookOf(past, ALICE);
+        storage.saveGastroBook(gastroBook);
+        savedPaths.clear();
+
+        Reservation moved = reservationOn(LAST_YEAR, "Benson Meier", "98765432");
+        gastroBook.setReservation(past, moved);
+        storage.saveGastroBook(gastroBook);
+
+        assertEquals(List.of(PartitionedGastroBookStorage.getPartitionPath(filePath, YearMonth.from(LAST_YEAR)),
+                PartitionedGastroBookStorage.getPartitionPath(filePath, YearMonth.from(TWO_MONTHS_AGO))),
+                savedPaths);
+        assertEquals(bookOf(moved, ALICE), readAll());
+    }
+
+    @Test
+    public void saveGastroBook_writeFailed_monthWrittenByNextSave() throws Exception {
+        GastroBook gastroBook = bookOf(ALICE);
+        storage.saveGastroBook(gastroBook);
+
+        isWriteFailing = true;
+        gastroBook.removeReservation(ALICE);
+        assertThrows(IOException.class, () -> storage.saveGastroBook(gastroBook));
+
+        isWriteFailing = false;
+        storage.saveGastroBook(gastroBook);
+        assertTrue(createStorage().readGastroBook().get().getReservationList().isEmpty());
+    }
+
+    @Test
+    public void saveGastroBook_historyNotLoaded_pastMonthsKept() throws Exception {
+        Reservation past = reservationOn(TWO_MONTHS_AGO, "Benson Meier", "98765432");
+        storage.saveGastroBook(bookOf(past, ALICE));
+
+        PartitionedGastroBookStorage readStorage = createStorage();
+        GastroBook activeMonths = new GastroBook(readStorage.readGastroBook().get());
+        activeMonths.removeReservation(ALICE);
+        savedPaths.clear();
+        readStorage.saveGastroBook(activeMonths);
+        assertEquals(List.of(PartitionedGastroBookStorage.getPartitionPath(filePath, YearMonth.now())),
+                savedPaths);
+
+        assertEquals(bookOf(past), readAll());
+    }
+
+    @Test
+    public void readGastroBook_unpartitionedFile_readInFullThenSplit() throws Exception {
+        Reservation past = reservationOn(LAST_YEAR, "Benson Meier", "98765432");
+        GastroBook gastroBook = bookOf(past, ALICE);
+        new JsonGastroBookStorage(filePath).saveGastroBook(gastroBook);
+
+        assertEquals(gastroBook, storage.readGastroBook().get());
+        assertEquals(LocalDate.MIN, storage.getLoadedFrom());
+
+        storage.saveGastroBook(gastroBook);
+        assertTrue(Files.exists(PartitionedGastroBookStorage.getPartitionPath(filePath, YearMonth.from(LAST_YEAR))));
+        assertEquals(gastroBook, readAll());
+
+        // The old file is no longer read, so it is moved out of the way
+        assertFalse(Files.exists(filePath));
+        assertTrue(Files.exists(filePath.resolveSibling(filePath.getFileName()
+                + PartitionedGastroBookStorage.MIGRATED_SUFFIX)));
+    }
+
+    private PartitionedGastroBookStorage createStorage() {
+        return new PartitionedGastroBookStorage(filePath, path -> new JsonGastroBookStorage(path) {
+            @Override
+            public void saveGastroBook(ReadOnlyGastroBook gastroBook, Path savePath) throws IOException {
+                if (isWriteFailing) {
+                    throw new IOException("disk full");
+                }
+                savedPaths.add(savePath);
+                super.saveGastroBook(gastroBook, savePath);
+            }
+        });
+    }
+
+    /**
+     * Returns every reservation in the book at {@code filePath}, past ones first.
+     */
+    private GastroBook readAll() throws Exception {
+        PartitionedGastroBookStorage readStorage = createStorage();
+        List<Reservation> reservations = new ArrayList<>(readStorage.readGastroBook().get().getReservationList());
+        reservations.addAll(0, readStorage.load());
+        GastroBook gastroBook = new GastroBook();
+        gastroBook.setReservations(reservations);
+        return gastroBook;
+    }
+
+    private static GastroBook bookOf(Reservation... reservations) {
+        GastroBook gastroBook = new GastroBook();
+        gastroBook.setReservations(List.of(reservations));
+        return gastroBook;
+    }
+
+    private static Reservation reservationOn(LocalDate day, String name, String phoneNumber) {
+        StartDate date = StartDate.ofEpochDay(day.toEpochDay());
+        Phone phone = new Phone(phoneNumber);
+        StartTime time = new StartTime("1800");
+        return new Reservation(new Name(name), phone, date, time, new Duration("1.5"), new Pax("4"), new Table("A1"),
+                new Remark(""), Set.of(), new Identification(date, phone, time), false);
+    }
+}